@@ -112,6 +112,21 @@ public abstract class ClientLogger {
 		}
 	}
 
+	/**
+	 * Log a raw HTTP response along with the body. The body supplier is only called when logging is enabled.
+	 *
+	 * @param logId the correlation Id, see {@link #newLogId()}.
+	 * @param statusCode the HTTP status code.
+	 * @param body body content supplier.
+	 * @since 4.2
+	 */
+	public static void logResponse(String logId, HttpStatus statusCode, Supplier<Object> body) {
+
+		if (isEnabled()) {
+			WIRE_LOGGER.trace("[{}] Received response: {}{}Response body: {}", logId, statusCode, lineSeparator, body.get());
+		}
+	}
+
 	/**
 	 * Creates a new, unique correlation Id to improve tracing across log events.
 	 *
@@ -28,20 +28,26 @@ import reactor.netty.http.client.HttpClient;
 import reactor.netty.transport.ProxyProvider;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.net.ConnectException;
 import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import javax.net.ssl.SSLContext;
 
+import org.apache.http.HttpEntity;
 import org.apache.http.util.EntityUtils;
 import org.elasticsearch.ElasticsearchException;
 import org.elasticsearch.ElasticsearchStatusException;
@@ -99,6 +105,8 @@ import org.elasticsearch.search.SearchHits;
 import org.elasticsearch.search.aggregations.Aggregation;
 import org.elasticsearch.search.suggest.Suggest;
 import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
 import org.springframework.data.elasticsearch.client.ClientConfiguration;
 import org.springframework.data.elasticsearch.client.ClientLogger;
@@ -107,18 +115,22 @@ import org.springframework.data.elasticsearch.client.NoReachableHostException;
 import org.springframework.data.elasticsearch.client.reactive.HostProvider.Verification;
 import org.springframework.data.elasticsearch.client.reactive.ReactiveElasticsearchClient.Indices;
 import org.springframework.data.elasticsearch.client.util.NamedXContents;
+import org.springframework.data.elasticsearch.client.util.OpenPointInTimeResponse;
+import org.springframework.data.elasticsearch.client.util.RequestConverters;
 import org.springframework.data.elasticsearch.client.util.ScrollState;
 import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
 import org.springframework.data.util.Lazy;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.BodyInserter;
 import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -144,8 +156,13 @@ import org.springframework.web.reactive.function.client.WebClient.RequestBodySpe
  */
 public class DefaultReactiveElasticsearchClient implements ReactiveElasticsearchClient, Indices {
 
+	private static final int REQUEST_BODY_CHUNK_SIZE = 64 * 1024;
+	private static final NamedXContentRegistry NAMED_X_CONTENT_REGISTRY = new NamedXContentRegistry(
+			NamedXContents.getDefaultNamedXContents());
+
 	private final HostProvider<?> hostProvider;
 	private final RequestCreator requestCreator;
+	private final Map<Class<?>, ResponseDecoder> responseDecoders = new ConcurrentHashMap<>();
 	private Supplier<HttpHeaders> headersSupplier = () -> HttpHeaders.EMPTY;
 
 	/**
@@ -489,6 +506,56 @@ public class DefaultReactiveElasticsearchClient implements ReactiveElasticsearch
 				.flatMapIterable(Function.identity()); //
 	}
 
+	@Override
+	public Flux<SearchHit> searchWithPointInTime(HttpHeaders headers, SearchRequest searchRequest, TimeValue keepAlive) {
+
+		// the id of the point in time may change with every search, the state holds the latest one
+		Mono<ScrollState> openPointInTime = sendRequest(
+				RequestConverters.openPointInTime(searchRequest.indices(), keepAlive), OpenPointInTimeResponse.class, headers) //
+						.next() //
+						.map(response -> new ScrollState(response.getId()));
+
+		return Flux.usingWhen(openPointInTime,
+				state -> searchWithPointInTime(headers, searchRequest, state.getScrollId(), keepAlive, null)
+						.expand(searchResponse -> {
+
+							state.updateScrollId(searchResponse.pointInTimeId());
+
+							SearchHit[] hits = searchResponse.getHits().getHits();
+							if (hits.length == 0) {
+								return Mono.empty();
+							}
+
+							return searchWithPointInTime(headers, searchRequest, state.getScrollId(), keepAlive,
+									hits[hits.length - 1].getSortValues());
+						}),
+				state -> closePointInTime(headers, state), //
+				(state, ex) -> closePointInTime(headers, state), //
+				state -> closePointInTime(headers, state)) //
+				.filter(it -> !isEmpty(it.getHits())) //
+				.map(SearchResponse::getHits) //
+				.flatMapIterable(Function.identity());
+	}
+
+	private Mono<SearchResponse> searchWithPointInTime(HttpHeaders headers, SearchRequest searchRequest,
+			String pointInTimeId, TimeValue keepAlive, @Nullable Object[] searchAfter) {
+		return sendRequest(
+				RequestConverters.searchWithPointInTime(searchRequest, pointInTimeId, keepAlive, searchAfter),
+				SearchResponse.class, headers).next();
+	}
+
+	private Publisher<?> closePointInTime(HttpHeaders headers, ScrollState state) {
+
+		String pointInTimeId = state.getScrollId();
+
+		if (pointInTimeId == null) {
+			return Mono.empty();
+		}
+
+		// just send the request, resources get cleaned up anyways after the keep alive has been reached.
+		return sendRequest(RequestConverters.closePointInTime(pointInTimeId), ClearScrollResponse.class, headers);
+	}
+
 	private static boolean isEmpty(@Nullable SearchHits hits) {
 		return hits != null && hits.getHits() != null && hits.getHits().length == 0;
 	}
@@ -622,13 +689,19 @@ public class DefaultReactiveElasticsearchClient implements ReactiveElasticsearch
 
 		if (request.getEntity() != null) {
 
+			HttpEntity entity = request.getEntity();
 			Lazy<String> body = bodyExtractor(request);
 
 			ClientLogger.logRequest(logId, request.getMethod().toUpperCase(), request.getEndpoint(), request.getParameters(),
 					body::get);
 
-			requestBodySpec.contentType(MediaType.valueOf(request.getEntity().getContentType().getValue()));
-			requestBodySpec.body(Mono.fromSupplier(body), String.class);
+			requestBodySpec.contentType(MediaType.valueOf(entity.getContentType().getValue()));
+
+			if (entity.getContentLength() >= 0) {
+				requestBodySpec.contentLength(entity.getContentLength());
+			}
+
+			requestBodySpec.body(bodyInserter(entity));
 		} else {
 			ClientLogger.logRequest(logId, request.getMethod().toUpperCase(), request.getEndpoint(), request.getParameters());
 		}
@@ -814,44 +887,126 @@ public class DefaultReactiveElasticsearchClient implements ReactiveElasticsearch
 			return handleClientError(logId, response, responseType);
 		}
 
-		return response.body(BodyExtractors.toMono(byte[].class)) //
-				.map(it -> new String(it, StandardCharsets.UTF_8)) //
-				.doOnNext(it -> ClientLogger.logResponse(logId, response.statusCode(), it)) //
-				.flatMap(content -> doDecode(response, responseType, content));
+		// the (possibly composite) buffer is handed to the parser as InputStream, no intermediate byte[] or String
+		return DataBufferUtils.join(response.body(BodyExtractors.toDataBuffers())) //
+				.flatMap(content -> {
+
+					try {
+						ClientLogger.logResponse(logId, response.statusCode(), () -> content.toString(StandardCharsets.UTF_8));
+						return doDecode(response, responseType, content);
+					} finally {
+						DataBufferUtils.release(content);
+					}
+				});
+	}
+
+	private <T> Mono<T> doDecode(ClientResponse response, Class<T> responseType, String content) {
+		return doDecode(response, responseType, mediaType -> createParser(mediaType, content), () -> content);
+	}
+
+	private <T> Mono<T> doDecode(ClientResponse response, Class<T> responseType, DataBuffer content) {
+
+		int readPosition = content.readPosition();
+
+		return doDecode(response, responseType, mediaType -> {
+
+			// rewind, the buffer may already have been consumed by a failed parse attempt
+			content.readPosition(readPosition);
+			return createParser(mediaType, content.asInputStream());
+		}, () -> content.toString(readPosition, content.writePosition() - readPosition, StandardCharsets.UTF_8));
 	}
 
-	private static <T> Mono<T> doDecode(ClientResponse response, Class<T> responseType, String content) {
+	private <T> Mono<T> doDecode(ClientResponse response, Class<T> responseType, ParserFactory parserFactory,
+			Supplier<String> content) {
 
 		String mediaType = response.headers().contentType().map(MediaType::toString).orElse(XContentType.JSON.mediaType());
 
 		try {
 
-			Method fromXContent = ReflectionUtils.findMethod(responseType, "fromXContent", XContentParser.class);
+			ResponseDecoder decoder = responseDecoders.computeIfAbsent(responseType,
+					DefaultReactiveElasticsearchClient::createResponseDecoder);
 
-			if (fromXContent == null) {
+			if (decoder == null) {
 				return Mono.error(new UncategorizedElasticsearchException(
 						"No method named fromXContent found in " + responseType.getCanonicalName()));
 			}
-			return Mono.justOrEmpty(responseType
-					.cast(ReflectionUtils.invokeMethod(fromXContent, responseType, createParser(mediaType, content))));
+			return Mono.justOrEmpty(responseType.cast(decoder.decode(parserFactory.createParser(mediaType))));
 
 		} catch (Throwable errorParseFailure) { // cause elasticsearch also uses AssertionError
 
 			try {
-				return Mono.error(BytesRestResponse.errorFromXContent(createParser(mediaType, content)));
+				return Mono.error(BytesRestResponse.errorFromXContent(parserFactory.createParser(mediaType)));
 			} catch (Exception e) {
 
-				return Mono
-						.error(new ElasticsearchStatusException(content, RestStatus.fromCode(response.statusCode().value())));
+				return Mono.error(
+						new ElasticsearchStatusException(content.get(), RestStatus.fromCode(response.statusCode().value())));
 			}
 		}
 	}
 
+	/**
+	 * Resolves the static {@code fromXContent(XContentParser)} factory method of the given response type once and
+	 * returns a {@link ResponseDecoder} invoking it.
+	 *
+	 * @param responseType the response type
+	 * @return the decoder or {@literal null} if the response type has no {@code fromXContent} method.
+	 */
+	@Nullable
+	private static ResponseDecoder createResponseDecoder(Class<?> responseType) {
+
+		Method fromXContent = ReflectionUtils.findMethod(responseType, "fromXContent", XContentParser.class);
+
+		if (fromXContent == null) {
+			return null;
+		}
+
+		try {
+			MethodHandle methodHandle = MethodHandles.publicLookup().unreflect(fromXContent);
+			return parser -> methodHandle.invoke(parser);
+		} catch (IllegalAccessException e) {
+			ReflectionUtils.makeAccessible(fromXContent);
+			return parser -> ReflectionUtils.invokeMethod(fromXContent, null, parser);
+		}
+	}
+
 	private static XContentParser createParser(String mediaType, String content) throws IOException {
 		return XContentType.fromMediaTypeOrFormat(mediaType) //
 				.xContent() //
-				.createParser(new NamedXContentRegistry(NamedXContents.getDefaultNamedXContents()),
-						DeprecationHandler.THROW_UNSUPPORTED_OPERATION, content);
+				.createParser(NAMED_X_CONTENT_REGISTRY, DeprecationHandler.THROW_UNSUPPORTED_OPERATION, content);
+	}
+
+	private static XContentParser createParser(String mediaType, InputStream content) throws IOException {
+		return XContentType.fromMediaTypeOrFormat(mediaType) //
+				.xContent() //
+				.createParser(NAMED_X_CONTENT_REGISTRY, DeprecationHandler.THROW_UNSUPPORTED_OPERATION, content);
+	}
+
+	private static Mono<String> readBodyAsString(ClientResponse response) {
+
+		return DataBufferUtils.join(response.body(BodyExtractors.toDataBuffers())) //
+				.map(buffer -> {
+
+					try {
+						return buffer.toString(StandardCharsets.UTF_8);
+					} finally {
+						DataBufferUtils.release(buffer);
+					}
+				});
+	}
+
+	/**
+	 * Creates a {@link BodyInserter} that copies the entity content directly into {@link DataBuffer}s of the connection's
+	 * buffer factory, chunked by {@link #REQUEST_BODY_CHUNK_SIZE}, so that a large (bulk) request body is not
+	 * additionally materialized as {@link String}.
+	 *
+	 * @param entity the request entity
+	 * @return the inserter
+	 */
+	private static BodyInserter<HttpEntity, ReactiveHttpOutputMessage> bodyInserter(HttpEntity entity) {
+
+		return (outputMessage, context) -> outputMessage.writeWith( //
+				DataBufferUtils.readInputStream(entity::getContent, outputMessage.bufferFactory(), REQUEST_BODY_CHUNK_SIZE) //
+						.onErrorMap(IOException.class, e -> new RequestBodyEncodingException("Error encoding request", e)));
 	}
 
 	private Lazy<String> bodyExtractor(Request request) {
@@ -874,11 +1029,10 @@ public class DefaultReactiveElasticsearchClient implements ReactiveElasticsearch
 		RestStatus status = RestStatus.fromCode(statusCode);
 		String mediaType = response.headers().contentType().map(MediaType::toString).orElse(XContentType.JSON.mediaType());
 
-		return response.body(BodyExtractors.toMono(byte[].class)) //
+		return readBodyAsString(response) //
 				.switchIfEmpty(Mono.error(
 						new ElasticsearchStatusException(String.format("%s request to %s returned error code %s and no body.",
 								request.getMethod(), request.getEndpoint(), statusCode), status)))
-				.map(bytes -> new String(bytes, StandardCharsets.UTF_8)) //
 				.flatMap(content -> contentOrError(content, mediaType, status))
 				.flatMap(unused -> Mono
 						.error(new ElasticsearchStatusException(String.format("%s request to %s returned error code %s.",
@@ -891,8 +1045,7 @@ public class DefaultReactiveElasticsearchClient implements ReactiveElasticsearch
 		RestStatus status = RestStatus.fromCode(statusCode);
 		String mediaType = response.headers().contentType().map(MediaType::toString).orElse(XContentType.JSON.mediaType());
 
-		return response.body(BodyExtractors.toMono(byte[].class)) //
-				.map(bytes -> new String(bytes, StandardCharsets.UTF_8)) //
+		return readBodyAsString(response) //
 				.flatMap(content -> contentOrError(content, mediaType, status)) //
 				.doOnNext(content -> ClientLogger.logResponse(logId, response.statusCode(), content)) //
 				.flatMap(content -> doDecode(response, responseType, content));
@@ -961,6 +1114,23 @@ public class DefaultReactiveElasticsearchClient implements ReactiveElasticsearch
 	// endregion
 
 	// region internal classes
+	/**
+	 * Creates a {@link XContentParser} for the response content, may be called more than once for the same content.
+	 */
+	@FunctionalInterface
+	private interface ParserFactory {
+		XContentParser createParser(String mediaType) throws IOException;
+	}
+
+	/**
+	 * Creates a response object from a {@link XContentParser}, resolved once per response type.
+	 */
+	@FunctionalInterface
+	private interface ResponseDecoder {
+		@Nullable
+		Object decode(XContentParser parser) throws Throwable;
+	}
+
 	/**
 	 * Reactive client {@link ReactiveElasticsearchClient.Status} implementation.
 	 *
@@ -48,6 +48,7 @@ import org.elasticsearch.action.update.UpdateRequest;
 import org.elasticsearch.action.update.UpdateResponse;
 import org.elasticsearch.client.GetAliasesResponse;
 import org.elasticsearch.client.indices.*;
+import org.elasticsearch.common.unit.TimeValue;
 import org.elasticsearch.index.get.GetResult;
 import org.elasticsearch.index.reindex.BulkByScrollResponse;
 import org.elasticsearch.index.reindex.DeleteByQueryRequest;
@@ -589,6 +590,37 @@ public interface ReactiveElasticsearchClient {
 	 */
 	Flux<SearchHit> scroll(HttpHeaders headers, SearchRequest searchRequest);
 
+	/**
+	 * Execute the given {@link SearchRequest} against a point in time, paging through all results with
+	 * {@literal search_after}.
+	 *
+	 * @param searchRequest must not be {@literal null}, must define a sort that uniquely identifies the hits.
+	 * @param keepAlive how long the point in time is kept alive between two requests, must not be {@literal null}.
+	 * @see <a href="https://www.elastic.co/guide/en/elasticsearch/reference/current/point-in-time-api.html">Point in time
+	 *      API on elastic.co</a>
+	 * @return the {@link Flux} emitting {@link SearchHit hits} one by one.
+	 * @since 4.2
+	 */
+	default Flux<SearchHit> searchWithPointInTime(SearchRequest searchRequest, TimeValue keepAlive) {
+		return searchWithPointInTime(HttpHeaders.EMPTY, searchRequest, keepAlive);
+	}
+
+	/**
+	 * Execute the given {@link SearchRequest} against a point in time, paging through all results with
+	 * {@literal search_after}. <br />
+	 * The point in time is opened for the indices of the request when the returned {@link Flux} is subscribed and closed
+	 * on completion, error or cancellation.
+	 *
+	 * @param headers Use {@link HttpHeaders} to provide eg. authentication data. Must not be {@literal null}.
+	 * @param searchRequest must not be {@literal null}, must define a sort that uniquely identifies the hits.
+	 * @param keepAlive how long the point in time is kept alive between two requests, must not be {@literal null}.
+	 * @see <a href="https://www.elastic.co/guide/en/elasticsearch/reference/current/point-in-time-api.html">Point in time
+	 *      API on elastic.co</a>
+	 * @return the {@link Flux} emitting {@link SearchHit hits} one by one.
+	 * @since 4.2
+	 */
+	Flux<SearchHit> searchWithPointInTime(HttpHeaders headers, SearchRequest searchRequest, TimeValue keepAlive);
+
 	/**
 	 * Execute a {@link DeleteByQueryRequest} against the {@literal delete by query} API.
 	 *
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.util;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.elasticsearch.common.xcontent.XContentParser;
+import org.springframework.util.Assert;
+
+/**
+ * Response of a request to open a point in time, created by
+ * {@link RequestConverters#openPointInTime(String[], org.elasticsearch.common.unit.TimeValue)}.
+ *
+ * @since 4.2
+ */
+public final class OpenPointInTimeResponse {
+
+	private final String id;
+
+	public OpenPointInTimeResponse(String id) {
+
+		Assert.hasText(id, "id must not be empty");
+
+		this.id = id;
+	}
+
+	/**
+	 * @return the id of the opened point in time
+	 */
+	public String getId() {
+		return id;
+	}
+
+	public static OpenPointInTimeResponse fromXContent(XContentParser parser) throws IOException {
+
+		Map<String, Object> map = parser.map();
+		Object id = map.get("id");
+
+		if (!(id instanceof String)) {
+			throw new IOException("response does not contain a point in time id");
+		}
+
+		return new OpenPointInTimeResponse((String) id);
+	}
+}
@@ -17,11 +17,15 @@ package org.springframework.data.elasticsearch.client.util;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.StringJoiner;
 
 import org.apache.http.HttpEntity;
@@ -483,6 +487,91 @@ public class RequestConverters {
 		return request;
 	}
 
+	/**
+	 * Creates a request to open a point in time.
+	 *
+	 * @param indices the indices to open the point in time for
+	 * @param keepAlive how long the point in time should be kept alive
+	 * @return the request
+	 * @since 4.2
+	 */
+	public static Request openPointInTime(String[] indices, TimeValue keepAlive) {
+
+		Request request = new Request(HttpMethod.POST.name(), endpoint(indices, "_pit"));
+		new Params(request).putParam("keep_alive", keepAlive);
+		return request;
+	}
+
+	/**
+	 * Creates a request to close a point in time.
+	 *
+	 * @param pointInTimeId the id of the point in time
+	 * @return the request
+	 * @since 4.2
+	 */
+	public static Request closePointInTime(String pointInTimeId) {
+
+		Request request = new Request(HttpMethod.DELETE.name(), "/_pit");
+
+		try (XContentBuilder builder = XContentBuilder.builder(REQUEST_BODY_CONTENT_TYPE.xContent())) {
+			builder.startObject().field("id", pointInTimeId).endObject();
+			request.setEntity(createEntity(builder));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		return request;
+	}
+
+	/**
+	 * Creates a search request that is executed against a point in time. The indices, routing, preference and indices
+	 * options of the {@link SearchRequest} are not used as they are defined by the point in time.
+	 *
+	 * @param searchRequest the search request
+	 * @param pointInTimeId the id of the point in time
+	 * @param keepAlive how long the point in time should be kept alive after this request
+	 * @param searchAfter the sort values of the last hit of the previous page, {@literal null} for the first page
+	 * @return the request
+	 * @since 4.2
+	 */
+	public static Request searchWithPointInTime(SearchRequest searchRequest, String pointInTimeId, TimeValue keepAlive,
+			@Nullable Object[] searchAfter) {
+
+		Request request = new Request(HttpMethod.POST.name(), "/_search");
+		new Params(request).putParam("typed_keys", "true");
+
+		try (XContentBuilder builder = XContentBuilder.builder(REQUEST_BODY_CONTENT_TYPE.xContent())) {
+			Map<String, Object> source = searchRequest.source() != null
+					? XContentHelper.convertToMap(
+							XContentHelper.toXContent(searchRequest.source(), REQUEST_BODY_CONTENT_TYPE, false), true,
+							REQUEST_BODY_CONTENT_TYPE).v2()
+					: new LinkedHashMap<>();
+
+			Map<String, Object> pointInTime = new LinkedHashMap<>();
+			pointInTime.put("id", pointInTimeId);
+			pointInTime.put("keep_alive", keepAlive.getStringRep());
+			source.put("pit", pointInTime);
+
+			if (searchAfter != null) {
+				source.put("search_after", Arrays.asList(searchAfter));
+			}
+
+			builder.map(source);
+			request.setEntity(createEntity(builder));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		return request;
+	}
+
+	private static HttpEntity createEntity(XContentBuilder builder) {
+
+		BytesRef source = BytesReference.bytes(builder).toBytesRef();
+		return new ByteArrayEntity(source.bytes, source.offset, source.length,
+				createContentType(REQUEST_BODY_CONTENT_TYPE));
+	}
+
 	public static Request multiSearch(MultiSearchRequest multiSearchRequest) throws IOException {
 		Request request = new Request(HttpMethod.POST.name(), "/_msearch");
 
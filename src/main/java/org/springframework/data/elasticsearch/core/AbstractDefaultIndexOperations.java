@@ -15,8 +15,6 @@
  */
 package org.springframework.data.elasticsearch.core;
 
-import static org.springframework.util.StringUtils.*;
-
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -29,11 +27,9 @@ import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
 import org.springframework.data.elasticsearch.annotations.Mapping;
-import org.springframework.data.elasticsearch.annotations.Setting;
 import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
 import org.springframework.data.elasticsearch.core.document.Document;
 import org.springframework.data.elasticsearch.core.index.AliasData;
-import org.springframework.data.elasticsearch.core.index.MappingBuilder;
 import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.data.elasticsearch.core.query.AliasQuery;
@@ -104,19 +100,7 @@ abstract class AbstractDefaultIndexOperations implements IndexOperations {
 
 		Assert.notNull(clazz, "clazz must not be null");
 
-		Document settings = null;
-
-		Setting setting = AnnotatedElementUtils.findMergedAnnotation(clazz, Setting.class);
-
-		if (setting != null) {
-			settings = loadSettings(setting.settingPath());
-		}
-
-		if (settings == null) {
-			settings = getRequiredPersistentEntity(clazz).getDefaultSettings();
-		}
-
-		return settings;
+		return Document.parse(elasticsearchConverter.getMappingCache().getSettings(clazz));
 	}
 
 	@Override
@@ -257,7 +241,7 @@ abstract class AbstractDefaultIndexOperations implements IndexOperations {
 
 		// build mapping from field annotations
 		try {
-			String mapping = new MappingBuilder(elasticsearchConverter).buildPropertyMapping(clazz);
+			String mapping = elasticsearchConverter.getMappingCache().getMapping(clazz);
 			return Document.parse(mapping);
 		} catch (Exception e) {
 			throw new UncategorizedElasticsearchException("Failed to build mapping for " + clazz.getSimpleName(), e);
@@ -285,18 +269,5 @@ abstract class AbstractDefaultIndexOperations implements IndexOperations {
 		return getRequiredPersistentEntity(clazz).getIndexCoordinates();
 	}
 
-	@Nullable
-	private Document loadSettings(String settingPath) {
-		if (hasText(settingPath)) {
-			String settingsFile = ResourceUtil.readFileFromClasspath(settingPath);
-
-			if (hasText(settingsFile)) {
-				return Document.parse(settingsFile);
-			}
-		} else {
-			LOGGER.info("settingPath in @Setting has to be defined. Using default instead.");
-		}
-		return null;
-	}
 	// endregion
 }
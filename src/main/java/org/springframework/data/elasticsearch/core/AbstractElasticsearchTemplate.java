@@ -15,6 +15,7 @@
  */
 package org.springframework.data.elasticsearch.core;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -22,11 +23,17 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.elasticsearch.action.DocWriteResponse;
 import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkRequest;
 import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.search.MultiSearchRequest;
 import org.elasticsearch.action.search.MultiSearchResponse;
@@ -35,15 +42,20 @@ import org.elasticsearch.action.support.WriteRequest;
 import org.elasticsearch.action.support.WriteRequestBuilder;
 import org.elasticsearch.common.unit.TimeValue;
 import org.elasticsearch.index.query.MoreLikeThisQueryBuilder;
+import org.elasticsearch.search.slice.SliceBuilder;
 import org.elasticsearch.search.suggest.SuggestBuilder;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.convert.EntityReader;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.BulkFailureException;
 import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
 import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
 import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.document.SearchDocument;
 import org.springframework.data.elasticsearch.core.document.SearchDocumentResponse;
 import org.springframework.data.elasticsearch.core.event.AfterConvertCallback;
 import org.springframework.data.elasticsearch.core.event.AfterSaveCallback;
@@ -82,12 +94,31 @@ import org.springframework.util.Assert;
  */
 public abstract class AbstractElasticsearchTemplate implements ElasticsearchOperations, ApplicationContextAware {
 
+	/**
+	 * The default number of search hits from which on the entities are converted in parallel when an
+	 * {@link #setEntityConversionPool(ForkJoinPool) entity conversion pool} is set.
+	 *
+	 * @since 4.2
+	 */
+	public static final int DEFAULT_PARALLEL_ENTITY_CONVERSION_THRESHOLD = 1000;
+
+	/**
+	 * The default page size of {@link #searchAll(Query, Class)}.
+	 *
+	 * @since 4.2
+	 */
+	public static final int DEFAULT_SEARCH_ALL_PAGE_SIZE = 500;
+
 	@Nullable protected ElasticsearchConverter elasticsearchConverter;
 	@Nullable protected RequestFactory requestFactory;
 	@Nullable private EntityOperations entityOperations;
 	@Nullable private EntityCallbacks entityCallbacks;
 	@Nullable private RefreshPolicy refreshPolicy;
 	@Nullable protected RoutingResolver routingResolver;
+	private Executor scrollPrefetchExecutor = createScrollPrefetchExecutor();
+	@Nullable private ForkJoinPool entityConversionPool;
+	private int parallelEntityConversionThreshold = DEFAULT_PARALLEL_ENTITY_CONVERSION_THRESHOLD;
+	private int searchAllPageSize = DEFAULT_SEARCH_ALL_PAGE_SIZE;
 
 	// region Initialization
 	protected void initialize(ElasticsearchConverter elasticsearchConverter) {
@@ -116,6 +147,10 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 		}
 
 		copy.setRoutingResolver(routingResolver);
+		copy.setScrollPrefetchExecutor(scrollPrefetchExecutor);
+		copy.setEntityConversionPool(entityConversionPool);
+		copy.setParallelEntityConversionThreshold(parallelEntityConversionThreshold);
+		copy.setSearchAllPageSize(searchAllPageSize);
 
 		return copy;
 	}
@@ -166,6 +201,70 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 	public RefreshPolicy getRefreshPolicy() {
 		return refreshPolicy;
 	}
+
+	/**
+	 * Sets the {@link Executor} that requests the following scroll pages in the background when a query with a
+	 * {@link Query#getScrollPrefetch() scroll prefetch} is used with {@link #searchForStream(Query, Class)}. Defaults to
+	 * an executor creating a daemon thread for every stream.
+	 *
+	 * @param scrollPrefetchExecutor must not be {@literal null}
+	 * @since 4.2
+	 */
+	public void setScrollPrefetchExecutor(Executor scrollPrefetchExecutor) {
+
+		Assert.notNull(scrollPrefetchExecutor, "scrollPrefetchExecutor must not be null");
+
+		this.scrollPrefetchExecutor = scrollPrefetchExecutor;
+	}
+
+	/**
+	 * Sets the {@link ForkJoinPool} that converts the hits of a search response to entities in parallel when the
+	 * response contains at least {@link #setParallelEntityConversionThreshold(int) threshold} hits. The order of the
+	 * hits is kept and the {@link AfterConvertCallback}s are invoked on the threads of the pool, so they must be thread
+	 * safe. Defaults to {@literal null} which converts all hits on the calling thread.
+	 *
+	 * @param entityConversionPool can be {@literal null}
+	 * @since 4.2
+	 */
+	public void setEntityConversionPool(@Nullable ForkJoinPool entityConversionPool) {
+		this.entityConversionPool = entityConversionPool;
+	}
+
+	/**
+	 * Sets the number of hits from which on a search response is converted in parallel when an
+	 * {@link #setEntityConversionPool(ForkJoinPool) entity conversion pool} is set. Defaults to
+	 * {@link #DEFAULT_PARALLEL_ENTITY_CONVERSION_THRESHOLD}.
+	 *
+	 * @param parallelEntityConversionThreshold must be greater than 0
+	 * @since 4.2
+	 */
+	public void setParallelEntityConversionThreshold(int parallelEntityConversionThreshold) {
+
+		Assert.isTrue(parallelEntityConversionThreshold > 0, "parallelEntityConversionThreshold must be greater than 0");
+
+		this.parallelEntityConversionThreshold = parallelEntityConversionThreshold;
+	}
+
+	/**
+	 * Sets the number of hits that {@link #searchAll(Query, Class)} requests with the first search and with every
+	 * following scroll or point in time page. Defaults to {@link #DEFAULT_SEARCH_ALL_PAGE_SIZE}.
+	 *
+	 * @param searchAllPageSize must be greater than 0
+	 * @since 4.2
+	 */
+	public void setSearchAllPageSize(int searchAllPageSize) {
+
+		Assert.isTrue(searchAllPageSize > 0, "searchAllPageSize must be greater than 0");
+
+		this.searchAllPageSize = searchAllPageSize;
+	}
+
+	private static Executor createScrollPrefetchExecutor() {
+
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("scroll-prefetch-");
+		executor.setDaemon(true);
+		return executor;
+	}
 	// endregion
 
 	// region DocumentOperations
@@ -346,6 +445,65 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 	public abstract List<IndexedObjectInformation> doBulkOperation(List<?> queries, BulkOptions bulkOptions,
 			IndexCoordinates index);
 
+	@Override
+	public BulkIngester bulkIngester(BulkOptions bulkOptions, IndexCoordinates index, BulkIngester.Listener listener) {
+
+		Assert.notNull(bulkOptions, "BulkOptions must not be null");
+		Assert.notNull(index, "index must not be null");
+		Assert.notNull(listener, "listener must not be null");
+
+		return new DefaultBulkIngester(this, bulkOptions, index, listener);
+	}
+
+	/**
+	 * Executes the given {@link BulkRequest} and returns the response without checking it for failed items.
+	 *
+	 * @param bulkRequest the prepared request, must not be {@literal null}
+	 * @return the response
+	 * @since 4.2
+	 */
+	protected abstract BulkResponse doBulk(BulkRequest bulkRequest);
+
+	/**
+	 * Sends the items of a bulk request that were rejected by the cluster again, up to
+	 * {@link BulkOptions#getMaxRetries()} times with an exponential backoff starting at
+	 * {@link BulkOptions#getRetryBackoff()}. The items of the returned response are in the order of the original
+	 * request.
+	 *
+	 * @param bulkRequest the request that was sent, must not be {@literal null}
+	 * @param bulkResponse the response for the request, must not be {@literal null}
+	 * @param bulkOptions the options defining the retries, must not be {@literal null}
+	 * @return the response with the results of the retried items merged in
+	 * @since 4.2
+	 */
+	protected BulkResponse retryRejectedItems(BulkRequest bulkRequest, BulkResponse bulkResponse,
+			BulkOptions bulkOptions) {
+
+		BulkResponse response = bulkResponse;
+
+		for (int retry = 0; retry < bulkOptions.getMaxRetries(); retry++) {
+
+			List<Integer> positions = BulkRetrySupport.rejectedItemPositions(response);
+
+			if (positions.isEmpty()) {
+				break;
+			}
+
+			try {
+				Thread.sleep(BulkRetrySupport.backoffMillis(bulkOptions, retry));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+
+			BulkRequest retryRequest = BulkRetrySupport.addItems(requestFactory.bulkRequest(bulkOptions), bulkRequest,
+					positions);
+			response = BulkRetrySupport.merge(response, positions, doBulk(prepareWriteRequest(retryRequest)));
+		}
+
+		return response;
+	}
+
 	/**
 	 * Pre process the write request before it is sent to the server, eg. by setting the
 	 * {@link WriteRequest#setRefreshPolicy(String) refresh policy} if applicable.
@@ -388,6 +546,58 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 		return count(query, clazz, getIndexCoordinatesFor(clazz));
 	}
 
+	@Override
+	public boolean exists(Query query, Class<?> clazz) {
+		return exists(query, clazz, getIndexCoordinatesFor(clazz));
+	}
+
+	@Override
+	public <T> SearchHits<T> searchAll(Query query, Class<T> clazz) {
+		return searchAll(query, clazz, getIndexCoordinatesFor(clazz));
+	}
+
+	@Override
+	public <T> SearchHits<T> searchAll(Query query, Class<T> clazz, IndexCoordinates index) {
+
+		Assert.notNull(query, "query must not be null");
+		Assert.notNull(index, "index must not be null");
+
+		// the pageable of the query is changed for the requests and restored afterwards
+		Pageable pageable = query.getPageable();
+
+		try {
+			return doSearchAll(query, clazz, index);
+		} finally {
+			query.setPageable(pageable);
+		}
+	}
+
+	private <T> SearchHits<T> doSearchAll(Query query, Class<T> clazz, IndexCoordinates index) {
+
+		if (query.isLimiting()) {
+			query.setPageable(Pageable.unpaged());
+			return search(query, clazz, index);
+		}
+
+		query.setPageable(PageRequest.of(0, searchAllPageSize));
+		SearchHits<T> searchHits = search(query, clazz, index);
+		int hitCount = searchHits.getSearchHits().size();
+
+		if (hitCount < searchAllPageSize || (searchHits.getTotalHitsRelation() == TotalHitsRelation.EQUAL_TO
+				&& searchHits.getTotalHits() <= hitCount)) {
+			return searchHits;
+		}
+
+		// there are more hits than fit into one page, read all of them from the start with a scroll or point in time
+		List<SearchHit<T>> hits = new ArrayList<>();
+
+		try (SearchHitsIterator<T> iterator = searchForStream(query, clazz, index)) {
+			iterator.forEachRemaining(hits::add);
+			return new SearchHitsImpl<>(iterator.getTotalHits(), iterator.getTotalHitsRelation(), iterator.getMaxScore(),
+					null, hits, iterator.getAggregations());
+		}
+	}
+
 	@Override
 	public <T> SearchHitsIterator<T> searchForStream(Query query, Class<T> clazz) {
 		return searchForStream(query, clazz, getIndexCoordinatesFor(clazz));
@@ -401,11 +611,112 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 		// noinspection ConstantConditions
 		int maxCount = query.isLimiting() ? query.getMaxResults() : 0;
 
+		Duration pointInTimeKeepAlive = query.getPointInTimeKeepAlive();
+		if (pointInTimeKeepAlive != null && isPointInTimeSupported()) {
+			return searchForStreamWithPointInTime(maxCount, query, clazz, index, pointInTimeKeepAlive);
+		}
+
 		return StreamQueries.streamResults( //
 				maxCount, //
+				query.getScrollPrefetch(), //
 				searchScrollStart(scrollTimeInMillis, query, clazz, index), //
 				scrollId -> searchScrollContinue(scrollId, scrollTimeInMillis, clazz, index), //
-				this::searchScrollClear);
+				this::searchScrollClear, //
+				scrollPrefetchExecutor);
+	}
+
+	/**
+	 * Streams the results by paging through a point in time with search_after. The point in time id takes the place of
+	 * the scroll id in the {@link SearchHitsIterator}: every page is requested with the id returned by the previous
+	 * search and closing the iterator closes the point in time with the latest id.
+	 */
+	private <T> SearchHitsIterator<T> searchForStreamWithPointInTime(int maxCount, Query query, Class<T> clazz,
+			IndexCoordinates index, Duration keepAlive) {
+
+		String pointInTimeId = openPointInTime(index, keepAlive);
+		AtomicReference<Object[]> searchAfter = new AtomicReference<>();
+
+		Function<String, SearchScrollHits<T>> nextPage = id -> {
+			SearchScrollHits<T> searchHits = searchWithPointInTime(query, clazz, index, id, keepAlive, searchAfter.get());
+			List<SearchHit<T>> hits = searchHits.getSearchHits();
+
+			if (!hits.isEmpty()) {
+				searchAfter.set(hits.get(hits.size() - 1).getSortValues().toArray());
+			}
+
+			return searchHits;
+		};
+
+		SearchScrollHits<T> firstPage;
+		try {
+			firstPage = nextPage.apply(pointInTimeId);
+		} catch (RuntimeException e) {
+			closePointInTime(pointInTimeId);
+			throw e;
+		}
+
+		return StreamQueries.streamResults( //
+				maxCount, //
+				query.getScrollPrefetch(), //
+				firstPage, //
+				nextPage, //
+				ids -> closePointInTime(ids.get(ids.size() - 1)), //
+				scrollPrefetchExecutor);
+	}
+
+	@Override
+	public <T> SearchHitsIterator<T> searchForStream(Query query, Class<T> clazz, int slices) {
+		return searchForStream(query, clazz, slices, getIndexCoordinatesFor(clazz));
+	}
+
+	@Override
+	public <T> SearchHitsIterator<T> searchForStream(Query query, Class<T> clazz, int slices, IndexCoordinates index) {
+
+		Assert.isTrue(slices > 0, "slices must be greater than 0");
+
+		if (slices == 1) {
+			return searchForStream(query, clazz, index);
+		}
+
+		// noinspection ConstantConditions
+		int maxCount = query.isLimiting() ? query.getMaxResults() : 0;
+
+		return new SlicedSearchHitsIterator<>(maxCount, searchForSlicedStreams(query, clazz, slices, index));
+	}
+
+	@Override
+	public <T> List<SearchHitsIterator<T>> searchForSlicedStreams(Query query, Class<T> clazz, int slices,
+			IndexCoordinates index) {
+
+		Assert.isTrue(slices > 0, "slices must be greater than 0");
+
+		if (slices == 1) {
+			// Elasticsearch rejects a slice max of 1, a single slice is a plain scroll
+			return Collections.singletonList(searchForStream(query, clazz, index));
+		}
+
+		long scrollTimeInMillis = TimeValue.timeValueMinutes(1).millis();
+
+		// noinspection ConstantConditions
+		int maxCount = query.isLimiting() ? query.getMaxResults() : 0;
+
+		List<SearchHitsIterator<T>> iterators = new ArrayList<>(slices);
+
+		try {
+			for (int slice = 0; slice < slices; slice++) {
+				SliceBuilder sliceBuilder = new SliceBuilder(slice, slices);
+				iterators.add(StreamQueries.streamResults( //
+						maxCount, //
+						searchScrollStart(scrollTimeInMillis, query, clazz, index, sliceBuilder), //
+						scrollId -> searchScrollContinue(scrollId, scrollTimeInMillis, clazz, index), //
+						this::searchScrollClear));
+			}
+		} catch (RuntimeException e) {
+			iterators.forEach(SearchHitsIterator::close);
+			throw e;
+		}
+
+		return iterators;
 	}
 
 	@Override
@@ -513,11 +824,19 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 		return search(query, clazz, getIndexCoordinatesFor(clazz));
 	}
 
+	/*
+	 * internal use only, not for public API
+	 */
+	protected <T> SearchScrollHits<T> searchScrollStart(long scrollTimeInMillis, Query query, Class<T> clazz,
+			IndexCoordinates index) {
+		return searchScrollStart(scrollTimeInMillis, query, clazz, index, null);
+	}
+
 	/*
 	 * internal use only, not for public API
 	 */
 	abstract protected <T> SearchScrollHits<T> searchScrollStart(long scrollTimeInMillis, Query query, Class<T> clazz,
-			IndexCoordinates index);
+			IndexCoordinates index, @Nullable SliceBuilder slice);
 
 	/*
 	 * internal use only, not for public API
@@ -537,6 +856,58 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 	 */
 	abstract protected void searchScrollClear(List<String> scrollIds);
 
+	/**
+	 * Whether this template can open a point in time and search with it. When not supported, queries with a
+	 * {@link Query#getPointInTimeKeepAlive() point in time keep alive} are streamed with a scroll context. The point in
+	 * time methods of this class are only called when this returns {@literal true}.
+	 *
+	 * @return {@literal false} by default
+	 * @since 4.2
+	 */
+	protected boolean isPointInTimeSupported() {
+		return false;
+	}
+
+	/**
+	 * Opens a point in time for the given index.
+	 *
+	 * @param index the index to open the point in time for
+	 * @param keepAlive how long the point in time is kept alive
+	 * @return the id of the point in time
+	 * @since 4.2
+	 */
+	protected String openPointInTime(IndexCoordinates index, Duration keepAlive) {
+		throw new UnsupportedOperationException("point in time is not supported by " + getClass().getSimpleName());
+	}
+
+	/**
+	 * Executes a search for a page of results against a point in time.
+	 *
+	 * @param query the query to execute
+	 * @param clazz the entity class
+	 * @param index the index the point in time was opened for
+	 * @param pointInTimeId the id of the point in time
+	 * @param keepAlive how long the point in time is kept alive after this request
+	 * @param searchAfter the sort values of the last hit of the previous page, {@literal null} for the first page
+	 * @return the found hits with the point in time id returned by the search as scroll id, which must be used for the
+	 *         next page
+	 * @since 4.2
+	 */
+	protected <T> SearchScrollHits<T> searchWithPointInTime(Query query, Class<T> clazz, IndexCoordinates index,
+			String pointInTimeId, Duration keepAlive, @Nullable Object[] searchAfter) {
+		throw new UnsupportedOperationException("point in time is not supported by " + getClass().getSimpleName());
+	}
+
+	/**
+	 * Closes a point in time.
+	 *
+	 * @param pointInTimeId the id of the point in time
+	 * @since 4.2
+	 */
+	protected void closePointInTime(String pointInTimeId) {
+		throw new UnsupportedOperationException("point in time is not supported by " + getClass().getSimpleName());
+	}
+
 	abstract protected MultiSearchResponse.Item[] getMultiSearchResult(MultiSearchRequest request);
 
 	@Override
@@ -871,7 +1242,7 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 
 		@Override
 		public SearchHits<T> doWith(SearchDocumentResponse response) {
-			List<T> entities = response.getSearchDocuments().stream().map(delegate::doWith).collect(Collectors.toList());
+			List<T> entities = readEntities(response, delegate, type);
 			return SearchHitMapping.mappingFor(type, elasticsearchConverter).mapHits(response, entities);
 		}
 	}
@@ -891,10 +1262,30 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 
 		@Override
 		public SearchScrollHits<T> doWith(SearchDocumentResponse response) {
-			List<T> entities = response.getSearchDocuments().stream().map(delegate::doWith).collect(Collectors.toList());
+			List<T> entities = readEntities(response, delegate, type);
 			return SearchHitMapping.mappingFor(type, elasticsearchConverter).mapScrollHits(response, entities);
 		}
 	}
+
+	private <T> List<T> readEntities(SearchDocumentResponse response, DocumentCallback<T> documentCallback,
+			Class<T> type) {
+
+		if (SearchHitMapping.isSearchDocumentType(type)) {
+			return SearchHitMapping.searchDocumentsAsContents(response, type);
+		}
+
+		List<SearchDocument> searchDocuments = response.getSearchDocuments();
+		ForkJoinPool pool = entityConversionPool;
+
+		if (pool == null || searchDocuments.size() < parallelEntityConversionThreshold) {
+			return searchDocuments.stream().map(documentCallback::doWith).collect(Collectors.toList());
+		}
+
+		// a parallel stream started from a task of the pool runs in that pool, collecting it keeps the order of the hits
+		return pool.invoke(ForkJoinTask.adapt(() -> searchDocuments.parallelStream() //
+				.map(documentCallback::doWith) //
+				.collect(Collectors.toList())));
+	}
 	// endregion
 
 	// region routing
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import java.io.Closeable;
+
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.lang.Nullable;
+
+/**
+ * Collects single index, update and delete operations and sends them asynchronously to Elasticsearch in bulk requests.
+ * A bulk request is sent when the number of collected actions reaches {@link BulkOptions#getMaxActions()}, when the
+ * collected sources reach {@link BulkOptions#getMaxSize()} or when the {@link BulkOptions#getFlushInterval()} has
+ * passed. At most {@link BulkOptions#getMaxConcurrentBulks()} bulk requests are in flight at the same time, adding an
+ * operation blocks when this limit is reached. Items that are rejected by the cluster (HTTP status 429) are sent again
+ * up to {@link BulkOptions#getMaxRetries()} times.
+ * <p>
+ * The result of every operation is reported to the {@link Listener}. A {@link BulkIngester} must be closed to send the
+ * remaining actions and to release its threads.
+ *
+ * @since 4.2
+ * @see DocumentOperations#bulkIngester(BulkOptions, org.springframework.data.elasticsearch.core.mapping.IndexCoordinates, Listener)
+ */
+public interface BulkIngester extends Closeable {
+
+	/**
+	 * Adds an index operation. Before convert callbacks are invoked when the operation is added, after save callbacks
+	 * when it was successfully executed.
+	 *
+	 * @param query the query defining the index operation, must not be {@literal null}
+	 */
+	void add(IndexQuery query);
+
+	/**
+	 * Adds an update operation.
+	 *
+	 * @param query the query defining the update operation, must not be {@literal null}
+	 */
+	void add(UpdateQuery query);
+
+	/**
+	 * Adds a delete operation.
+	 *
+	 * @param id the id of the document to delete, must not be {@literal null}
+	 */
+	default void delete(String id) {
+		delete(id, null);
+	}
+
+	/**
+	 * Adds a delete operation.
+	 *
+	 * @param id the id of the document to delete, must not be {@literal null}
+	 * @param routing optional routing for the document
+	 */
+	void delete(String id, @Nullable String routing);
+
+	/**
+	 * Sends the currently collected actions without waiting for the response.
+	 */
+	void flush();
+
+	/**
+	 * Sends the currently collected actions and waits until all bulk requests are finished. Operations added after
+	 * closing are rejected.
+	 */
+	@Override
+	void close();
+
+	/**
+	 * Listener that is notified about the result of every single operation. Notifications are done from the threads
+	 * executing the bulk requests.
+	 */
+	interface Listener {
+
+		/**
+		 * Called when an operation was successfully executed.
+		 *
+		 * @param operation the {@link IndexQuery} or {@link UpdateQuery} that was added, or the id of a deleted document
+		 * @param indexedObjectInformation information about the written document
+		 */
+		default void onSuccess(Object operation, IndexedObjectInformation indexedObjectInformation) {}
+
+		/**
+		 * Called when an operation failed, either because the item failed or because the whole bulk request failed.
+		 *
+		 * @param operation the {@link IndexQuery} or {@link UpdateQuery} that was added, or the id of a deleted document
+		 * @param failure the cause of the failure
+		 */
+		default void onFailure(Object operation, Exception failure) {}
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.rest.RestStatus;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
+
+/**
+ * Helper functions to send the items of a bulk request again that were rejected by the cluster with
+ * {@link RestStatus#TOO_MANY_REQUESTS} and to merge the results of the retries into the original response.
+ *
+ * @since 4.2
+ */
+final class BulkRetrySupport {
+
+	private BulkRetrySupport() {}
+
+	/**
+	 * @param bulkResponse the response to check
+	 * @return the positions of the items that were rejected and may be sent again, in ascending order.
+	 */
+	static List<Integer> rejectedItemPositions(BulkResponse bulkResponse) {
+
+		List<Integer> positions = new ArrayList<>();
+
+		if (bulkResponse.hasFailures()) {
+			BulkItemResponse[] items = bulkResponse.getItems();
+
+			for (int i = 0; i < items.length; i++) {
+				if (items[i].isFailed() && items[i].status() == RestStatus.TOO_MANY_REQUESTS) {
+					positions.add(i);
+				}
+			}
+		}
+
+		return positions;
+	}
+
+	/**
+	 * adds the requests at the given positions of the original request to the retry request.
+	 *
+	 * @param retryRequest the request to fill
+	 * @param originalRequest the request that was originally sent
+	 * @param positions the positions of the items to send again
+	 * @return the retry request
+	 */
+	static BulkRequest addItems(BulkRequest retryRequest, BulkRequest originalRequest, List<Integer> positions) {
+
+		positions.forEach(position -> retryRequest.add(originalRequest.requests().get(position)));
+		return retryRequest;
+	}
+
+	/**
+	 * Replaces the items at the given positions of a response with the items of the retry response.
+	 *
+	 * @param bulkResponse the response for the original request
+	 * @param positions the positions of the items that were sent again
+	 * @param retryResponse the response for the retry request
+	 * @return a new response with the items in the order of the original request
+	 */
+	static BulkResponse merge(BulkResponse bulkResponse, List<Integer> positions, BulkResponse retryResponse) {
+
+		BulkItemResponse[] items = bulkResponse.getItems().clone();
+		BulkItemResponse[] retryItems = retryResponse.getItems();
+
+		for (int i = 0; i < positions.size(); i++) {
+			items[positions.get(i)] = retryItems[i];
+		}
+
+		return new BulkResponse(items, bulkResponse.getTook().millis() + retryResponse.getTook().millis());
+	}
+
+	/**
+	 * @param bulkOptions the options containing the initial backoff
+	 * @param retry the number of the retry, starting at 0
+	 * @return the time in milliseconds to wait before the given retry
+	 */
+	static long backoffMillis(BulkOptions bulkOptions, int retry) {
+		return bulkOptions.getRetryBackoff().millis() << Math.min(retry, 30);
+	}
+}
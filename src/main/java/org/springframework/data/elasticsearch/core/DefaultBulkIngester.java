@@ -0,0 +1,330 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.DocWriteResponse;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.action.update.UpdateRequest;
+import org.elasticsearch.common.unit.TimeValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * {@link BulkIngester} implementation that uses an {@link AbstractElasticsearchTemplate} to create and execute the bulk
+ * requests, so it works with every client the template supports.
+ *
+ * @since 4.2
+ */
+class DefaultBulkIngester implements BulkIngester {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(DefaultBulkIngester.class);
+
+	/**
+	 * estimated size of the action metadata line of a bulk item
+	 */
+	private static final int ACTION_OVERHEAD = 50;
+
+	private final AbstractElasticsearchTemplate template;
+	private final BulkOptions bulkOptions;
+	private final IndexCoordinates index;
+	private final Listener listener;
+
+	private final Semaphore bulksInFlight;
+	private final ExecutorService executor;
+	@Nullable private final ScheduledExecutorService flushScheduler;
+
+	private final Object lock = new Object();
+	private List<BulkAction> actions = new ArrayList<>();
+	private long sizeInBytes = 0;
+	private volatile boolean closed = false;
+
+	DefaultBulkIngester(AbstractElasticsearchTemplate template, BulkOptions bulkOptions, IndexCoordinates index,
+			Listener listener) {
+
+		Assert.notNull(template, "template must not be null");
+		Assert.notNull(bulkOptions, "bulkOptions must not be null");
+		Assert.notNull(index, "index must not be null");
+		Assert.notNull(listener, "listener must not be null");
+
+		this.template = template;
+		this.bulkOptions = bulkOptions;
+		this.index = index;
+		this.listener = listener;
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("bulk-ingester-");
+		threadFactory.setDaemon(true);
+
+		this.bulksInFlight = new Semaphore(bulkOptions.getMaxConcurrentBulks());
+		this.executor = Executors.newFixedThreadPool(bulkOptions.getMaxConcurrentBulks(), threadFactory);
+
+		TimeValue flushInterval = bulkOptions.getFlushInterval();
+
+		if (flushInterval != null) {
+			this.flushScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+			this.flushScheduler.scheduleWithFixedDelay(this::flush, flushInterval.millis(), flushInterval.millis(),
+					TimeUnit.MILLISECONDS);
+		} else {
+			this.flushScheduler = null;
+		}
+	}
+
+	@Override
+	public void add(IndexQuery query) {
+
+		Assert.notNull(query, "query must not be null");
+
+		template.maybeCallbackBeforeConvertWithQuery(query, index);
+		addAction(new BulkAction(query, template.getRequestFactory().indexRequest(query, index)));
+	}
+
+	@Override
+	public void add(UpdateQuery query) {
+
+		Assert.notNull(query, "query must not be null");
+
+		addAction(new BulkAction(query, template.getRequestFactory().updateRequest(query, index)));
+	}
+
+	@Override
+	public void delete(String id, @Nullable String routing) {
+
+		Assert.notNull(id, "id must not be null");
+
+		addAction(new BulkAction(id, template.getRequestFactory().deleteRequest(id, routing, index)));
+	}
+
+	@Override
+	public void flush() {
+
+		List<BulkAction> bulk;
+
+		synchronized (lock) {
+
+			if (actions.isEmpty()) {
+				return;
+			}
+
+			bulk = takeActions();
+		}
+
+		execute(bulk);
+	}
+
+	@Override
+	public void close() {
+
+		if (closed) {
+			return;
+		}
+
+		closed = true;
+
+		// a scheduled flush may be waiting for a free bulk slot, so it must not be interrupted
+		if (flushScheduler != null) {
+			flushScheduler.shutdown();
+			awaitTermination(flushScheduler, "waiting for the scheduled flush to finish");
+		}
+
+		flush();
+
+		executor.shutdown();
+		awaitTermination(executor, "waiting for bulk requests to finish");
+	}
+
+	private static void awaitTermination(ExecutorService executorService, String message) {
+
+		try {
+			while (!executorService.awaitTermination(1, TimeUnit.SECONDS)) {
+				LOGGER.debug(message);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void addAction(BulkAction action) {
+
+		Assert.state(!closed, "BulkIngester is closed");
+
+		List<BulkAction> bulk = null;
+
+		synchronized (lock) {
+			actions.add(action);
+			sizeInBytes += action.sizeInBytes;
+
+			if (actions.size() >= bulkOptions.getMaxActions() || sizeInBytes >= bulkOptions.getMaxSize().getBytes()) {
+				bulk = takeActions();
+			}
+		}
+
+		if (bulk != null) {
+			execute(bulk);
+		}
+	}
+
+	private List<BulkAction> takeActions() {
+
+		List<BulkAction> bulk = actions;
+		actions = new ArrayList<>();
+		sizeInBytes = 0;
+		return bulk;
+	}
+
+	/**
+	 * Hands the bulk to the executor, blocking the calling thread when the maximum number of bulks is in flight.
+	 */
+	private void execute(List<BulkAction> bulk) {
+
+		try {
+			bulksInFlight.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			notifyFailure(bulk, e);
+			return;
+		}
+
+		try {
+			executor.execute(() -> {
+				try {
+					executeBulk(bulk);
+				} finally {
+					bulksInFlight.release();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			bulksInFlight.release();
+			notifyFailure(bulk, e);
+		}
+	}
+
+	private void executeBulk(List<BulkAction> bulk) {
+
+		BulkResponse bulkResponse;
+		try {
+			BulkRequest bulkRequest = template.prepareWriteRequest(template.getRequestFactory().bulkRequest(bulkOptions));
+			for (BulkAction action : bulk) {
+				bulkRequest.add(action.request);
+			}
+			bulkResponse = template.retryRejectedItems(bulkRequest, template.doBulk(bulkRequest), bulkOptions);
+		} catch (Exception e) {
+			notifyFailure(bulk, e);
+			return;
+		}
+
+		BulkItemResponse[] items = bulkResponse.getItems();
+
+		for (int i = 0; i < items.length; i++) {
+			BulkAction action = bulk.get(i);
+			BulkItemResponse item = items[i];
+
+			if (item.isFailed()) {
+				notifyFailure(action, item.getFailure().getCause());
+			} else {
+				notifySuccess(action, item);
+			}
+		}
+	}
+
+	private void notifySuccess(BulkAction action, BulkItemResponse item) {
+
+		DocWriteResponse response = item.getResponse();
+		IndexedObjectInformation indexedObjectInformation = response != null
+				? IndexedObjectInformation.of(response.getId(), response.getSeqNo(), response.getPrimaryTerm(),
+						response.getVersion())
+				: IndexedObjectInformation.of(item.getId(), null, null, null);
+
+		try {
+			if (action.operation instanceof IndexQuery) {
+				Object queryObject = ((IndexQuery) action.operation).getObject();
+
+				if (queryObject != null) {
+					template.updateIndexedObject(queryObject, indexedObjectInformation);
+				}
+				template.maybeCallbackAfterSaveWithQuery(action.operation, index);
+			}
+
+			listener.onSuccess(action.operation, indexedObjectInformation);
+		} catch (Exception e) {
+			LOGGER.warn("error processing the result of a bulk item", e);
+		}
+	}
+
+	private void notifyFailure(List<BulkAction> bulk, Exception failure) {
+		bulk.forEach(action -> notifyFailure(action, failure));
+	}
+
+	private void notifyFailure(BulkAction action, Exception failure) {
+
+		try {
+			listener.onFailure(action.operation, failure);
+		} catch (Exception e) {
+			LOGGER.warn("error processing the failure of a bulk item", e);
+		}
+	}
+
+	/**
+	 * An operation as passed in by the caller together with the request created for it.
+	 */
+	private static class BulkAction {
+		private final Object operation;
+		private final DocWriteRequest<?> request;
+		private final long sizeInBytes;
+
+		BulkAction(Object operation, DocWriteRequest<?> request) {
+			this.operation = operation;
+			this.request = request;
+			this.sizeInBytes = estimateSizeInBytes(request);
+		}
+
+		private static long estimateSizeInBytes(DocWriteRequest<?> request) {
+
+			long size = ACTION_OVERHEAD;
+
+			if (request instanceof IndexRequest) {
+				size += sourceLength((IndexRequest) request);
+			} else if (request instanceof UpdateRequest) {
+				UpdateRequest updateRequest = (UpdateRequest) request;
+				size += sourceLength(updateRequest.doc()) + sourceLength(updateRequest.upsertRequest());
+			}
+
+			return size;
+		}
+
+		private static long sourceLength(@Nullable IndexRequest indexRequest) {
+			return indexRequest != null && indexRequest.source() != null ? indexRequest.source().length() : 0;
+		}
+	}
+}
@@ -50,10 +50,8 @@ import org.springframework.data.elasticsearch.core.index.AliasData;
 import org.springframework.data.elasticsearch.core.index.DeleteTemplateRequest;
 import org.springframework.data.elasticsearch.core.index.ExistsTemplateRequest;
 import org.springframework.data.elasticsearch.core.index.GetTemplateRequest;
-import org.springframework.data.elasticsearch.core.index.MappingBuilder;
 import org.springframework.data.elasticsearch.core.index.PutTemplateRequest;
 import org.springframework.data.elasticsearch.core.index.TemplateData;
-import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -179,7 +177,7 @@ class DefaultReactiveIndexOperations implements ReactiveIndexOperations {
 			return loadDocument(mappingAnnotation.mappingPath(), "@Mapping");
 		}
 
-		String mapping = new MappingBuilder(converter).buildPropertyMapping(clazz);
+		String mapping = converter.getMappingCache().getMapping(clazz);
 		return Mono.just(Document.parse(mapping));
 	}
 
@@ -221,7 +219,7 @@ class DefaultReactiveIndexOperations implements ReactiveIndexOperations {
 			return loadDocument(setting.settingPath(), "@Setting");
 		}
 
-		return Mono.just(getRequiredPersistentEntity(clazz).getDefaultSettings());
+		return Mono.fromSupplier(() -> Document.parse(converter.getMappingCache().getSettings(clazz)));
 	}
 
 	@Override
@@ -336,10 +334,6 @@ class DefaultReactiveIndexOperations implements ReactiveIndexOperations {
 				.getIndexCoordinates();
 	}
 
-	private ElasticsearchPersistentEntity<?> getRequiredPersistentEntity(Class<?> clazz) {
-		return converter.getMappingContext().getRequiredPersistentEntity(clazz);
-	}
-
 	private Mono<Document> loadDocument(String path, String annotation) {
 
 		if (hasText(path)) {
@@ -221,6 +221,33 @@ public interface DocumentOperations {
 	 */
 	void bulkUpdate(List<UpdateQuery> queries, BulkOptions bulkOptions, IndexCoordinates index);
 
+	/**
+	 * Creates a {@link BulkIngester} that collects single operations for the given index and sends them asynchronously
+	 * in bulk requests. The returned ingester must be closed after use.
+	 *
+	 * @param bulkOptions options defining when bulk requests are sent and how they are executed, must not be
+	 *          {@literal null}
+	 * @param index the index to write to, must not be {@literal null}
+	 * @param listener the listener that is notified about the result of every operation, must not be {@literal null}
+	 * @return the BulkIngester
+	 * @since 4.2
+	 */
+	BulkIngester bulkIngester(BulkOptions bulkOptions, IndexCoordinates index, BulkIngester.Listener listener);
+
+	/**
+	 * Creates a {@link BulkIngester} that collects single operations for the given index and sends them asynchronously
+	 * in bulk requests. The returned ingester must be closed after use.
+	 *
+	 * @param bulkOptions options defining when bulk requests are sent and how they are executed, must not be
+	 *          {@literal null}
+	 * @param index the index to write to, must not be {@literal null}
+	 * @return the BulkIngester
+	 * @since 4.2
+	 */
+	default BulkIngester bulkIngester(BulkOptions bulkOptions, IndexCoordinates index) {
+		return bulkIngester(bulkOptions, index, new BulkIngester.Listener() {});
+	}
+
 	/**
 	 * Delete the one object with provided id.
 	 *
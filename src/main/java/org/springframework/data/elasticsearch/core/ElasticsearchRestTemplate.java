@@ -16,10 +16,13 @@
 package org.springframework.data.elasticsearch.core;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.delete.DeleteRequest;
 import org.elasticsearch.action.get.GetRequest;
 import org.elasticsearch.action.get.GetResponse;
@@ -34,16 +37,27 @@ import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.action.search.SearchScrollRequest;
 import org.elasticsearch.action.update.UpdateRequest;
+import org.elasticsearch.client.Request;
 import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.Response;
 import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.CheckedFunction;
 import org.elasticsearch.common.unit.TimeValue;
+import org.elasticsearch.common.xcontent.DeprecationHandler;
+import org.elasticsearch.common.xcontent.NamedXContentRegistry;
+import org.elasticsearch.common.xcontent.XContentParser;
+import org.elasticsearch.common.xcontent.XContentType;
 import org.elasticsearch.index.reindex.BulkByScrollResponse;
 import org.elasticsearch.index.reindex.DeleteByQueryRequest;
 import org.elasticsearch.index.reindex.UpdateByQueryRequest;
 import org.elasticsearch.search.fetch.subphase.FetchSourceContext;
+import org.elasticsearch.search.slice.SliceBuilder;
 import org.elasticsearch.search.suggest.SuggestBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.elasticsearch.client.util.NamedXContents;
+import org.springframework.data.elasticsearch.client.util.OpenPointInTimeResponse;
+import org.springframework.data.elasticsearch.client.util.RequestConverters;
 import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
 import org.springframework.data.elasticsearch.core.document.DocumentAdapters;
 import org.springframework.data.elasticsearch.core.document.SearchDocumentResponse;
@@ -57,6 +71,7 @@ import org.springframework.data.elasticsearch.core.query.UpdateResponse;
 import org.springframework.data.elasticsearch.support.SearchHitsUtil;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 /**
  * ElasticsearchRestTemplate
@@ -94,6 +109,8 @@ import org.springframework.util.Assert;
 public class ElasticsearchRestTemplate extends AbstractElasticsearchTemplate {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(ElasticsearchRestTemplate.class);
+	private static final NamedXContentRegistry NAMED_X_CONTENT_REGISTRY = new NamedXContentRegistry(
+			NamedXContents.getDefaultNamedXContents());
 
 	private final RestHighLevelClient client;
 	private final ElasticsearchExceptionTranslator exceptionTranslator = new ElasticsearchExceptionTranslator();
@@ -187,7 +204,7 @@ public class ElasticsearchRestTemplate extends AbstractElasticsearchTemplate {
 	protected boolean doExists(String id, IndexCoordinates index) {
 		GetRequest request = requestFactory.getRequest(id, routingResolver.getRouting(), index);
 		request.fetchSourceContext(FetchSourceContext.DO_NOT_FETCH_SOURCE);
-		return execute(client -> client.get(request, RequestOptions.DEFAULT).isExists());
+		return execute(client -> client.exists(request, RequestOptions.DEFAULT));
 	}
 
 	@Override
@@ -258,10 +275,15 @@ public class ElasticsearchRestTemplate extends AbstractElasticsearchTemplate {
 			IndexCoordinates index) {
 		BulkRequest bulkRequest = prepareWriteRequest(requestFactory.bulkRequest(queries, bulkOptions, index));
 		List<IndexedObjectInformation> indexedObjectInformationList = checkForBulkOperationFailure(
-				execute(client -> client.bulk(bulkRequest, RequestOptions.DEFAULT)));
+				retryRejectedItems(bulkRequest, doBulk(bulkRequest), bulkOptions));
 		updateIndexedObjectsWithQueries(queries, indexedObjectInformationList);
 		return indexedObjectInformationList;
 	}
+
+	@Override
+	protected BulkResponse doBulk(BulkRequest bulkRequest) {
+		return execute(client -> client.bulk(bulkRequest, RequestOptions.DEFAULT));
+	}
 	// endregion
 
 	// region SearchOperations
@@ -282,6 +304,18 @@ public class ElasticsearchRestTemplate extends AbstractElasticsearchTemplate {
 				.getTotalCount(execute(client -> client.search(searchRequest, RequestOptions.DEFAULT).getHits()));
 	}
 
+	@Override
+	public boolean exists(Query query, @Nullable Class<?> clazz, IndexCoordinates index) {
+
+		Assert.notNull(query, "query must not be null");
+		Assert.notNull(index, "index must not be null");
+
+		SearchRequest searchRequest = requestFactory.existsRequest(query, clazz, index);
+
+		return SearchHitsUtil
+				.getTotalCount(execute(client -> client.search(searchRequest, RequestOptions.DEFAULT).getHits())) > 0;
+	}
+
 	@Override
 	public <T> SearchHits<T> search(Query query, Class<T> clazz, IndexCoordinates index) {
 		SearchRequest searchRequest = requestFactory.searchRequest(query, clazz, index);
@@ -293,13 +327,17 @@ public class ElasticsearchRestTemplate extends AbstractElasticsearchTemplate {
 
 	@Override
 	public <T> SearchScrollHits<T> searchScrollStart(long scrollTimeInMillis, Query query, Class<T> clazz,
-			IndexCoordinates index) {
+			IndexCoordinates index, @Nullable SliceBuilder slice) {
 
 		Assert.notNull(query.getPageable(), "pageable of query must not be null.");
 
 		SearchRequest searchRequest = requestFactory.searchRequest(query, clazz, index);
 		searchRequest.scroll(TimeValue.timeValueMillis(scrollTimeInMillis));
 
+		if (slice != null) {
+			searchRequest.source().slice(slice);
+		}
+
 		SearchResponse response = execute(client -> client.search(searchRequest, RequestOptions.DEFAULT));
 
 		SearchDocumentResponseCallback<SearchScrollHits<T>> callback = new ReadSearchScrollDocumentResponseCallback<>(clazz,
@@ -332,6 +370,67 @@ public class ElasticsearchRestTemplate extends AbstractElasticsearchTemplate {
 		}
 	}
 
+	@Override
+	protected boolean isPointInTimeSupported() {
+		return true;
+	}
+
+	@Override
+	protected String openPointInTime(IndexCoordinates index, Duration keepAlive) {
+
+		Request request = RequestConverters.openPointInTime(index.getIndexNames(), timeValue(keepAlive));
+		return execute(client -> performRequest(client, request, OpenPointInTimeResponse::fromXContent)).getId();
+	}
+
+	@Override
+	protected <T> SearchScrollHits<T> searchWithPointInTime(Query query, Class<T> clazz, IndexCoordinates index,
+			String pointInTimeId, Duration keepAlive, @Nullable Object[] searchAfter) {
+
+		SearchRequest searchRequest = requestFactory.searchRequestWithPointInTime(query, clazz, index);
+		Request request = RequestConverters.searchWithPointInTime(searchRequest, pointInTimeId, timeValue(keepAlive),
+				searchAfter);
+		SearchResponse response = execute(client -> performRequest(client, request, SearchResponse::fromXContent));
+
+		// the id of the point in time may change with every search
+		String nextPointInTimeId = StringUtils.hasText(response.pointInTimeId()) ? response.pointInTimeId()
+				: pointInTimeId;
+
+		SearchDocumentResponseCallback<SearchScrollHits<T>> callback = new ReadSearchScrollDocumentResponseCallback<>(
+				clazz, index);
+		return callback
+				.doWith(SearchDocumentResponse.from(response.getHits(), nextPointInTimeId, response.getAggregations()));
+	}
+
+	@Override
+	protected void closePointInTime(String pointInTimeId) {
+		try {
+			Request request = RequestConverters.closePointInTime(pointInTimeId);
+			execute(client -> client.getLowLevelClient().performRequest(request));
+		} catch (Exception e) {
+			LOGGER.warn("Could not close point in time: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * executes a request that has no counterpart in the {@link RestHighLevelClient} with the low level client and parses
+	 * the response body.
+	 */
+	private static <R> R performRequest(RestHighLevelClient client, Request request,
+			CheckedFunction<XContentParser, R, IOException> entityParser) throws IOException {
+
+		Response response = client.getLowLevelClient().performRequest(request);
+
+		try (InputStream content = response.getEntity().getContent();
+				XContentParser parser = XContentType.JSON.xContent().createParser(NAMED_X_CONTENT_REGISTRY,
+						DeprecationHandler.THROW_UNSUPPORTED_OPERATION, content)) {
+			return entityParser.apply(parser);
+		}
+	}
+
+	private static TimeValue timeValue(Duration duration) {
+		return TimeValue.timeValueMillis(duration.toMillis());
+	}
+
 	@Override
 	public SearchResponse suggest(SuggestBuilder suggestion, IndexCoordinates index) {
 		SearchRequest searchRequest = requestFactory.searchRequest(suggestion, index);
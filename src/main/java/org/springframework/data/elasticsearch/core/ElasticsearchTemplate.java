@@ -22,7 +22,9 @@ import org.elasticsearch.action.ActionFuture;
 import org.elasticsearch.action.admin.cluster.node.info.NodesInfoAction;
 import org.elasticsearch.action.admin.cluster.node.info.NodesInfoRequestBuilder;
 import org.elasticsearch.action.admin.cluster.node.info.NodesInfoResponse;
+import org.elasticsearch.action.bulk.BulkRequest;
 import org.elasticsearch.action.bulk.BulkRequestBuilder;
+import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.delete.DeleteRequestBuilder;
 import org.elasticsearch.action.get.GetRequestBuilder;
 import org.elasticsearch.action.get.GetResponse;
@@ -38,6 +40,7 @@ import org.elasticsearch.client.Client;
 import org.elasticsearch.common.unit.TimeValue;
 import org.elasticsearch.index.reindex.BulkByScrollResponse;
 import org.elasticsearch.index.reindex.UpdateByQueryRequestBuilder;
+import org.elasticsearch.search.slice.SliceBuilder;
 import org.elasticsearch.search.suggest.SuggestBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -285,10 +288,15 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 		BulkRequestBuilder bulkRequestBuilder = requestFactory.bulkRequestBuilder(client, queries, bulkOptions, index);
 		bulkRequestBuilder = prepareWriteRequestBuilder(bulkRequestBuilder);
 		final List<IndexedObjectInformation> indexedObjectInformations = checkForBulkOperationFailure(
-				bulkRequestBuilder.execute().actionGet());
+				retryRejectedItems(bulkRequestBuilder.request(), bulkRequestBuilder.execute().actionGet(), bulkOptions));
 		updateIndexedObjectsWithQueries(queries, indexedObjectInformations);
 		return indexedObjectInformations;
 	}
+
+	@Override
+	protected BulkResponse doBulk(BulkRequest bulkRequest) {
+		return client.bulk(bulkRequest).actionGet();
+	}
 	// endregion
 
 	// region SearchOperations
@@ -307,6 +315,17 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 		return SearchHitsUtil.getTotalCount(getSearchResponse(searchRequestBuilder).getHits());
 	}
 
+	@Override
+	public boolean exists(Query query, @Nullable Class<?> clazz, IndexCoordinates index) {
+
+		Assert.notNull(query, "query must not be null");
+		Assert.notNull(index, "index must not be null");
+
+		SearchRequestBuilder searchRequestBuilder = requestFactory.existsRequestBuilder(client, query, clazz, index);
+
+		return SearchHitsUtil.getTotalCount(getSearchResponse(searchRequestBuilder).getHits()) > 0;
+	}
+
 	@Override
 	public <T> SearchHits<T> search(Query query, Class<T> clazz, IndexCoordinates index) {
 		SearchRequestBuilder searchRequestBuilder = requestFactory.searchRequestBuilder(client, query, clazz, index);
@@ -318,13 +337,18 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 
 	@Override
 	public <T> SearchScrollHits<T> searchScrollStart(long scrollTimeInMillis, Query query, Class<T> clazz,
-			IndexCoordinates index) {
+			IndexCoordinates index, @Nullable SliceBuilder slice) {
 
 		Assert.notNull(query.getPageable(), "pageable of query must not be null.");
 
-		ActionFuture<SearchResponse> action = requestFactory.searchRequestBuilder(client, query, clazz, index) //
-				.setScroll(TimeValue.timeValueMillis(scrollTimeInMillis)) //
-				.execute();
+		SearchRequestBuilder searchRequestBuilder = requestFactory.searchRequestBuilder(client, query, clazz, index) //
+				.setScroll(TimeValue.timeValueMillis(scrollTimeInMillis));
+
+		if (slice != null) {
+			searchRequestBuilder.slice(slice);
+		}
+
+		ActionFuture<SearchResponse> action = searchRequestBuilder.execute();
 
 		SearchResponse response = getSearchResponseWithTimeout(action);
 
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.elasticsearch.search.aggregations.Aggregations;
+import org.springframework.data.elasticsearch.client.util.ScrollState;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link SearchHitsIterator} that requests the following scroll pages on an {@link Executor} while the current page is
+ * consumed. At most {@code prefetch} pages are held in memory, the background task waits until the consumer has taken
+ * a page before it requests the next one.
+ *
+ * @param <T> the entity type
+ * @since 4.2
+ */
+class PrefetchingSearchHitsIterator<T> implements SearchHitsIterator<T> {
+
+	private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+	private final int maxCount;
+	private final Function<String, SearchScrollHits<T>> continueScrollFunction;
+	private final Consumer<List<String>> clearScrollConsumer;
+
+	@Nullable private final Aggregations aggregations;
+	private final float maxScore;
+	private final long totalHits;
+	private final TotalHitsRelation totalHitsRelation;
+
+	private final ScrollState scrollState;
+	private final BlockingQueue<PrefetchedPage<T>> pages;
+	private final CountDownLatch prefetchFinished = new CountDownLatch(1);
+	private final AtomicBoolean closed = new AtomicBoolean(false);
+	private volatile boolean closing = false;
+
+	private Iterator<SearchHit<T>> currentScrollHits;
+	private boolean exhausted = false;
+	private int currentCount = 0;
+
+	PrefetchingSearchHitsIterator(int maxCount, int prefetch, SearchScrollHits<T> searchHits,
+			Function<String, SearchScrollHits<T>> continueScrollFunction, Consumer<List<String>> clearScrollConsumer,
+			Executor executor) {
+
+		this.maxCount = maxCount;
+		this.continueScrollFunction = continueScrollFunction;
+		this.clearScrollConsumer = clearScrollConsumer;
+		this.aggregations = searchHits.getAggregations();
+		this.maxScore = searchHits.getMaxScore();
+		this.totalHits = searchHits.getTotalHits();
+		this.totalHitsRelation = searchHits.getTotalHitsRelation();
+		this.scrollState = new ScrollState(searchHits.getScrollId());
+		this.pages = new ArrayBlockingQueue<>(prefetch);
+		this.currentScrollHits = searchHits.iterator();
+
+		int fetched = searchHits.getSearchHits().size();
+
+		if (fetched == 0 || isMaxCountReached(fetched)) {
+			exhausted = true;
+			prefetchFinished.countDown();
+		} else {
+			try {
+				executor.execute(() -> prefetch(fetched));
+			} catch (RuntimeException e) {
+				prefetchFinished.countDown();
+				close();
+				throw e;
+			}
+		}
+	}
+
+	@Override
+	public void close() {
+
+		if (closed.compareAndSet(false, true)) {
+			closing = true;
+			pages.clear();
+
+			try {
+				prefetchFinished.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+
+			pages.clear();
+			clearScrollConsumer.accept(scrollState.getScrollIds());
+		}
+	}
+
+	@Override
+	@Nullable
+	public Aggregations getAggregations() {
+		return aggregations;
+	}
+
+	@Override
+	public float getMaxScore() {
+		return maxScore;
+	}
+
+	@Override
+	public long getTotalHits() {
+		return totalHits;
+	}
+
+	@Override
+	public TotalHitsRelation getTotalHitsRelation() {
+		return totalHitsRelation;
+	}
+
+	@Override
+	public boolean hasNext() {
+
+		if (closed.get()) {
+			return false;
+		}
+
+		if (isMaxCountReached(currentCount)) {
+			close();
+			return false;
+		}
+
+		while (!currentScrollHits.hasNext()) {
+
+			if (exhausted) {
+				close();
+				return false;
+			}
+
+			PrefetchedPage<T> page = takePage();
+
+			if (page.failure != null) {
+				close();
+				throw page.failure;
+			}
+
+			if (page.searchHits == null) {
+				exhausted = true;
+			} else {
+				currentScrollHits = page.searchHits.iterator();
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public SearchHit<T> next() {
+
+		if (hasNext()) {
+			currentCount++;
+			return currentScrollHits.next();
+		}
+		throw new NoSuchElementException();
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+
+	private boolean isMaxCountReached(int count) {
+		return maxCount > 0 && count >= maxCount;
+	}
+
+	private PrefetchedPage<T> takePage() {
+
+		try {
+			return pages.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			close();
+			throw new IllegalStateException("interrupted while waiting for the next scroll page", e);
+		}
+	}
+
+	/**
+	 * Requests the scroll pages one after the other until there are no more hits, maxCount hits are fetched or the
+	 * iterator is closed. Runs on the executor.
+	 */
+	private void prefetch(int alreadyFetched) {
+
+		int fetched = alreadyFetched;
+
+		try {
+			while (!closing) {
+				SearchScrollHits<T> page = continueScrollFunction.apply(scrollState.getScrollId());
+				scrollState.updateScrollId(page.getScrollId());
+
+				if (!page.hasSearchHits()) {
+					break;
+				}
+
+				fetched += page.getSearchHits().size();
+
+				if (!enqueue(new PrefetchedPage<>(page, null)) || isMaxCountReached(fetched)) {
+					break;
+				}
+			}
+
+			enqueue(new PrefetchedPage<>(null, null));
+		} catch (RuntimeException e) {
+			enqueue(new PrefetchedPage<>(null, e));
+		} finally {
+			prefetchFinished.countDown();
+		}
+	}
+
+	/**
+	 * puts a page into the queue, waiting for free space until the iterator is closed.
+	 *
+	 * @return {@literal true} if the page was added
+	 */
+	private boolean enqueue(PrefetchedPage<T> page) {
+
+		try {
+			while (!closing) {
+				if (pages.offer(page, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+					return true;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		return false;
+	}
+
+	/**
+	 * A fetched page, the end marker when both properties are {@literal null} or the failure of the request.
+	 */
+	private static class PrefetchedPage<T> {
+		@Nullable private final SearchScrollHits<T> searchHits;
+		@Nullable private final RuntimeException failure;
+
+		PrefetchedPage(@Nullable SearchScrollHits<T> searchHits, @Nullable RuntimeException failure) {
+			this.searchHits = searchHits;
+			this.failure = failure;
+		}
+	}
+}
@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+import org.reactivestreams.Publisher;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.data.elasticsearch.core.query.BulkOptions;
 import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
@@ -142,6 +143,22 @@ public interface ReactiveDocumentOperations {
 	 */
 	<T> Flux<T> saveAll(Mono<? extends Collection<? extends T>> entities, IndexCoordinates index);
 
+	/**
+	 * Index the entities emitted by the given {@link Publisher} in the given {@literal index}. The entities are not
+	 * collected upfront but split into bulk requests that are sent when {@link BulkOptions#getMaxActions()} entities or
+	 * {@link BulkOptions#getMaxSize()} bytes of source are collected, with at most
+	 * {@link BulkOptions#getMaxConcurrentBulks()} bulk requests in flight. The saved entities are emitted in the order
+	 * they were received.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param bulkOptions options for the bulk requests, must not be {@literal null}.
+	 * @param index the target index, must not be {@literal null}
+	 * @param <T>
+	 * @return a {@link Flux} emitting saved entities.
+	 * @since 4.2
+	 */
+	<T> Flux<T> saveAll(Publisher<T> entities, BulkOptions bulkOptions, IndexCoordinates index);
+
 	/**
 	 * Execute a multiGet against elasticsearch for the given ids.
 	 *
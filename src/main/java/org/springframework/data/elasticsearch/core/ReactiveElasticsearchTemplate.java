@@ -17,8 +17,10 @@ package org.springframework.data.elasticsearch.core;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 import reactor.util.function.Tuple2;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -38,11 +40,13 @@ import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.support.IndicesOptions;
 import org.elasticsearch.action.support.WriteRequest;
 import org.elasticsearch.action.update.UpdateRequest;
+import org.elasticsearch.common.unit.TimeValue;
 import org.elasticsearch.index.get.GetResult;
 import org.elasticsearch.index.reindex.BulkByScrollResponse;
 import org.elasticsearch.index.reindex.DeleteByQueryRequest;
 import org.elasticsearch.index.reindex.UpdateByQueryRequest;
 import org.elasticsearch.search.aggregations.Aggregation;
+import org.elasticsearch.search.slice.SliceBuilder;
 import org.elasticsearch.search.suggest.Suggest;
 import org.elasticsearch.search.suggest.SuggestBuilder;
 import org.reactivestreams.Publisher;
@@ -79,6 +83,7 @@ import org.springframework.data.elasticsearch.core.query.UpdateQuery;
 import org.springframework.data.elasticsearch.core.query.UpdateResponse;
 import org.springframework.data.elasticsearch.core.routing.DefaultRoutingResolver;
 import org.springframework.data.elasticsearch.core.routing.RoutingResolver;
+import org.springframework.data.elasticsearch.support.SearchHitsUtil;
 import org.springframework.data.elasticsearch.support.VersionInfo;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.callback.ReactiveEntityCallbacks;
@@ -106,6 +111,14 @@ public class ReactiveElasticsearchTemplate implements ReactiveElasticsearchOpera
 	private static final Logger QUERY_LOGGER = LoggerFactory
 			.getLogger("org.springframework.data.elasticsearch.core.QUERY");
 
+	/**
+	 * The default number of search hits from which on the entities of a search page are converted in parallel when an
+	 * {@link #setEntityConversionScheduler(Scheduler) entity conversion scheduler} is set.
+	 *
+	 * @since 4.2
+	 */
+	public static final int DEFAULT_PARALLEL_ENTITY_CONVERSION_THRESHOLD = 1000;
+
 	private final ReactiveElasticsearchClient client;
 	private final ElasticsearchConverter converter;
 	private final SimpleElasticsearchMappingContext mappingContext;
@@ -120,6 +133,10 @@ public class ReactiveElasticsearchTemplate implements ReactiveElasticsearchOpera
 
 	private RoutingResolver routingResolver;
 
+	private @Nullable Scheduler entityConversionScheduler;
+	private int parallelEntityConversionThreshold = DEFAULT_PARALLEL_ENTITY_CONVERSION_THRESHOLD;
+	private int unpagedFirstPageSize = 0;
+
 	// region Initialization
 	public ReactiveElasticsearchTemplate(ReactiveElasticsearchClient client) {
 		this(client, new MappingElasticsearchConverter(new SimpleElasticsearchMappingContext()));
@@ -150,6 +167,9 @@ public class ReactiveElasticsearchTemplate implements ReactiveElasticsearchOpera
 		copy.setIndicesOptions(indicesOptions);
 		copy.setEntityCallbacks(entityCallbacks);
 		copy.setRoutingResolver(routingResolver);
+		copy.setEntityConversionScheduler(entityConversionScheduler);
+		copy.setParallelEntityConversionThreshold(parallelEntityConversionThreshold);
+		copy.setUnpagedFirstPageSize(unpagedFirstPageSize);
 		return copy;
 	}
 
@@ -210,6 +230,51 @@ public class ReactiveElasticsearchTemplate implements ReactiveElasticsearchOpera
 
 		this.entityCallbacks = entityCallbacks;
 	}
+
+	/**
+	 * Set the {@link Scheduler} that converts the hits of a search page to entities in parallel when the response
+	 * contains at least {@link #setParallelEntityConversionThreshold(int) threshold} hits. The order of the hits is kept
+	 * and the {@link ReactiveAfterConvertCallback}s are invoked on the threads of the scheduler. Defaults to
+	 * {@literal null} which converts all hits on the thread that receives the response.
+	 *
+	 * @param entityConversionScheduler can be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setEntityConversionScheduler(@Nullable Scheduler entityConversionScheduler) {
+		this.entityConversionScheduler = entityConversionScheduler;
+	}
+
+	/**
+	 * Set the number of hits from which on a search page is converted in parallel when an
+	 * {@link #setEntityConversionScheduler(Scheduler) entity conversion scheduler} is set. Defaults to
+	 * {@link #DEFAULT_PARALLEL_ENTITY_CONVERSION_THRESHOLD}.
+	 *
+	 * @param parallelEntityConversionThreshold must be greater than 0.
+	 * @since 4.2
+	 */
+	public void setParallelEntityConversionThreshold(int parallelEntityConversionThreshold) {
+
+		Assert.isTrue(parallelEntityConversionThreshold > 0, "parallelEntityConversionThreshold must be greater than 0");
+
+		this.parallelEntityConversionThreshold = parallelEntityConversionThreshold;
+	}
+
+	/**
+	 * Set the size of the first page of unpaged searches. When set, an unpaged and not limiting search first requests a
+	 * single page of this size without opening a scroll context. If this page contains all hits, they are returned
+	 * directly, otherwise all hits are read from the start with a scroll context or, if the query has a
+	 * {@link Query#getPointInTimeKeepAlive() point in time keep alive}, with {@literal search_after}. Defaults to 0 which
+	 * always reads the hits of unpaged searches with a scroll context or point in time.
+	 *
+	 * @param unpagedFirstPageSize the size of the first page, 0 to disable the first page, must not be negative.
+	 * @since 4.2
+	 */
+	public void setUnpagedFirstPageSize(int unpagedFirstPageSize) {
+
+		Assert.isTrue(unpagedFirstPageSize >= 0, "unpagedFirstPageSize must not be negative");
+
+		this.unpagedFirstPageSize = unpagedFirstPageSize;
+	}
 	// endregion
 
 	// region DocumentOperations
@@ -272,6 +337,42 @@ public class ReactiveElasticsearchTemplate implements ReactiveElasticsearchOpera
 				});
 	}
 
+	@Override
+	public <T> Flux<T> saveAll(Publisher<T> entities, BulkOptions bulkOptions, IndexCoordinates index) {
+
+		Assert.notNull(entities, "Entities must not be null!");
+		Assert.notNull(bulkOptions, "BulkOptions must not be null!");
+		Assert.notNull(index, "Index must not be null!");
+
+		return Flux.defer(() -> {
+
+			BulkLimit bulkLimit = new BulkLimit(bulkOptions);
+
+			return Flux.from(entities) //
+					.concatMap(entity -> maybeCallBeforeConvert(entity, index)) //
+					.map(entity -> new EntityIndexRequest<>(entity, requestFactory.indexRequest(getIndexQuery(entity), index))) //
+					.bufferUntil(bulkLimit::reachedWith) //
+					.flatMapSequential(bulk -> doBulkIndex(bulk, bulkOptions, index), bulkOptions.getMaxConcurrentBulks());
+		});
+	}
+
+	private <T> Flux<T> doBulkIndex(List<EntityIndexRequest<T>> bulk, BulkOptions bulkOptions, IndexCoordinates index) {
+
+		BulkRequest bulkRequest = requestFactory.bulkRequest(bulkOptions);
+		bulk.forEach(entityIndexRequest -> bulkRequest.add(entityIndexRequest.indexRequest));
+
+		return doBulkOperation(prepareWriteRequest(bulkRequest), bulkOptions) //
+				.index() //
+				.concatMap(indexAndResponse -> {
+					T savedEntity = bulk.get(indexAndResponse.getT1().intValue()).entity;
+					DocWriteResponse response = indexAndResponse.getT2().getResponse();
+					updateIndexedObject(savedEntity, IndexedObjectInformation.of(response.getId(), response.getSeqNo(),
+							response.getPrimaryTerm(), response.getVersion()));
+
+					return maybeCallAfterSave(savedEntity, index);
+				});
+	}
+
 	private <T> T updateIndexedObject(T entity, IndexedObjectInformation indexedObjectInformation) {
 		AdaptibleEntity<T> adaptibleEntity = operations.forEntity(entity, converter.getConversionService(),
 				routingResolver);
@@ -345,13 +446,50 @@ public class ReactiveElasticsearchTemplate implements ReactiveElasticsearchOpera
 
 	protected Flux<BulkItemResponse> doBulkOperation(List<?> queries, BulkOptions bulkOptions, IndexCoordinates index) {
 		BulkRequest bulkRequest = prepareWriteRequest(requestFactory.bulkRequest(queries, bulkOptions, index));
-		return client.bulk(bulkRequest) //
-				.onErrorMap(
-						e -> new UncategorizedElasticsearchException("Error while bulk for request: " + bulkRequest.toString(), e)) //
+		return doBulkOperation(bulkRequest, bulkOptions);
+	}
+
+	private Flux<BulkItemResponse> doBulkOperation(BulkRequest bulkRequest, BulkOptions bulkOptions) {
+		return doBulk(bulkRequest) //
+				.flatMap(response -> retryRejectedItems(bulkRequest, response, bulkOptions, 0)) //
 				.flatMap(this::checkForBulkOperationFailure) //
 				.flatMapMany(response -> Flux.fromArray(response.getItems()));
 	}
 
+	private Mono<BulkResponse> doBulk(BulkRequest bulkRequest) {
+		return client.bulk(bulkRequest) //
+				.onErrorMap(
+						e -> new UncategorizedElasticsearchException("Error while bulk for request: " + bulkRequest.toString(), e));
+	}
+
+	/**
+	 * Sends the items of a bulk request that were rejected by the cluster again, up to
+	 * {@link BulkOptions#getMaxRetries()} times with an exponential backoff starting at
+	 * {@link BulkOptions#getRetryBackoff()}. The items of the returned response are in the order of the original
+	 * request.
+	 */
+	private Mono<BulkResponse> retryRejectedItems(BulkRequest bulkRequest, BulkResponse bulkResponse,
+			BulkOptions bulkOptions, int retry) {
+
+		if (retry >= bulkOptions.getMaxRetries()) {
+			return Mono.just(bulkResponse);
+		}
+
+		List<Integer> positions = BulkRetrySupport.rejectedItemPositions(bulkResponse);
+
+		if (positions.isEmpty()) {
+			return Mono.just(bulkResponse);
+		}
+
+		BulkRequest retryRequest = prepareWriteRequest(
+				BulkRetrySupport.addItems(requestFactory.bulkRequest(bulkOptions), bulkRequest, positions));
+
+		return Mono.delay(Duration.ofMillis(BulkRetrySupport.backoffMillis(bulkOptions, retry))) //
+				.then(Mono.defer(() -> doBulk(retryRequest))) //
+				.flatMap(retryResponse -> retryRejectedItems(bulkRequest,
+						BulkRetrySupport.merge(bulkResponse, positions, retryResponse), bulkOptions, retry + 1));
+	}
+
 	protected Mono<BulkResponse> checkForBulkOperationFailure(BulkResponse bulkResponse) {
 
 		if (bulkResponse.hasFailures()) {
@@ -707,6 +845,38 @@ public class ReactiveElasticsearchTemplate implements ReactiveElasticsearchOpera
 		return search(query, entityType, returnType, getIndexCoordinatesFor(entityType));
 	}
 
+	@Override
+	public <T> Flux<SearchHit<T>> search(Query query, Class<T> entityType, int slices) {
+		return search(query, entityType, entityType, slices, getIndexCoordinatesFor(entityType));
+	}
+
+	@Override
+	public <T> Flux<SearchHit<T>> search(Query query, Class<?> entityType, Class<T> resultType, int slices,
+			IndexCoordinates index) {
+
+		Assert.isTrue(slices > 0, "slices must be greater than 0");
+
+		SearchDocumentCallback<T> callback = new ReadSearchDocumentCallback<>(resultType, index);
+
+		Flux<SearchDocument> searchDocuments = Flux.range(0, slices) //
+				.flatMap(slice -> Flux.defer(() -> {
+					SearchRequest request = prepareSearchRequest(scrollRequest(query, entityType, index));
+
+					if (slices > 1) {
+						request.source().slice(new SliceBuilder(slice, slices));
+					}
+
+					return doScroll(request);
+				}), slices);
+
+		if (query.isLimiting()) {
+			// noinspection ConstantConditions
+			searchDocuments = searchDocuments.take(query.getMaxResults());
+		}
+
+		return searchDocuments.concatMap(callback::toSearchHit);
+	}
+
 	@Override
 	public <T> Mono<SearchPage<T>> searchForPage(Query query, Class<?> entityType, Class<T> resultType) {
 		return searchForPage(query, entityType, resultType, getIndexCoordinatesFor(entityType));
@@ -719,28 +889,97 @@ public class ReactiveElasticsearchTemplate implements ReactiveElasticsearchOpera
 		SearchDocumentCallback<T> callback = new ReadSearchDocumentCallback<>(resultType, index);
 
 		return doFindForResponse(query, entityType, index) //
-				.flatMap(searchDocumentResponse -> Flux.fromIterable(searchDocumentResponse.getSearchDocuments()) //
-						.flatMap(callback::toEntity) //
+				.flatMap(searchDocumentResponse -> toEntities(searchDocumentResponse.getSearchDocuments(), callback) //
 						.collectList() //
 						.map(entities -> SearchHitMapping.mappingFor(resultType, converter) //
 								.mapHits(searchDocumentResponse, entities))) //
 				.map(searchHits -> SearchHitSupport.searchPageFor(searchHits, query.getPageable()));
 	}
 
+	private <T> Flux<T> toEntities(List<SearchDocument> searchDocuments, SearchDocumentCallback<T> callback) {
+
+		Scheduler scheduler = entityConversionScheduler;
+
+		if (scheduler == null || searchDocuments.size() < parallelEntityConversionThreshold) {
+			return Flux.fromIterable(searchDocuments).flatMap(callback::toEntity);
+		}
+
+		// the documents are converted concurrently, flatMapSequential emits the entities in the order of the hits
+		return Flux.fromIterable(searchDocuments) //
+				.flatMapSequential(searchDocument -> Mono.defer(() -> callback.toEntity(searchDocument)) //
+						.subscribeOn(scheduler));
+	}
+
 	private Flux<SearchDocument> doFind(Query query, Class<?> clazz, IndexCoordinates index) {
 
 		return Flux.defer(() -> {
-			SearchRequest request = requestFactory.searchRequest(query, clazz, index);
-			request = prepareSearchRequest(request);
 
 			if (query.getPageable().isPaged() || query.isLimiting()) {
-				return doFind(request);
-			} else {
-				return doScroll(request);
+				return doFind(prepareSearchRequest(requestFactory.searchRequest(query, clazz, index)));
+			}
+
+			int firstPageSize = unpagedFirstPageSize;
+
+			if (firstPageSize == 0) {
+				return doStream(query, clazz, index);
 			}
+
+			SearchRequest request = prepareSearchRequest(requestFactory.searchRequest(query, clazz, index));
+			request.source().size(firstPageSize);
+
+			return doFindForResponse(request) //
+					.flatMapMany(response -> {
+						List<SearchDocument> searchDocuments = response.getSearchDocuments();
+
+						if (searchDocuments.size() < firstPageSize
+								|| (TotalHitsRelation.EQUAL_TO.name().equals(response.getTotalHitsRelation())
+										&& response.getTotalHits() <= searchDocuments.size())) {
+							return Flux.fromIterable(searchDocuments);
+						}
+
+						// there are more hits than fit into the first page, read all of them from the start
+						return doStream(query, clazz, index);
+					}) //
+					.onErrorResume(NoSuchIndexException.class, it -> Mono.empty());
 		});
 	}
 
+	private Flux<SearchDocument> doStream(Query query, @Nullable Class<?> clazz, IndexCoordinates index) {
+
+		Duration pointInTimeKeepAlive = query.getPointInTimeKeepAlive();
+
+		if (pointInTimeKeepAlive != null) {
+			SearchRequest request = requestFactory.searchRequestWithPointInTime(query, clazz, index);
+
+			if (query.getScrollSize() != null) {
+				request.source().size(query.getScrollSize());
+			}
+
+			return doSearchWithPointInTime(prepareSearchRequest(request), pointInTimeKeepAlive);
+		}
+
+		return doScroll(prepareSearchRequest(scrollRequest(query, clazz, index)));
+	}
+
+	/**
+	 * Creates the {@link SearchRequest} for reading the hits of a query with a scroll context, using the
+	 * {@link Query#getScrollSize() scroll size} and {@link Query#getScrollTime() scroll time} of the query if set.
+	 */
+	private SearchRequest scrollRequest(Query query, @Nullable Class<?> clazz, IndexCoordinates index) {
+
+		SearchRequest request = requestFactory.searchRequest(query, clazz, index);
+
+		if (query.getScrollSize() != null) {
+			request.source().size(query.getScrollSize());
+		}
+
+		if (query.getScrollTime() != null) {
+			request.scroll(TimeValue.timeValueMillis(query.getScrollTime().toMillis()));
+		}
+
+		return request;
+	}
+
 	private Mono<SearchDocumentResponse> doFindForResponse(Query query, Class<?> clazz, IndexCoordinates index) {
 
 		return Mono.defer(() -> {
@@ -804,6 +1043,21 @@ public class ReactiveElasticsearchTemplate implements ReactiveElasticsearchOpera
 		});
 	}
 
+	@Override
+	public Mono<Boolean> exists(Query query, Class<?> entityType) {
+		return exists(query, entityType, getIndexCoordinatesFor(entityType));
+	}
+
+	@Override
+	public Mono<Boolean> exists(Query query, Class<?> entityType, IndexCoordinates index) {
+		return Mono.defer(() -> {
+
+			SearchRequest request = requestFactory.existsRequest(query, entityType, index);
+			request = prepareSearchRequest(request);
+			return doExists(request);
+		});
+	}
+
 	/**
 	 * Customization hook on the actual execution result {@link Publisher}. <br />
 	 *
@@ -867,6 +1121,24 @@ public class ReactiveElasticsearchTemplate implements ReactiveElasticsearchOpera
 				.onErrorResume(NoSuchIndexException.class, it -> Mono.just(0L));
 	}
 
+	/**
+	 * Customization hook on the actual execution result {@link Publisher}. <br />
+	 *
+	 * @param request the already prepared exists {@link SearchRequest} ready to be executed.
+	 * @return a {@link Mono} emitting {@literal true} if the search found a matching document.
+	 * @since 4.2
+	 */
+	protected Mono<Boolean> doExists(SearchRequest request) {
+
+		if (QUERY_LOGGER.isDebugEnabled()) {
+			QUERY_LOGGER.debug("Executing doExists: {}", request);
+		}
+
+		return Mono.from(execute(client -> client.searchForResponse(request))) //
+				.map(response -> SearchHitsUtil.getTotalCount(response.getHits()) > 0) //
+				.onErrorResume(NoSuchIndexException.class, it -> Mono.just(false));
+	}
+
 	/**
 	 * Customization hook on the actual execution result {@link Publisher}. <br />
 	 *
@@ -883,6 +1155,27 @@ public class ReactiveElasticsearchTemplate implements ReactiveElasticsearchOpera
 				.map(DocumentAdapters::from).onErrorResume(NoSuchIndexException.class, it -> Mono.empty());
 	}
 
+	/**
+	 * Customization hook on the actual execution result {@link Publisher} when reading all hits through a point in time
+	 * with search_after. <br />
+	 *
+	 * @param request the already prepared {@link SearchRequest} ready to be executed.
+	 * @param keepAlive how long the point in time is kept alive between two requests.
+	 * @return a {@link Flux} emitting the result of the operation converted to {@link SearchDocument}s.
+	 * @since 4.2
+	 */
+	protected Flux<SearchDocument> doSearchWithPointInTime(SearchRequest request, Duration keepAlive) {
+
+		if (QUERY_LOGGER.isDebugEnabled()) {
+			QUERY_LOGGER.debug("Executing doSearchWithPointInTime: {}", request);
+		}
+
+		TimeValue pointInTimeKeepAlive = TimeValue.timeValueMillis(keepAlive.toMillis());
+
+		return Flux.from(execute(client -> client.searchWithPointInTime(request, pointInTimeKeepAlive))) //
+				.map(DocumentAdapters::from).onErrorResume(NoSuchIndexException.class, it -> Mono.empty());
+	}
+
 	/**
 	 * Customization hook to modify a generated {@link SearchRequest} prior to its execution. Eg. by setting the
 	 * {@link SearchRequest#indicesOptions(IndicesOptions) indices options} if applicable.
@@ -1089,8 +1382,14 @@ public class ReactiveElasticsearchTemplate implements ReactiveElasticsearchOpera
 			this.type = type;
 		}
 
+		@SuppressWarnings("unchecked")
 		@Override
 		public Mono<T> toEntity(SearchDocument response) {
+
+			if (SearchHitMapping.isSearchDocumentType(type)) {
+				return Mono.just((T) response);
+			}
+
 			return delegate.toEntity(response);
 		}
 
@@ -1123,4 +1422,51 @@ public class ReactiveElasticsearchTemplate implements ReactiveElasticsearchOpera
 			return entities.get(intIndex);
 		}
 	}
+
+	/**
+	 * An entity together with the {@link IndexRequest} created for it.
+	 */
+	private static class EntityIndexRequest<T> {
+		private final T entity;
+		private final IndexRequest indexRequest;
+
+		private EntityIndexRequest(T entity, IndexRequest indexRequest) {
+			this.entity = entity;
+			this.indexRequest = indexRequest;
+		}
+
+		private long sizeInBytes() {
+			return indexRequest.source() != null ? indexRequest.source().length() : 0;
+		}
+	}
+
+	/**
+	 * Keeps track of the number of actions and the source size of the bulk that is currently collected and signals when
+	 * the bulk must be sent. Not thread safe, one instance per subscription.
+	 */
+	private static class BulkLimit {
+		private final int maxActions;
+		private final long maxSizeInBytes;
+		private int actions;
+		private long sizeInBytes;
+
+		private BulkLimit(BulkOptions bulkOptions) {
+			this.maxActions = bulkOptions.getMaxActions();
+			this.maxSizeInBytes = bulkOptions.getMaxSize().getBytes();
+		}
+
+		private boolean reachedWith(EntityIndexRequest<?> entityIndexRequest) {
+
+			actions++;
+			sizeInBytes += entityIndexRequest.sizeInBytes();
+
+			if (actions >= maxActions || sizeInBytes >= maxSizeInBytes) {
+				actions = 0;
+				sizeInBytes = 0;
+				return true;
+			}
+
+			return false;
+		}
+	}
 }
@@ -67,6 +67,30 @@ public interface ReactiveSearchOperations {
 	 */
 	Mono<Long> count(Query query, Class<?> entityType, IndexCoordinates index);
 
+	/**
+	 * Check if there is a document matching the given {@link Query}. This is cheaper than
+	 * {@link #count(Query, Class)} as the search stops at the first matching document and returns no hits.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @return a {@link Mono} emitting {@literal true} if a document matches the query.
+	 * @since 4.2
+	 */
+	Mono<Boolean> exists(Query query, Class<?> entityType);
+
+	/**
+	 * Check if there is a document matching the given {@link Query}. This is cheaper than
+	 * {@link #count(Query, Class, IndexCoordinates)} as the search stops at the first matching document and returns no
+	 * hits.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @param index the target index, must not be {@literal null}
+	 * @return a {@link Mono} emitting {@literal true} if a document matches the query.
+	 * @since 4.2
+	 */
+	Mono<Boolean> exists(Query query, Class<?> entityType, IndexCoordinates index);
+
 	/**
 	 * Search the index for entities matching the given {@link Query query}. <br />
 	 * {@link Pageable#isUnpaged() Unpaged} queries may overrule elasticsearch server defaults for page size by either
@@ -121,6 +145,37 @@ public interface ReactiveSearchOperations {
 	 */
 	<T> Flux<SearchHit<T>> search(Query query, Class<?> entityType, Class<T> resultType, IndexCoordinates index);
 
+	/**
+	 * Search the index for all entities matching the given {@link Query query} using a sliced scroll. The slices are
+	 * read concurrently and their hits are merged into the returned {@link Flux}, the order of the hits is not defined.
+	 * The scroll contexts of all slices are cleared on completion, error or cancellation.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @param slices the number of slices to split the scroll into, must be greater than 0
+	 * @param <T>
+	 * @return a {@link Flux} emitting matching entities one by one wrapped in a {@link SearchHit}.
+	 * @since 4.2
+	 */
+	<T> Flux<SearchHit<T>> search(Query query, Class<T> entityType, int slices);
+
+	/**
+	 * Search the index for all entities matching the given {@link Query query} using a sliced scroll. The slices are
+	 * read concurrently and their hits are merged into the returned {@link Flux}, the order of the hits is not defined.
+	 * The scroll contexts of all slices are cleared on completion, error or cancellation.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @param resultType the projection result type.
+	 * @param slices the number of slices to split the scroll into, must be greater than 0
+	 * @param index the target index, must not be {@literal null}
+	 * @param <T>
+	 * @return a {@link Flux} emitting matching entities one by one wrapped in a {@link SearchHit}.
+	 * @since 4.2
+	 */
+	<T> Flux<SearchHit<T>> search(Query query, Class<?> entityType, Class<T> resultType, int slices,
+			IndexCoordinates index);
+
 	/**
 	 * Search the index for entities matching the given {@link Query query}.
 	 *
@@ -128,6 +128,7 @@ class RequestFactory {
 
 	// the default max result window size of Elasticsearch
 	static final Integer INDEX_MAX_RESULT_WINDOW = 10_000;
+	private static final String POINT_IN_TIME_TIEBREAKER = "_id";
 
 	private final ElasticsearchConverter elasticsearchConverter;
 
@@ -213,7 +214,7 @@ class RequestFactory {
 				Query filterQuery = parameters.getFilterQuery();
 
 				if (filterQuery != null) {
-					elasticsearchConverter.updateQuery(filterQuery, parameters.getFilterQueryClass());
+					updateQuery(filterQuery, parameters.getFilterQueryClass());
 					QueryBuilder queryBuilder = getFilter(filterQuery);
 
 					if (queryBuilder == null) {
@@ -282,6 +283,27 @@ class RequestFactory {
 
 	// region bulk
 	public BulkRequest bulkRequest(List<?> queries, BulkOptions bulkOptions, IndexCoordinates index) {
+		BulkRequest bulkRequest = bulkRequest(bulkOptions);
+
+		queries.forEach(query -> {
+
+			if (query instanceof IndexQuery) {
+				bulkRequest.add(indexRequest((IndexQuery) query, index));
+			} else if (query instanceof UpdateQuery) {
+				bulkRequest.add(updateRequest((UpdateQuery) query, index));
+			}
+		});
+		return bulkRequest;
+	}
+
+	/**
+	 * creates an empty {@link BulkRequest} with the request level settings from the given {@link BulkOptions}.
+	 *
+	 * @param bulkOptions the options to apply
+	 * @return the BulkRequest
+	 * @since 4.2
+	 */
+	public BulkRequest bulkRequest(BulkOptions bulkOptions) {
 		BulkRequest bulkRequest = new BulkRequest();
 
 		if (bulkOptions.getTimeout() != null) {
@@ -304,14 +326,6 @@ class RequestFactory {
 			bulkRequest.routing(bulkOptions.getRoutingId());
 		}
 
-		queries.forEach(query -> {
-
-			if (query instanceof IndexQuery) {
-				bulkRequest.add(indexRequest((IndexQuery) query, index));
-			} else if (query instanceof UpdateQuery) {
-				bulkRequest.add(updateRequest((UpdateQuery) query, index));
-			}
-		});
 		return bulkRequest;
 	}
 
@@ -498,7 +512,7 @@ class RequestFactory {
 						Query filterQuery = parameters.getFilterQuery();
 
 						if (filterQuery != null) {
-							elasticsearchConverter.updateQuery(filterQuery, parameters.getFilterQueryClass());
+							updateQuery(filterQuery, parameters.getFilterQueryClass());
 							QueryBuilder queryBuilder = getFilter(filterQuery);
 
 							if (queryBuilder == null) {
@@ -569,7 +583,7 @@ class RequestFactory {
 						Query filterQuery = parameters.getFilterQuery();
 
 						if (filterQuery != null) {
-							elasticsearchConverter.updateQuery(filterQuery, parameters.getFilterQueryClass());
+							updateQuery(filterQuery, parameters.getFilterQueryClass());
 							QueryBuilder queryBuilder = getFilter(filterQuery);
 
 							if (queryBuilder == null) {
@@ -723,7 +737,7 @@ class RequestFactory {
 
 	private List<MultiGetRequest.Item> getMultiRequestItems(Query searchQuery, Class<?> clazz, IndexCoordinates index) {
 
-		elasticsearchConverter.updateQuery(searchQuery, clazz);
+		updateQuery(searchQuery, clazz);
 		List<MultiGetRequest.Item> items = new ArrayList<>();
 
 		FetchSourceContext fetchSourceContext = getFetchSourceContext(searchQuery);
@@ -763,7 +777,7 @@ class RequestFactory {
 			} else {
 				indexRequest = new IndexRequest(indexName);
 			}
-			indexRequest.source(elasticsearchConverter.mapObject(query.getObject()).toJson(), Requests.INDEX_CONTENT_TYPE);
+			indexRequest.source(elasticsearchConverter.writeJson(query.getObject()), Requests.INDEX_CONTENT_TYPE);
 		} else if (query.getSource() != null) {
 			indexRequest = new IndexRequest(indexName).id(query.getId()).source(query.getSource(),
 					Requests.INDEX_CONTENT_TYPE);
@@ -817,8 +831,7 @@ class RequestFactory {
 			} else {
 				indexRequestBuilder = client.prepareIndex(indexName, type);
 			}
-			indexRequestBuilder.setSource(elasticsearchConverter.mapObject(query.getObject()).toJson(),
-					Requests.INDEX_CONTENT_TYPE);
+			indexRequestBuilder.setSource(elasticsearchConverter.writeJson(query.getObject()), Requests.INDEX_CONTENT_TYPE);
 		} else if (query.getSource() != null) {
 			indexRequestBuilder = client.prepareIndex(indexName, type, query.getId()).setSource(query.getSource(),
 					Requests.INDEX_CONTENT_TYPE);
@@ -939,7 +952,7 @@ class RequestFactory {
 
 	public SearchRequest searchRequest(Query query, @Nullable Class<?> clazz, IndexCoordinates index) {
 
-		elasticsearchConverter.updateQuery(query, clazz);
+		updateQuery(query, clazz);
 		SearchRequest searchRequest = prepareSearchRequest(query, clazz, index);
 		QueryBuilder elasticsearchQuery = getQuery(query);
 		QueryBuilder elasticsearchFilter = getFilter(query);
@@ -954,10 +967,33 @@ class RequestFactory {
 
 	}
 
+	/**
+	 * Creates a {@link SearchRequest} for paging through the results of a point in time with {@literal search_after}. The
+	 * request starts at the first hit and is sorted by {@literal _id} as tiebreaker if the query does not sort by it.
+	 *
+	 * @since 4.2
+	 */
+	public SearchRequest searchRequestWithPointInTime(Query query, @Nullable Class<?> clazz, IndexCoordinates index) {
+
+		SearchRequest searchRequest = searchRequest(query, clazz, index);
+		SearchSourceBuilder sourceBuilder = searchRequest.source();
+		sourceBuilder.from(0);
+
+		boolean hasTiebreaker = sourceBuilder.sorts() != null && sourceBuilder.sorts().stream() //
+				.anyMatch(sort -> sort instanceof FieldSortBuilder
+						&& POINT_IN_TIME_TIEBREAKER.equals(((FieldSortBuilder) sort).getFieldName()));
+
+		if (!hasTiebreaker) {
+			sourceBuilder.sort(SortBuilders.fieldSort(POINT_IN_TIME_TIEBREAKER).order(SortOrder.ASC));
+		}
+
+		return searchRequest;
+	}
+
 	public SearchRequestBuilder searchRequestBuilder(Client client, Query query, @Nullable Class<?> clazz,
 			IndexCoordinates index) {
 
-		elasticsearchConverter.updateQuery(query, clazz);
+		updateQuery(query, clazz);
 		SearchRequestBuilder searchRequestBuilder = prepareSearchRequestBuilder(query, client, clazz, index);
 		QueryBuilder elasticsearchQuery = getQuery(query);
 		QueryBuilder elasticsearchFilter = getFilter(query);
@@ -971,6 +1007,43 @@ class RequestFactory {
 		return searchRequestBuilder;
 	}
 
+	/**
+	 * Creates a {@link SearchRequest} that only checks if there is a document matching the query: no hits are returned,
+	 * every shard stops after the first matching document and the total number of hits is only tracked up to 1. A
+	 * document exists if the total number of hits of the response is greater than 0.
+	 *
+	 * @since 4.2
+	 */
+	public SearchRequest existsRequest(Query query, @Nullable Class<?> clazz, IndexCoordinates index) {
+
+		SearchRequest searchRequest = searchRequest(query, clazz, index);
+		searchRequest.source() //
+				.from(0) //
+				.size(0) //
+				.terminateAfter(1) //
+				.trackTotalHitsUpTo(1) //
+				.fetchSource(false);
+		return searchRequest;
+	}
+
+	/**
+	 * Creates a {@link SearchRequestBuilder} that only checks if there is a document matching the query, see
+	 * {@link #existsRequest(Query, Class, IndexCoordinates)}.
+	 *
+	 * @since 4.2
+	 */
+	public SearchRequestBuilder existsRequestBuilder(Client client, Query query, @Nullable Class<?> clazz,
+			IndexCoordinates index) {
+
+		SearchRequestBuilder searchRequestBuilder = searchRequestBuilder(client, query, clazz, index);
+		searchRequestBuilder.setFrom(0);
+		searchRequestBuilder.setSize(0);
+		searchRequestBuilder.setTerminateAfter(1);
+		searchRequestBuilder.setTrackTotalHitsUpTo(1);
+		searchRequestBuilder.setFetchSource(false);
+		return searchRequestBuilder;
+	}
+
 	private SearchRequest prepareSearchRequest(Query query, @Nullable Class<?> clazz, IndexCoordinates indexCoordinates) {
 
 		String[] indexNames = indexCoordinates.getIndexNames();
@@ -1592,6 +1665,19 @@ class RequestFactory {
 	// endregion
 
 	// region helper functions
+	/**
+	 * maps the property names and values of the query for the domain class unless the query is a {@link CriteriaQuery}
+	 * that is already mapped, like the queries of derived repository methods.
+	 */
+	private void updateQuery(Query query, @Nullable Class<?> clazz) {
+
+		if (query instanceof CriteriaQuery && ((CriteriaQuery) query).isMapped()) {
+			return;
+		}
+
+		elasticsearchConverter.updateQuery(query, clazz);
+	}
+
 	@Nullable
 	private QueryBuilder getQuery(Query query) {
 		QueryBuilder elasticsearchQuery;
@@ -67,6 +67,31 @@ class SearchHitMapping<T> {
 		return new SearchHitMapping<>(entityClass, converter);
 	}
 
+	/**
+	 * Checks if the hits of a search for the given type are the {@link SearchDocument}s themselves. In this mode the
+	 * documents are neither converted nor passed to the after convert callbacks, and their source is only parsed when the
+	 * content of a document is accessed. This is the cheapest way to collect the ids and the other metadata of the hits.
+	 *
+	 * @param type the type of the search hits
+	 * @return {@literal true} if the documents are returned as they are
+	 * @since 4.2
+	 */
+	static boolean isSearchDocumentType(Class<?> type) {
+		return SearchDocument.class.equals(type);
+	}
+
+	/**
+	 * Returns the {@link SearchDocument}s of a response as the contents of the search hits, see
+	 * {@link #isSearchDocumentType(Class)}.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> List<T> searchDocumentsAsContents(SearchDocumentResponse searchDocumentResponse, Class<T> type) {
+
+		Assert.isTrue(isSearchDocumentType(type), "type must be SearchDocument");
+
+		return (List<T>) searchDocumentResponse.getSearchDocuments();
+	}
+
 	SearchHits<T> mapHits(SearchDocumentResponse searchDocumentResponse, List<T> contents) {
 		return mapHitsFromResponse(searchDocumentResponse, contents);
 	}
@@ -123,8 +148,8 @@ class SearchHitMapping<T> {
 	private Map<String, List<String>> getHighlightsAndRemapFieldNames(SearchDocument searchDocument) {
 		Map<String, List<String>> highlightFields = searchDocument.getHighlightFields();
 
-		if (highlightFields == null) {
-			return null;
+		if (highlightFields == null || highlightFields.isEmpty() || isSearchDocumentType(type)) {
+			return highlightFields;
 		}
 
 		ElasticsearchPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(type);
@@ -64,6 +64,30 @@ public interface SearchOperations {
 	 */
 	long count(Query query, @Nullable Class<?> clazz, IndexCoordinates index);
 
+	/**
+	 * checks if there is a document matching the given query. This is cheaper than {@link #count(Query, Class)} as the
+	 * search stops at the first matching document and returns no hits.
+	 *
+	 * @param query the query to execute
+	 * @param clazz the entity clazz used for property mapping and index name extraction
+	 * @return {@literal true} if a document matches the query
+	 * @since 4.2
+	 */
+	boolean exists(Query query, Class<?> clazz);
+
+	/**
+	 * checks if there is a document matching the given query. This is cheaper than
+	 * {@link #count(Query, Class, IndexCoordinates)} as the search stops at the first matching document and returns no
+	 * hits.
+	 *
+	 * @param query the query to execute
+	 * @param clazz the entity clazz used for property mapping
+	 * @param index the index to run the query against
+	 * @return {@literal true} if a document matches the query
+	 * @since 4.2
+	 */
+	boolean exists(Query query, @Nullable Class<?> clazz, IndexCoordinates index);
+
 	/**
 	 * Does a suggest query
 	 *
@@ -194,6 +218,34 @@ public interface SearchOperations {
 	 */
 	<T> SearchHits<T> search(MoreLikeThisQuery query, Class<T> clazz, IndexCoordinates index);
 
+	/**
+	 * Executes the given {@link Query} against elasticsearch and returns all matching hits, ignoring the
+	 * {@link Query#getPageable() pageable} of the query. The first page is requested with a normal search; if there are
+	 * more hits than fit into that page, all hits are read with {@link #searchForStream(Query, Class)}, so no separate
+	 * count request is needed and the result is not limited by the {@literal index.max_result_window} of the index.
+	 * Limiting queries are executed with a single search.
+	 *
+	 * @param <T> element return type
+	 * @param query the query to execute, it is used for the requests and left unchanged
+	 * @param clazz the entity clazz used for property mapping and index name extraction
+	 * @return SearchHits containing all found objects
+	 * @since 4.2
+	 */
+	<T> SearchHits<T> searchAll(Query query, Class<T> clazz);
+
+	/**
+	 * Executes the given {@link Query} against elasticsearch and returns all matching hits, ignoring the
+	 * {@link Query#getPageable() pageable} of the query. See {@link #searchAll(Query, Class)}.
+	 *
+	 * @param <T> element return type
+	 * @param query the query to execute, it is used for the requests and left unchanged
+	 * @param clazz the entity clazz used for property mapping
+	 * @param index the index to run the query against
+	 * @return SearchHits containing all found objects
+	 * @since 4.2
+	 */
+	<T> SearchHits<T> searchAll(Query query, Class<T> clazz, IndexCoordinates index);
+
 	/**
 	 * Executes the given {@link Query} against elasticsearch and return result as {@link SearchHitsIterator}.
 	 * <p>
@@ -220,4 +272,51 @@ public interface SearchOperations {
 	 *         are completed.
 	 */
 	<T> SearchHitsIterator<T> searchForStream(Query query, Class<T> clazz, IndexCoordinates index);
+
+	/**
+	 * Executes the given {@link Query} against elasticsearch as a sliced scroll and returns the merged hits of all slices
+	 * as {@link SearchHitsIterator}. The slices are read concurrently, the order of the returned hits is not defined.
+	 *
+	 * @param <T> element return type
+	 * @param query the query to execute
+	 * @param clazz the entity clazz used for property mapping and index name extraction
+	 * @param slices the number of slices to split the scroll into, must be greater than 0
+	 * @return a {@link SearchHitsIterator} that wraps the Elasticsearch scroll contexts of all slices and needs to be
+	 *         closed. The try-with-resources construct should be used to ensure that the close method is invoked after the
+	 *         operations are completed.
+	 * @since 4.2
+	 */
+	<T> SearchHitsIterator<T> searchForStream(Query query, Class<T> clazz, int slices);
+
+	/**
+	 * Executes the given {@link Query} against elasticsearch as a sliced scroll and returns the merged hits of all slices
+	 * as {@link SearchHitsIterator}. The slices are read concurrently, the order of the returned hits is not defined.
+	 *
+	 * @param <T> element return type
+	 * @param query the query to execute
+	 * @param clazz the entity clazz used for property mapping
+	 * @param slices the number of slices to split the scroll into, must be greater than 0
+	 * @param index the index to run the query against
+	 * @return a {@link SearchHitsIterator} that wraps the Elasticsearch scroll contexts of all slices and needs to be
+	 *         closed. The try-with-resources construct should be used to ensure that the close method is invoked after the
+	 *         operations are completed.
+	 * @since 4.2
+	 */
+	<T> SearchHitsIterator<T> searchForStream(Query query, Class<T> clazz, int slices, IndexCoordinates index);
+
+	/**
+	 * Executes the given {@link Query} against elasticsearch as a sliced scroll and returns one
+	 * {@link SearchHitsIterator} per slice, so that the slices can be processed independently.
+	 *
+	 * @param <T> element return type
+	 * @param query the query to execute
+	 * @param clazz the entity clazz used for property mapping
+	 * @param slices the number of slices to split the scroll into, must be greater than 0
+	 * @param index the index to run the query against
+	 * @return the {@link SearchHitsIterator}s of the slices, each wrapping an Elasticsearch scroll context that needs to
+	 *         be closed.
+	 * @since 4.2
+	 */
+	<T> List<SearchHitsIterator<T>> searchForSlicedStreams(Query query, Class<T> clazz, int slices,
+			IndexCoordinates index);
 }
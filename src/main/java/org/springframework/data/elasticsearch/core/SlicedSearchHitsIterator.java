@@ -0,0 +1,242 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.elasticsearch.search.aggregations.Aggregations;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * {@link SearchHitsIterator} that merges the hits of the slices of a sliced scroll. Every slice is read on its own
+ * thread of an executor that is bounded by the number of slices, the hits are handed to the consumer through a bounded
+ * queue. The order of the returned hits is not defined.
+ * <p>
+ * The total hits are the sum of the total hits of the slices, aggregations are not available as every slice only
+ * aggregates its part of the documents.
+ *
+ * @param <T> the entity type
+ * @since 4.2
+ */
+class SlicedSearchHitsIterator<T> implements SearchHitsIterator<T> {
+
+	private static final int QUEUE_CAPACITY = 1000;
+	private static final long OFFER_TIMEOUT_MILLIS = 100;
+	private static final Object SLICE_FINISHED = new Object();
+
+	private final int maxCount;
+	private final List<SearchHitsIterator<T>> slices;
+	private final float maxScore;
+	private final long totalHits;
+	private final TotalHitsRelation totalHitsRelation;
+
+	private final ExecutorService executor;
+	private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+	private final CountDownLatch slicesFinished;
+	private final AtomicBoolean closed = new AtomicBoolean(false);
+	private volatile boolean closing = false;
+
+	private int activeSlices;
+	private int currentCount = 0;
+	@Nullable private SearchHit<T> nextHit;
+
+	/**
+	 * @param maxCount the maximum number of hits to return, a value of 0 means that all available hits are returned
+	 * @param slices the already started iterators of the slices
+	 */
+	SlicedSearchHitsIterator(int maxCount, List<SearchHitsIterator<T>> slices) {
+
+		this.maxCount = maxCount;
+		this.slices = slices;
+		this.activeSlices = slices.size();
+		this.slicesFinished = new CountDownLatch(slices.size());
+
+		float maxScore = Float.NaN;
+		long totalHits = 0;
+		TotalHitsRelation totalHitsRelation = TotalHitsRelation.EQUAL_TO;
+
+		for (SearchHitsIterator<T> slice : slices) {
+			maxScore = Float.isNaN(maxScore) ? slice.getMaxScore() : Math.max(maxScore, slice.getMaxScore());
+			totalHits += slice.getTotalHits();
+
+			if (slice.getTotalHitsRelation() != TotalHitsRelation.EQUAL_TO) {
+				totalHitsRelation = TotalHitsRelation.GREATER_THAN_OR_EQUAL_TO;
+			}
+		}
+
+		this.maxScore = maxScore;
+		this.totalHits = totalHits;
+		this.totalHitsRelation = totalHitsRelation;
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("sliced-scroll-");
+		threadFactory.setDaemon(true);
+		this.executor = Executors.newFixedThreadPool(slices.size(), threadFactory);
+
+		slices.forEach(slice -> executor.execute(() -> read(slice)));
+	}
+
+	@Override
+	public void close() {
+
+		if (closed.compareAndSet(false, true)) {
+			closing = true;
+			queue.clear();
+			executor.shutdown();
+
+			try {
+				slicesFinished.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+
+			queue.clear();
+			slices.forEach(SearchHitsIterator::close);
+		}
+	}
+
+	@Override
+	@Nullable
+	public Aggregations getAggregations() {
+		return null;
+	}
+
+	@Override
+	public float getMaxScore() {
+		return maxScore;
+	}
+
+	@Override
+	public long getTotalHits() {
+		return totalHits;
+	}
+
+	@Override
+	public TotalHitsRelation getTotalHitsRelation() {
+		return totalHitsRelation;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean hasNext() {
+
+		if (nextHit != null) {
+			return true;
+		}
+
+		if (closed.get()) {
+			return false;
+		}
+
+		if (maxCount > 0 && currentCount >= maxCount) {
+			close();
+			return false;
+		}
+
+		while (activeSlices > 0) {
+			Object element = take();
+
+			if (element == SLICE_FINISHED) {
+				activeSlices--;
+			} else if (element instanceof RuntimeException) {
+				close();
+				throw (RuntimeException) element;
+			} else {
+				nextHit = (SearchHit<T>) element;
+				return true;
+			}
+		}
+
+		close();
+		return false;
+	}
+
+	@Override
+	public SearchHit<T> next() {
+
+		if (hasNext()) {
+			SearchHit<T> hit = nextHit;
+			nextHit = null;
+			currentCount++;
+			return hit;
+		}
+		throw new NoSuchElementException();
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+
+	private Object take() {
+
+		try {
+			return queue.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			close();
+			throw new IllegalStateException("interrupted while waiting for the next search hit", e);
+		}
+	}
+
+	/**
+	 * Reads the hits of one slice into the queue. Runs on the executor.
+	 */
+	private void read(SearchHitsIterator<T> slice) {
+
+		try {
+			while (!closing && slice.hasNext()) {
+				if (!enqueue(slice.next())) {
+					return;
+				}
+			}
+
+			enqueue(SLICE_FINISHED);
+		} catch (RuntimeException e) {
+			enqueue(e);
+		} finally {
+			slicesFinished.countDown();
+		}
+	}
+
+	/**
+	 * puts an element into the queue, waiting for free space until the iterator is closed.
+	 *
+	 * @return {@literal true} if the element was added
+	 */
+	private boolean enqueue(Object element) {
+
+		try {
+			while (!closing) {
+				if (queue.offer(element, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+					return true;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		return false;
+	}
+}
@@ -18,6 +18,7 @@ package org.springframework.data.elasticsearch.core;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -136,6 +137,39 @@ abstract class StreamQueries {
 		};
 	}
 
+	/**
+	 * Stream query results using {@link SearchScrollHits}, requesting up to {@code prefetch} following pages on the
+	 * given executor while the current page is consumed.
+	 *
+	 * @param maxCount the maximum number of entities to return, a value of 0 means that all available entities are
+	 *          returned
+	 * @param prefetch the number of pages to request ahead, a value of 0 disables prefetching
+	 * @param searchHits the initial hits
+	 * @param continueScrollFunction function to continue scrolling applies to the current scrollId.
+	 * @param clearScrollConsumer consumer to clear the scroll context by accepting the scrollIds to clear.
+	 * @param executor the executor to request the following pages on
+	 * @param <T> the entity type
+	 * @return the {@link SearchHitsIterator}.
+	 * @since 4.2
+	 */
+	static <T> SearchHitsIterator<T> streamResults(int maxCount, int prefetch, SearchScrollHits<T> searchHits,
+			Function<String, SearchScrollHits<T>> continueScrollFunction, Consumer<List<String>> clearScrollConsumer,
+			Executor executor) {
+
+		if (prefetch <= 0) {
+			return streamResults(maxCount, searchHits, continueScrollFunction, clearScrollConsumer);
+		}
+
+		Assert.notNull(searchHits, "searchHits must not be null.");
+		Assert.notNull(searchHits.getScrollId(), "scrollId of searchHits must not be null.");
+		Assert.notNull(continueScrollFunction, "continueScrollFunction must not be null.");
+		Assert.notNull(clearScrollConsumer, "clearScrollConsumer must not be null.");
+		Assert.notNull(executor, "executor must not be null.");
+
+		return new PrefetchingSearchHitsIterator<>(maxCount, prefetch, searchHits, continueScrollFunction,
+				clearScrollConsumer, executor);
+	}
+
 	// utility constructor
 	private StreamQueries() {}
 }
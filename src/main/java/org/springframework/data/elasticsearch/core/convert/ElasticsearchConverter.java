@@ -15,8 +15,11 @@
  */
 package org.springframework.data.elasticsearch.core.convert;
 
+import java.nio.charset.StandardCharsets;
+
 import org.springframework.data.convert.EntityConverter;
 import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.MappingCache;
 import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
 import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentProperty;
 import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
@@ -47,6 +50,17 @@ public interface ElasticsearchConverter
 		return new SpelAwareProxyProjectionFactory();
 	}
 
+	/**
+	 * Get the {@link MappingCache} for the entities of this converter. <br />
+	 * <strong>NOTE</strong> Should be overwritten in implementation so that the mappings and settings are cached for the
+	 * lifetime of the converter.
+	 *
+	 * @since 4.2
+	 */
+	default MappingCache getMappingCache() {
+		return new MappingCache(this);
+	}
+
 	// region write
 	/**
 	 * Convert a given {@literal idValue} to its {@link String} representation taking potentially registered
@@ -82,6 +96,20 @@ public interface ElasticsearchConverter
 		}
 		return target;
 	}
+
+	/**
+	 * Map an object to its JSON representation as it is sent to Elasticsearch.
+	 *
+	 * @param source the object to map, must not be {@literal null}
+	 * @return the UTF-8 encoded JSON, the same as the one created by {@code mapObject(source).toJson()}
+	 * @since 4.2
+	 */
+	default byte[] writeJson(Object source) {
+
+		Assert.notNull(source, "source must not be null");
+
+		return mapObject(source).toJson().getBytes(StandardCharsets.UTF_8);
+	}
 	// endregion
 
 	// region query
@@ -17,19 +17,31 @@ package org.springframework.data.elasticsearch.core.convert;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.time.DateTimeException;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Year;
+import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalQuery;
 import java.util.Date;
-import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -41,8 +53,29 @@ import org.springframework.util.Assert;
  */
 final public class ElasticsearchDateConverter {
 
+	private static final ZoneId UTC = ZoneId.of("UTC");
+
 	private static final ConcurrentHashMap<String, ElasticsearchDateConverter> converters = new ConcurrentHashMap<>();
 
+	/**
+	 * the queries to create the target types from a parsed value, the queries for the java.time types are registered
+	 * upfront, others are created on first use.
+	 */
+	private static final Map<Class<?>, TemporalQuery<?>> temporalQueries = new ConcurrentHashMap<>();
+
+	static {
+		temporalQueries.put(Instant.class, (TemporalQuery<Instant>) Instant::from);
+		temporalQueries.put(LocalDate.class, (TemporalQuery<LocalDate>) LocalDate::from);
+		temporalQueries.put(LocalDateTime.class, (TemporalQuery<LocalDateTime>) LocalDateTime::from);
+		temporalQueries.put(LocalTime.class, (TemporalQuery<LocalTime>) LocalTime::from);
+		temporalQueries.put(ZonedDateTime.class, (TemporalQuery<ZonedDateTime>) ZonedDateTime::from);
+		temporalQueries.put(OffsetDateTime.class, (TemporalQuery<OffsetDateTime>) OffsetDateTime::from);
+		temporalQueries.put(OffsetTime.class, (TemporalQuery<OffsetTime>) OffsetTime::from);
+		temporalQueries.put(Year.class, (TemporalQuery<Year>) Year::from);
+		temporalQueries.put(YearMonth.class, (TemporalQuery<YearMonth>) YearMonth::from);
+		temporalQueries.put(MonthDay.class, (TemporalQuery<MonthDay>) MonthDay::from);
+	}
+
 	private final DateFormatter dateFormatter;
 
 	/**
@@ -79,20 +112,14 @@ final public class ElasticsearchDateConverter {
 	}
 
 	/**
-	 * Formats the given {@link TemporalAccessor} into a String.
+	 * Formats the given {@link TemporalAccessor} into a String. {@link Instant}s are formatted in UTC.
 	 *
 	 * @param accessor must not be {@literal null}
 	 * @return the formatted object
 	 */
 	public String format(TemporalAccessor accessor) {
 
-		Assert.notNull("accessor", "accessor must not be null");
-
-		if (accessor instanceof Instant) {
-			Instant instant = (Instant) accessor;
-			ZonedDateTime zonedDateTime = ZonedDateTime.ofInstant(instant, ZoneId.of("UTC"));
-			return dateFormatter.format(zonedDateTime);
-		}
+		Assert.notNull(accessor, "accessor must not be null");
 
 		return dateFormatter.format(accessor);
 	}
@@ -169,17 +196,38 @@ final public class ElasticsearchDateConverter {
 		}
 
 		DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(resolvedPattern);
-		return new PatternDateFormatter(dateTimeFormatter);
+
+		if (DateFormat.basic_date.getPattern().equals(resolvedPattern)) {
+			return new PatternDateFormatter(dateTimeFormatter, FastParsers::parseBasicDate);
+		}
+
+		if (DateFormat.date_optional_time.getPattern().equals(resolvedPattern)) {
+			return new PatternDateFormatter(dateTimeFormatter, FastParsers::parseDateOptionalTime);
+		}
+
+		return new PatternDateFormatter(dateTimeFormatter, null);
 	}
 
+	@SuppressWarnings("unchecked")
 	private static <T extends TemporalAccessor> TemporalQuery<T> getTemporalQuery(Class<T> type) {
+		return (TemporalQuery<T>) temporalQueries.computeIfAbsent(type, ElasticsearchDateConverter::createTemporalQuery);
+	}
+
+	/**
+	 * creates a query that calls the static {@code from(TemporalAccessor)} method of the given type.
+	 */
+	private static <T> TemporalQuery<T> createTemporalQuery(Class<T> type) {
+
+		Method method;
+		try {
+			method = type.getMethod("from", TemporalAccessor.class);
+		} catch (NoSuchMethodException e) {
+			throw new ConversionException("no 'from' factory method found in class " + type.getName());
+		}
+
 		return temporal -> {
 			try {
-				Method method = type.getMethod("from", TemporalAccessor.class);
-				Object o = method.invoke(null, temporal);
-				return type.cast(o);
-			} catch (NoSuchMethodException e) {
-				throw new ConversionException("no 'from' factory method found in class " + type.getName());
+				return type.cast(method.invoke(null, temporal));
 			} catch (IllegalAccessException | InvocationTargetException e) {
 				throw new ConversionException("could not create object of class " + type.getName(), e);
 			}
@@ -196,7 +244,7 @@ final public class ElasticsearchDateConverter {
 
 			Assert.notNull(accessor, "accessor must not be null");
 
-			return Long.toString(Instant.from(accessor).toEpochMilli());
+			return Long.toString(toInstant(accessor).toEpochMilli());
 		}
 
 		@Override
@@ -205,9 +253,7 @@ final public class ElasticsearchDateConverter {
 			Assert.notNull(input, "input must not be null");
 			Assert.notNull(type, "type must not be null");
 
-			Instant instant = Instant.ofEpochMilli(Long.parseLong(input));
-			TemporalQuery<T> query = getTemporalQuery(type);
-			return query.queryFrom(instant);
+			return fromInstant(Instant.ofEpochMilli(Long.parseLong(input)), type);
 		}
 	}
 
@@ -221,13 +267,12 @@ final public class ElasticsearchDateConverter {
 
 			Assert.notNull(accessor, "accessor must not be null");
 
-			long epochMilli = Instant.from(accessor).toEpochMilli();
+			long epochMilli = toInstant(accessor).toEpochMilli();
 			long fraction = epochMilli % 1_000;
 			if (fraction == 0) {
 				return Long.toString(epochMilli / 1_000);
 			} else {
-				Double d = ((double) epochMilli) / 1_000;
-				return String.format(Locale.ROOT, "%.03f", d);
+				return BigDecimal.valueOf(epochMilli, 3).toPlainString();
 			}
 		}
 
@@ -237,19 +282,36 @@ final public class ElasticsearchDateConverter {
 			Assert.notNull(input, "input must not be null");
 			Assert.notNull(type, "type must not be null");
 
-			Double epochMilli = Double.parseDouble(input) * 1_000;
-			Instant instant = Instant.ofEpochMilli(epochMilli.longValue());
-			TemporalQuery<T> query = getTemporalQuery(type);
-			return query.queryFrom(instant);
+			double epochMilli = Double.parseDouble(input) * 1_000;
+			return fromInstant(Instant.ofEpochMilli((long) epochMilli), type);
 		}
 	}
 
+	private static Instant toInstant(TemporalAccessor accessor) {
+		return accessor instanceof Instant ? (Instant) accessor : Instant.from(accessor);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T extends TemporalAccessor> T fromInstant(Instant instant, Class<T> type) {
+		return type == Instant.class ? (T) instant : getTemporalQuery(type).queryFrom(instant);
+	}
+
 	static class PatternDateFormatter implements DateFormatter {
 
 		private final DateTimeFormatter dateTimeFormatter;
-
-		PatternDateFormatter(DateTimeFormatter dateTimeFormatter) {
+		private final DateTimeFormatter utcDateTimeFormatter;
+		@Nullable private final Function<String, TemporalAccessor> fastParser;
+
+		/**
+		 * @param dateTimeFormatter the formatter for the pattern
+		 * @param fastParser optional parser for the common shape of the pattern's input, returns {@literal null} if it
+		 *          cannot handle the input and parsing must fall back to the {@link DateTimeFormatter}.
+		 */
+		PatternDateFormatter(DateTimeFormatter dateTimeFormatter,
+				@Nullable Function<String, TemporalAccessor> fastParser) {
 			this.dateTimeFormatter = dateTimeFormatter;
+			this.utcDateTimeFormatter = dateTimeFormatter.withZone(UTC);
+			this.fastParser = fastParser;
 		}
 
 		@Override
@@ -257,16 +319,11 @@ final public class ElasticsearchDateConverter {
 
 			Assert.notNull(accessor, "accessor must not be null");
 
-			try {
-				return dateTimeFormatter.format(accessor);
-			} catch (Exception e) {
-				if (accessor instanceof Instant) {
-					// as alternatives try to format a ZonedDateTime or LocalDateTime
-					return dateTimeFormatter.format(ZonedDateTime.ofInstant((Instant) accessor, ZoneId.of("UTC")));
-				} else {
-					throw e;
-				}
+			if (accessor instanceof Instant) {
+				return utcDateTimeFormatter.format(accessor);
 			}
+
+			return dateTimeFormatter.format(accessor);
 		}
 
 		@Override
@@ -275,25 +332,122 @@ final public class ElasticsearchDateConverter {
 			Assert.notNull(input, "input must not be null");
 			Assert.notNull(type, "type must not be null");
 
-			try {
-				return dateTimeFormatter.parse(input, getTemporalQuery(type));
-			} catch (Exception e) {
+			if (fastParser != null) {
+				TemporalAccessor parsed = fastParser.apply(input);
 
-				if (type.equals(Instant.class)) {
-					// as alternatives try to parse a ZonedDateTime or LocalDateTime
+				if (parsed != null) {
 					try {
-						ZonedDateTime zonedDateTime = dateTimeFormatter.parse(input, getTemporalQuery(ZonedDateTime.class));
-						// noinspection unchecked
-						return (T) zonedDateTime.toInstant();
-					} catch (Exception exception) {
-						LocalDateTime localDateTime = dateTimeFormatter.parse(input, getTemporalQuery(LocalDateTime.class));
-						// noinspection unchecked
-						return (T) localDateTime.toInstant(ZoneOffset.UTC);
+						return query(parsed, type);
+					} catch (DateTimeException ignored) {
+						// let the DateTimeFormatter produce the result or the error
 					}
+				}
+			}
+
+			return query(dateTimeFormatter.parse(input), type);
+		}
+
+		@SuppressWarnings("unchecked")
+		private static <T extends TemporalAccessor> T query(TemporalAccessor parsed, Class<T> type) {
+
+			if (type == Instant.class && !parsed.isSupported(ChronoField.INSTANT_SECONDS)) {
+				// as alternative read the value as LocalDateTime in UTC
+				return (T) LocalDateTime.from(parsed).toInstant(ZoneOffset.UTC);
+			}
+
+			return parsed.query(getTemporalQuery(type));
+		}
+	}
+
+	/**
+	 * Parsers for the common input shapes of frequently used formats that do not need a {@link DateTimeFormatter}. They
+	 * return {@literal null} for input they do not handle.
+	 */
+	static final class FastParsers {
+
+		private FastParsers() {}
+
+		/**
+		 * parses {@code uuuuMMdd}.
+		 */
+		@Nullable
+		static TemporalAccessor parseBasicDate(String input) {
+
+			if (input.length() != 8 || !isDigits(input, 0, 8)) {
+				return null;
+			}
+
+			try {
+				return LocalDate.of(number(input, 0, 4), number(input, 4, 6), number(input, 6, 8));
+			} catch (DateTimeException e) {
+				return null;
+			}
+		}
+
+		/**
+		 * parses {@code uuuu-MM-dd} and {@code uuuu-MM-dd'T'HH:mm:ss.SSSXXX} with an offset of {@code Z} or
+		 * {@code +HH:mm}.
+		 */
+		@Nullable
+		static TemporalAccessor parseDateOptionalTime(String input) {
+
+			int length = input.length();
+
+			if (length < 10 || !isDigits(input, 0, 4) || input.charAt(4) != '-' || !isDigits(input, 5, 7)
+					|| input.charAt(7) != '-' || !isDigits(input, 8, 10)) {
+				return null;
+			}
+
+			try {
+				LocalDate date = LocalDate.of(number(input, 0, 4), number(input, 5, 7), number(input, 8, 10));
+
+				if (length == 10) {
+					return date;
+				}
+
+				if (length < 24 || input.charAt(10) != 'T' || !isDigits(input, 11, 13) || input.charAt(13) != ':'
+						|| !isDigits(input, 14, 16) || input.charAt(16) != ':' || !isDigits(input, 17, 19)
+						|| input.charAt(19) != '.' || !isDigits(input, 20, 23)) {
+					return null;
+				}
+
+				ZoneOffset offset;
+				if (length == 24 && input.charAt(23) == 'Z') {
+					offset = ZoneOffset.UTC;
+				} else if (length == 29 && (input.charAt(23) == '+' || input.charAt(23) == '-') && isDigits(input, 24, 26)
+						&& input.charAt(26) == ':' && isDigits(input, 27, 29)) {
+					int sign = input.charAt(23) == '-' ? -1 : 1;
+					offset = ZoneOffset.ofHoursMinutes(sign * number(input, 24, 26), sign * number(input, 27, 29));
 				} else {
-					throw e;
+					return null;
 				}
+
+				LocalTime time = LocalTime.of(number(input, 11, 13), number(input, 14, 16), number(input, 17, 19),
+						number(input, 20, 23) * 1_000_000);
+				return OffsetDateTime.of(date, time, offset);
+			} catch (DateTimeException e) {
+				return null;
+			}
+		}
+
+		private static boolean isDigits(String input, int from, int to) {
+
+			for (int i = from; i < to; i++) {
+				char c = input.charAt(i);
+				if (c < '0' || c > '9') {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private static int number(String input, int from, int to) {
+
+			int value = 0;
+			for (int i = from; i < to; i++) {
+				value = value * 10 + (input.charAt(i) - '0');
 			}
+			return value;
 		}
 	}
 }
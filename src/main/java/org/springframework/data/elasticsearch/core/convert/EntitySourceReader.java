@@ -0,0 +1,327 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.convert;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.elasticsearch.common.bytes.BytesReference;
+import org.elasticsearch.common.xcontent.DeprecationHandler;
+import org.elasticsearch.common.xcontent.NamedXContentRegistry;
+import org.elasticsearch.common.xcontent.XContentHelper;
+import org.elasticsearch.common.xcontent.XContentParseException;
+import org.elasticsearch.common.xcontent.XContentParser;
+import org.springframework.data.convert.CustomConversions;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentProperty;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+
+/**
+ * Parses the source of a document as returned from Elasticsearch into a {@link Document} that only contains the fields
+ * needed to read a given entity. Fields that are not mapped to a property of the entity are skipped by the parser
+ * without creating any objects for them. The values that are kept are the same as the ones of a completely parsed
+ * source, so the result can be read by the {@link MappingElasticsearchConverter} like any other document.
+ *
+ * @since 4.2
+ */
+class EntitySourceReader {
+
+	private final MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> mappingContext;
+	private final ElasticsearchTypeMapper typeMapper;
+	private final Supplier<CustomConversions> conversions;
+	private final Map<Class<?>, SourceShape> shapes = new ConcurrentHashMap<>();
+
+	EntitySourceReader(
+			MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> mappingContext,
+			ElasticsearchTypeMapper typeMapper, Supplier<CustomConversions> conversions) {
+		this.mappingContext = mappingContext;
+		this.typeMapper = typeMapper;
+		this.conversions = conversions;
+	}
+
+	/**
+	 * Parses the fields of the source that are needed to read the given entity.
+	 *
+	 * @param entity the entity to read
+	 * @param source the unparsed source
+	 * @return the reduced source or {@literal null} if the entity needs the complete source, for example because it uses
+	 *         SpEL expressions or the type hint in the source points to a type that is not read from the properties of an
+	 *         entity.
+	 */
+	@Nullable
+	Document read(ElasticsearchPersistentEntity<?> entity, BytesReference source) {
+
+		SourceShape shape = getShape(entity);
+
+		if (shape.complete) {
+			return null;
+		}
+
+		try (XContentParser parser = XContentHelper.createParser(NamedXContentRegistry.EMPTY,
+				DeprecationHandler.THROW_UNSUPPORTED_OPERATION, source)) {
+
+			if (parser.nextToken() != XContentParser.Token.START_OBJECT) {
+				return null;
+			}
+
+			Document document = Document.create();
+			readObject(parser, shape, document);
+			return document;
+		} catch (ShapeMismatchException | IOException | XContentParseException e) {
+			// the caller parses the complete source and reports errors
+			return null;
+		}
+	}
+
+	/**
+	 * Clears the cached information about the entities, must be called when the conversions change.
+	 */
+	void clear() {
+		shapes.clear();
+	}
+
+	private void readObject(XContentParser parser, SourceShape shape, Map<String, Object> target) throws IOException {
+
+		boolean skippedFields = false;
+
+		while (parser.nextToken() == XContentParser.Token.FIELD_NAME) {
+
+			String name = parser.currentName();
+			XContentParser.Token token = parser.nextToken();
+
+			if (typeMapper.isTypeKey(name)) {
+				Object typeAlias = readValue(parser, token);
+				target.put(name, typeAlias);
+
+				SourceShape typeShape = getShape(shape, name, typeAlias);
+
+				if (typeShape != shape) {
+					// fields that are skipped might be needed by the type from the type hint
+					if (typeShape == null || skippedFields) {
+						throw ShapeMismatchException.INSTANCE;
+					}
+					shape = typeShape;
+				}
+			} else if (shape.complete || shape.completeFields.contains(name)) {
+				target.put(name, readValue(parser, token));
+			} else if (shape.entityFields.containsKey(name)) {
+				target.put(name, readEntityValue(parser, token, shape.entityFields.get(name)));
+			} else {
+				parser.skipChildren();
+				skippedFields = true;
+			}
+		}
+	}
+
+	@Nullable
+	private Object readEntityValue(XContentParser parser, XContentParser.Token token,
+			ElasticsearchPersistentEntity<?> entity) throws IOException {
+
+		if (token == XContentParser.Token.START_OBJECT) {
+			Map<String, Object> map = new HashMap<>();
+			readObject(parser, getShape(entity), map);
+			return map;
+		}
+
+		if (token == XContentParser.Token.START_ARRAY) {
+			List<Object> list = new ArrayList<>();
+
+			while ((token = parser.nextToken()) != XContentParser.Token.END_ARRAY) {
+				list.add(readEntityValue(parser, token, entity));
+			}
+
+			return list;
+		}
+
+		return readValue(parser, token);
+	}
+
+	/**
+	 * Reads the current value completely, returns the same objects as {@link XContentParser#map()}.
+	 */
+	@Nullable
+	private Object readValue(XContentParser parser, XContentParser.Token token) throws IOException {
+
+		switch (token) {
+			case START_OBJECT:
+				return parser.map();
+			case START_ARRAY:
+				return parser.list();
+			case VALUE_STRING:
+				return parser.text();
+			case VALUE_NUMBER:
+				return parser.numberValue();
+			case VALUE_BOOLEAN:
+				return parser.booleanValue();
+			case VALUE_EMBEDDED_OBJECT:
+				return parser.binaryValue();
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * @return the shape of the type from the type hint, {@literal null} if that type is not read from the properties of
+	 *         an entity.
+	 */
+	@Nullable
+	private SourceShape getShape(SourceShape shape, String typeKey, @Nullable Object typeAlias) {
+
+		TypeInformation<?> type = typeMapper.readType(Collections.singletonMap(typeKey, typeAlias),
+				shape.entity.getTypeInformation());
+
+		if (type.getType().equals(shape.entity.getType())) {
+			return shape;
+		}
+
+		ElasticsearchPersistentEntity<?> entity = isReadFromProperties(type) ? mappingContext.getPersistentEntity(type)
+				: null;
+
+		return entity != null ? getShape(entity) : null;
+	}
+
+	private SourceShape getShape(ElasticsearchPersistentEntity<?> entity) {
+		return shapes.computeIfAbsent(entity.getType(), type -> createShape(entity));
+	}
+
+	private SourceShape createShape(ElasticsearchPersistentEntity<?> entity) {
+
+		if (hasSpelExpressions(entity)) {
+			return new SourceShape(entity, true, Collections.emptySet(), Collections.emptyMap());
+		}
+
+		Set<String> completeFields = new HashSet<>();
+		Map<String, ElasticsearchPersistentEntity<?>> entityFields = new HashMap<>();
+
+		for (ElasticsearchPersistentProperty property : entity) {
+
+			String fieldName = property.getFieldName();
+			int dot = fieldName.indexOf('.');
+
+			if (dot >= 0) {
+				completeFields.add(fieldName.substring(0, dot));
+				continue;
+			}
+
+			ElasticsearchPersistentEntity<?> propertyEntity = getPropertyEntity(property);
+			ElasticsearchPersistentEntity<?> other = entityFields.get(fieldName);
+
+			if (propertyEntity == null || (other != null && other != propertyEntity)) {
+				completeFields.add(fieldName);
+			} else {
+				entityFields.put(fieldName, propertyEntity);
+			}
+		}
+
+		entityFields.keySet().removeAll(completeFields);
+
+		return new SourceShape(entity, false, completeFields, entityFields);
+	}
+
+	private boolean hasSpelExpressions(ElasticsearchPersistentEntity<?> entity) {
+
+		for (ElasticsearchPersistentProperty property : entity) {
+			if (property.getSpelExpression() != null) {
+				return true;
+			}
+		}
+
+		PreferredConstructor<?, ElasticsearchPersistentProperty> constructor = entity.getPersistenceConstructor();
+
+		if (constructor != null) {
+			for (PreferredConstructor.Parameter<Object, ElasticsearchPersistentProperty> parameter : constructor
+					.getParameters()) {
+				if (parameter.hasSpelExpression()) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * @return the entity that the value of the property - or the elements of a collection property - are read into, or
+	 *         {@literal null} if the value is not read from the properties of an entity.
+	 */
+	@Nullable
+	private ElasticsearchPersistentEntity<?> getPropertyEntity(ElasticsearchPersistentProperty property) {
+
+		if (property.hasPropertyConverter() || !property.isEntity() || property.isMap()) {
+			return null;
+		}
+
+		TypeInformation<?> actualType = property.getTypeInformation().getActualType();
+
+		if (actualType == null || actualType.isCollectionLike() || !isReadFromProperties(actualType)) {
+			return null;
+		}
+
+		return mappingContext.getPersistentEntity(actualType);
+	}
+
+	private boolean isReadFromProperties(TypeInformation<?> type) {
+
+		Class<?> rawType = type.getType();
+
+		return !Document.class.isAssignableFrom(rawType) && !type.isMap() && !type.equals(ClassTypeInformation.OBJECT)
+				&& !conversions.get().hasCustomReadTarget(HashMap.class, rawType);
+	}
+
+	/**
+	 * The fields of the source of an entity that need to be parsed, all fields if {@link #complete} is {@literal true}.
+	 */
+	private static class SourceShape {
+
+		final ElasticsearchPersistentEntity<?> entity;
+		final boolean complete;
+		final Set<String> completeFields;
+		final Map<String, ElasticsearchPersistentEntity<?>> entityFields;
+
+		SourceShape(ElasticsearchPersistentEntity<?> entity, boolean complete, Set<String> completeFields,
+				Map<String, ElasticsearchPersistentEntity<?>> entityFields) {
+			this.entity = entity;
+			this.complete = complete;
+			this.completeFields = completeFields;
+			this.entityFields = entityFields;
+		}
+	}
+
+	/**
+	 * Thrown when the type hint in the source points to a type that needs fields that already have been skipped.
+	 */
+	private static class ShapeMismatchException extends RuntimeException {
+
+		static final ShapeMismatchException INSTANCE = new ShapeMismatchException();
+
+		private ShapeMismatchException() {
+			super(null, null, false, false);
+		}
+	}
+}
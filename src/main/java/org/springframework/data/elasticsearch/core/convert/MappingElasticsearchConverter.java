@@ -15,12 +15,15 @@
  */
 package org.springframework.data.elasticsearch.core.convert;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.time.temporal.TemporalAccessor;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import org.elasticsearch.common.bytes.BytesReference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
@@ -36,6 +39,8 @@ import org.springframework.data.convert.CustomConversions;
 import org.springframework.data.elasticsearch.annotations.ScriptedField;
 import org.springframework.data.elasticsearch.core.document.Document;
 import org.springframework.data.elasticsearch.core.document.SearchDocument;
+import org.springframework.data.elasticsearch.core.document.UnparsedSource;
+import org.springframework.data.elasticsearch.core.index.MappingCache;
 import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
 import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentProperty;
 import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentPropertyConverter;
@@ -66,6 +71,13 @@ import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
 /**
  * Elasticsearch specific {@link org.springframework.data.convert.EntityConverter} implementation based on domain type
  * {@link ElasticsearchPersistentEntity metadata}.
@@ -88,6 +100,10 @@ public class MappingElasticsearchConverter
 	private static final String INVALID_TYPE_TO_READ = "Expected to read Document %s into type %s but didn't find a PersistentEntity for the latter!";
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(MappingElasticsearchConverter.class);
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+	private static final JsonFactory JSON_FACTORY = OBJECT_MAPPER.getFactory();
+	private static final ObjectWriter JSON_VALUE_WRITER = OBJECT_MAPPER.writer()
+			.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
 
 	private final MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> mappingContext;
 	private final GenericConversionService conversionService;
@@ -97,9 +113,14 @@ public class MappingElasticsearchConverter
 	private final EntityInstantiators instantiators = new EntityInstantiators();
 
 	private final ElasticsearchTypeMapper typeMapper;
+	private final EntitySourceReader sourceReader;
 
 	private final ConcurrentHashMap<String, Integer> propertyWarnings = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Class<?>, Map<String, Object>> typeHints = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Class<?>, Boolean> uniqueJsonFieldNames = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<ElasticsearchPersistentEntity<?>, PersistentEntityPlan> plans = new ConcurrentHashMap<>();
 	private final SpELContext spELContext;
+	private final MappingCache mappingCache = new MappingCache(this);
 
 	public MappingElasticsearchConverter(
 			MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> mappingContext) {
@@ -115,6 +136,7 @@ public class MappingElasticsearchConverter
 		this.mappingContext = mappingContext;
 		this.conversionService = conversionService != null ? conversionService : new DefaultConversionService();
 		this.typeMapper = ElasticsearchTypeMapper.create(mappingContext);
+		this.sourceReader = new EntitySourceReader(mappingContext, typeMapper, this::getConversions);
 		this.spELContext = new SpELContext(new MapAccessor());
 	}
 
@@ -136,6 +158,11 @@ public class MappingElasticsearchConverter
 		return conversionService;
 	}
 
+	@Override
+	public MappingCache getMappingCache() {
+		return mappingCache;
+	}
+
 	/**
 	 * Set the {@link CustomConversions} to be applied during the mapping process. <br />
 	 * Conversions are registered after {@link #afterPropertiesSet() bean initialization}.
@@ -147,6 +174,8 @@ public class MappingElasticsearchConverter
 		Assert.notNull(conversions, "CustomConversions must not be null");
 
 		this.conversions = conversions;
+		this.sourceReader.clear();
+		this.plans.clear();
 	}
 
 	private CustomConversions getConversions() {
@@ -169,9 +198,66 @@ public class MappingElasticsearchConverter
 	@Override
 	public <R> R read(Class<R> type, Document source) {
 		TypeInformation<R> typeHint = ClassTypeInformation.from((Class<R>) ClassUtils.getUserClass(type));
+
+		if (source instanceof UnparsedSource) {
+			Document reducedSource = readReducedSource(typeHint, source);
+
+			if (reducedSource != null) {
+				R result = read(typeHint, reducedSource);
+
+				if (result != null && source instanceof SearchDocument) {
+					populateScriptFields(result, (SearchDocument) source);
+				}
+				return result;
+			}
+		}
+
 		return read(typeHint, source);
 	}
 
+	/**
+	 * Parses only the fields of a source that has not been parsed yet which are needed to read the given type. The
+	 * metadata of the returned {@link Document} is taken from the source.
+	 *
+	 * @return the reduced source or {@literal null} if the source must be read completely
+	 */
+	@Nullable
+	private Document readReducedSource(TypeInformation<?> type, Document source) {
+
+		BytesReference unparsedSource = ((UnparsedSource) source).getUnparsedSource();
+		Class<?> rawType = type.getType();
+
+		if (unparsedSource == null || Document.class.isAssignableFrom(rawType) || type.isMap()
+				|| type.equals(ClassTypeInformation.OBJECT) || conversions.hasCustomReadTarget(source.getClass(), rawType)) {
+			return null;
+		}
+
+		ElasticsearchPersistentEntity<?> entity = mappingContext.getPersistentEntity(type);
+		Document document = entity != null ? sourceReader.read(entity, unparsedSource) : null;
+
+		if (document == null) {
+			return null;
+		}
+
+		if (source.hasId()) {
+			document.setId(source.getId());
+		}
+
+		if (source.hasVersion()) {
+			document.setVersion(source.getVersion());
+		}
+
+		if (source.hasSeqNo()) {
+			document.setSeqNo(source.getSeqNo());
+		}
+
+		if (source.hasPrimaryTerm()) {
+			document.setPrimaryTerm(source.getPrimaryTerm());
+		}
+
+		return document;
+	}
+
 	protected <R> R readEntity(ElasticsearchPersistentEntity<?> entity, Map<String, Object> source) {
 
 		ElasticsearchPersistentEntity<?> targetEntity = computeClosestEntity(entity, source);
@@ -266,11 +352,7 @@ public class MappingElasticsearchConverter
 		PersistentPropertyAccessor<R> accessor = new ConvertingPropertyAccessor<>(entity.getPropertyAccessor(instance),
 				conversionService);
 
-		for (ElasticsearchPersistentProperty prop : entity) {
-
-			if (entity.isConstructorArgument(prop) || !prop.isReadable()) {
-				continue;
-			}
+		for (ElasticsearchPersistentProperty prop : getPlan(entity).getReadProperties()) {
 
 			Object value = valueProvider.getPropertyValue(prop);
 			if (value != null) {
@@ -622,41 +704,35 @@ public class MappingElasticsearchConverter
 	protected void writeProperties(ElasticsearchPersistentEntity<?> entity, PersistentPropertyAccessor<?> accessor,
 			MapValueAccessor sink) {
 
-		for (ElasticsearchPersistentProperty property : entity) {
-
-			if (!property.isWritable()) {
-				continue;
-			}
+		for (PersistentEntityPlan.WriteProperty writeProperty : getPlan(entity).getWriteProperties()) {
 
+			ElasticsearchPersistentProperty property = writeProperty.getProperty();
 			Object value = accessor.getProperty(property);
 
 			if (value == null) {
 
-				if (property.storeNullValue()) {
+				if (writeProperty.isStoreNullValue()) {
 					sink.set(property, null);
 				}
 
 				continue;
 			}
 
-			if (property.hasPropertyConverter()) {
-				value = propertyConverterWrite(property, value);
-				sink.set(property, value);
-			} else if (TemporalAccessor.class.isAssignableFrom(property.getActualType())
-					&& !getConversions().hasCustomWriteTarget(value.getClass())) {
-
-				// log at most 5 times
-				String propertyName = entity.getType().getSimpleName() + '.' + property.getName();
-				String key = propertyName + "-write";
-				int count = propertyWarnings.computeIfAbsent(key, k -> 0);
-				if (count < 5) {
-					LOGGER.warn(
-							"Type {} of property {} is a TemporalAccessor class but has neither a @Field annotation defining the date type nor a registered converter for writing!"
-									+ " It will be mapped to a complex object in Elasticsearch!",
-							property.getType().getSimpleName(), propertyName);
-					propertyWarnings.put(key, count + 1);
-				}
-			} else if (!isSimpleType(value)) {
+			switch (writeProperty.getWriteMode()) {
+				case PROPERTY_CONVERTER:
+					sink.set(property, propertyConverterWrite(property, value));
+					continue;
+				case SIMPLE:
+					sink.set(property, value);
+					continue;
+				case TEMPORAL:
+					if (!getConversions().hasCustomWriteTarget(value.getClass())) {
+						warnAboutTemporalWithoutWriteConverter(entity, property);
+						continue;
+					}
+			}
+
+			if (!isSimpleType(value)) {
 				writeProperty(property, value, sink);
 			} else {
 				Object writeSimpleValue = getPotentiallyConvertedSimpleWrite(value, Object.class);
@@ -667,6 +743,22 @@ public class MappingElasticsearchConverter
 		}
 	}
 
+	private void warnAboutTemporalWithoutWriteConverter(ElasticsearchPersistentEntity<?> entity,
+			ElasticsearchPersistentProperty property) {
+
+		// log at most 5 times
+		String propertyName = entity.getType().getSimpleName() + '.' + property.getName();
+		String key = propertyName + "-write";
+		int count = propertyWarnings.computeIfAbsent(key, k -> 0);
+		if (count < 5) {
+			LOGGER.warn(
+					"Type {} of property {} is a TemporalAccessor class but has neither a @Field annotation defining the date type nor a registered converter for writing!"
+							+ " It will be mapped to a complex object in Elasticsearch!",
+					property.getType().getSimpleName(), propertyName);
+			propertyWarnings.put(key, count + 1);
+		}
+	}
+
 	private Object propertyConverterWrite(ElasticsearchPersistentProperty property, Object value) {
 		ElasticsearchPersistentPropertyConverter propertyConverter = Objects
 				.requireNonNull(property.getPropertyConverter());
@@ -919,7 +1011,338 @@ public class MappingElasticsearchConverter
 
 	// endregion
 
+	// region write json
+	/**
+	 * Writes the entity directly into a {@link JsonGenerator} without creating the intermediate {@link Document}. The
+	 * methods in this region mirror the ones of the write region and must produce the same JSON as
+	 * {@code mapObject(source).toJson()}. Values that are not entities are serialized with the same Jackson defaults
+	 * that {@link Document#toJson()} uses; the cases that cannot be streamed with identical output are written through
+	 * the {@link Document} based methods.
+	 */
+	@Override
+	public byte[] writeJson(Object source) {
+
+		Assert.notNull(source, "source to map must not be null");
+
+		Class<?> entityType = ClassUtils.getUserClass(source.getClass());
+
+		if (source instanceof Map || Collection.class.isAssignableFrom(source.getClass())
+				|| conversions.getCustomWriteTarget(source.getClass(), Map.class).isPresent()) {
+			return ElasticsearchConverter.super.writeJson(source);
+		}
+
+		ElasticsearchPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(source.getClass());
+		JsonBuffer buffer = JsonBuffer.acquire();
+
+		try (JsonGenerator generator = JSON_FACTORY.createGenerator(buffer, JsonEncoding.UTF8)) {
+			writeJsonEntity(source, entity, requiresTypeHint(entityType), generator);
+			generator.flush();
+			return buffer.toByteArray();
+		} catch (IOException e) {
+			throw new MappingException("Cannot render document to JSON", e);
+		} finally {
+			buffer.release();
+		}
+	}
+
+	private void writeJsonEntity(Object source, ElasticsearchPersistentEntity<?> entity, boolean writeTypeHint,
+			JsonGenerator generator) throws IOException {
+
+		if (!hasUniqueJsonFieldNames(entity)) {
+			Document document = Document.create();
+
+			if (writeTypeHint) {
+				typeMapper.writeType(ClassUtils.getUserClass(source.getClass()), document);
+			}
+
+			writeInternal(source, document, entity);
+			writeJsonValue(document, generator);
+			return;
+		}
+
+		generator.writeStartObject();
+
+		if (writeTypeHint) {
+			for (Map.Entry<String, Object> typeHint : getTypeHint(ClassUtils.getUserClass(source.getClass())).entrySet()) {
+				generator.writeFieldName(typeHint.getKey());
+				writeJsonValue(typeHint.getValue(), generator);
+			}
+		}
+
+		writeJsonProperties(entity, entity.getPropertyAccessor(source), generator);
+		generator.writeEndObject();
+	}
+
+	private void writeJsonProperties(ElasticsearchPersistentEntity<?> entity, PersistentPropertyAccessor<?> accessor,
+			JsonGenerator generator) throws IOException {
+
+		for (PersistentEntityPlan.WriteProperty writeProperty : getPlan(entity).getWriteProperties()) {
+
+			ElasticsearchPersistentProperty property = writeProperty.getProperty();
+			Object value = accessor.getProperty(property);
+
+			if (value == null) {
+
+				if (writeProperty.isStoreNullValue()) {
+					generator.writeNullField(writeProperty.getFieldName());
+				}
+
+				continue;
+			}
+
+			switch (writeProperty.getWriteMode()) {
+				case PROPERTY_CONVERTER:
+					generator.writeFieldName(writeProperty.getFieldName());
+					writeJsonValue(propertyConverterWrite(property, value), generator);
+					continue;
+				case SIMPLE:
+					generator.writeFieldName(writeProperty.getFieldName());
+					writeJsonValue(value, generator);
+					continue;
+				case TEMPORAL:
+					if (!getConversions().hasCustomWriteTarget(value.getClass())) {
+						warnAboutTemporalWithoutWriteConverter(entity, property);
+						continue;
+					}
+			}
+
+			if (!isSimpleType(value)) {
+				writeJsonProperty(property, value, generator);
+			} else {
+				Object writeSimpleValue = getPotentiallyConvertedSimpleWrite(value, Object.class);
+				if (writeSimpleValue != null) {
+					generator.writeFieldName(writeProperty.getFieldName());
+					writeJsonValue(writeSimpleValue, generator);
+				}
+			}
+		}
+	}
+
+	private void writeJsonProperty(ElasticsearchPersistentProperty property, Object value, JsonGenerator generator)
+			throws IOException {
+
+		generator.writeFieldName(property.getFieldName());
+
+		Optional<Class<?>> customWriteTarget = getConversions().getCustomWriteTarget(value.getClass());
+
+		if (customWriteTarget.isPresent()) {
+			writeJsonValue(conversionService.convert(value, customWriteTarget.get()), generator);
+			return;
+		}
+
+		TypeInformation<?> valueType = ClassTypeInformation.from(value.getClass());
+		TypeInformation<?> type = property.getTypeInformation();
+
+		if (valueType.isCollectionLike()) {
+			writeJsonCollection(asCollection(value), type, generator);
+			return;
+		}
+
+		if (valueType.isMap()) {
+			writeJsonMap((Map<?, ?>) value, type, generator);
+			return;
+		}
+
+		ElasticsearchPersistentEntity<?> entity = valueType.isSubTypeOf(property.getType())
+				? mappingContext.getRequiredPersistentEntity(value.getClass())
+				: mappingContext.getRequiredPersistentEntity(type);
+
+		writeJsonEntity(value, entity, isCustomTypeKeyNecessary(value, ClassTypeInformation.from(property.getRawType())),
+				generator);
+	}
+
+	/**
+	 * mirrors {@link #writeInternal(Object, Map, TypeInformation)} for a value that is written into a new
+	 * {@link Document}.
+	 */
+	@SuppressWarnings("unchecked")
+	private void writeJsonInternal(Object source, @Nullable TypeInformation<?> typeInformation, JsonGenerator generator)
+			throws IOException {
+
+		Class<?> entityType = source.getClass();
+
+		if (conversions.getCustomWriteTarget(entityType, Map.class).isPresent()) {
+			writeJsonValue(conversionService.convert(source, Map.class), generator);
+			return;
+		}
+
+		if (Map.class.isAssignableFrom(entityType)) {
+			writeJsonMap((Map<Object, Object>) source, ClassTypeInformation.MAP, generator);
+			return;
+		}
+
+		if (Collection.class.isAssignableFrom(entityType)) {
+			Document document = Document.create();
+			writeInternal(source, document, typeInformation);
+			writeJsonValue(document, generator);
+			return;
+		}
+
+		ElasticsearchPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityType);
+		writeJsonEntity(source, entity, isCustomTypeKeyNecessary(source, typeInformation), generator);
+	}
+
+	/**
+	 * mirrors {@link #writeMapInternal(Map, Map, TypeInformation)}.
+	 */
+	private void writeJsonMap(Map<?, ?> source, TypeInformation<?> propertyType, JsonGenerator generator)
+			throws IOException {
+
+		generator.writeStartObject();
+
+		for (Map.Entry<?, ?> entry : source.entrySet()) {
+
+			Object key = entry.getKey();
+			Object value = entry.getValue();
+
+			if (isSimpleType(key.getClass())) {
+
+				generator.writeFieldName(potentiallyConvertMapKey(key));
+
+				if (value == null || isSimpleType(value)) {
+					writeJsonValue(getPotentiallyConvertedSimpleWrite(value, Object.class), generator);
+				} else if (value instanceof Collection || value.getClass().isArray()) {
+					writeJsonCollection(asCollection(value), propertyType.getMapValueType(), generator);
+				} else {
+					TypeInformation<?> valueTypeInfo = propertyType.isMap() ? propertyType.getMapValueType()
+							: ClassTypeInformation.OBJECT;
+					writeJsonInternal(value, valueTypeInfo, generator);
+				}
+			} else {
+				throw new MappingException("Cannot use a complex object as a key value.");
+			}
+		}
+
+		generator.writeEndObject();
+	}
+
+	/**
+	 * mirrors {@link #writeCollectionInternal(Collection, TypeInformation, Collection)}.
+	 */
+	private void writeJsonCollection(Collection<?> source, @Nullable TypeInformation<?> type, JsonGenerator generator)
+			throws IOException {
+
+		TypeInformation<?> componentType = type != null ? type.getComponentType() : null;
+
+		generator.writeStartArray();
+
+		for (Object element : source) {
+
+			Class<?> elementType = element == null ? null : element.getClass();
+
+			if (elementType == null || conversions.isSimpleType(elementType)) {
+				writeJsonValue(
+						getPotentiallyConvertedSimpleWrite(element, componentType != null ? componentType.getType() : Object.class),
+						generator);
+			} else if (element instanceof Collection || elementType.isArray()) {
+				writeJsonCollection(asCollection(element), componentType, generator);
+			} else {
+				writeJsonInternal(element, componentType, generator);
+			}
+		}
+
+		generator.writeEndArray();
+	}
+
+	/**
+	 * writes a converted value, the common types are written directly, everything else with the Jackson defaults.
+	 */
+	private static void writeJsonValue(@Nullable Object value, JsonGenerator generator) throws IOException {
+
+		if (value == null) {
+			generator.writeNull();
+		} else if (value instanceof String) {
+			generator.writeString((String) value);
+		} else if (value instanceof Integer) {
+			generator.writeNumber((Integer) value);
+		} else if (value instanceof Long) {
+			generator.writeNumber((Long) value);
+		} else if (value instanceof Boolean) {
+			generator.writeBoolean((Boolean) value);
+		} else if (value instanceof Double) {
+			generator.writeNumber((Double) value);
+		} else {
+			JSON_VALUE_WRITER.writeValue(generator, value);
+		}
+	}
+
+	private boolean isCustomTypeKeyNecessary(Object source, @Nullable TypeInformation<?> type) {
+
+		Class<?> reference = type != null ? type.getActualType().getType() : Object.class;
+		return !ClassUtils.getUserClass(source.getClass()).equals(reference);
+	}
+
+	private Map<String, Object> getTypeHint(Class<?> type) {
+		return typeHints.computeIfAbsent(type, it -> {
+			Map<String, Object> typeHint = new LinkedHashMap<>(2);
+			typeMapper.writeType(it, typeHint);
+			return Collections.unmodifiableMap(typeHint);
+		});
+	}
+
+	/**
+	 * A {@link Document} keeps the last value for a key at the position of the first one. Entities that have more than
+	 * one property for a field name or a property named like the type key are therefore not streamed.
+	 */
+	private boolean hasUniqueJsonFieldNames(ElasticsearchPersistentEntity<?> entity) {
+		return uniqueJsonFieldNames.computeIfAbsent(entity.getType(), it -> {
+			Set<String> fieldNames = new HashSet<>();
+			for (ElasticsearchPersistentProperty property : entity) {
+				if (property.isWritable()
+						&& (!fieldNames.add(property.getFieldName()) || typeMapper.isTypeKey(property.getFieldName()))) {
+					return false;
+				}
+			}
+			return true;
+		});
+	}
+
+	/**
+	 * Per thread reusable output buffer for {@link #writeJson(Object)}. Buffers that grew beyond
+	 * {@link #MAX_RETAINED_CAPACITY} are not kept.
+	 */
+	private static class JsonBuffer extends ByteArrayOutputStream {
+
+		private static final int INITIAL_CAPACITY = 1024;
+		private static final int MAX_RETAINED_CAPACITY = 1024 * 1024;
+		private static final ThreadLocal<JsonBuffer> BUFFERS = ThreadLocal.withInitial(JsonBuffer::new);
+
+		private boolean inUse = false;
+
+		JsonBuffer() {
+			super(INITIAL_CAPACITY);
+		}
+
+		static JsonBuffer acquire() {
+
+			JsonBuffer buffer = BUFFERS.get();
+
+			// a custom converter might write JSON itself while the buffer of this thread is in use
+			if (buffer.inUse) {
+				return new JsonBuffer();
+			}
+
+			buffer.inUse = true;
+			return buffer;
+		}
+
+		void release() {
+
+			reset();
+			inUse = false;
+
+			if (buf.length > MAX_RETAINED_CAPACITY) {
+				BUFFERS.remove();
+			}
+		}
+	}
+	// endregion
+
 	// region helper methods
+	private PersistentEntityPlan getPlan(ElasticsearchPersistentEntity<?> entity) {
+		return plans.computeIfAbsent(entity, it -> new PersistentEntityPlan(it, getConversions()));
+	}
+
 
 	/**
 	 * Adds custom typeInformation information to the given {@link Map} if necessary. That is if the value is not the same
@@ -1059,6 +1482,8 @@ public class MappingElasticsearchConverter
 
 	static class MapValueAccessor {
 
+		private static final Map<String, String[]> FIELD_NAME_PARTS = new ConcurrentHashMap<>();
+
 		final Map<String, Object> target;
 
 		MapValueAccessor(Map<String, Object> target) {
@@ -1095,7 +1520,8 @@ public class MappingElasticsearchConverter
 				return target.get(fieldName);
 			}
 
-			Iterator<String> parts = Arrays.asList(fieldName.split("\\.")).iterator();
+			Iterator<String> parts = Arrays.asList(FIELD_NAME_PARTS.computeIfAbsent(fieldName, it -> it.split("\\.")))
+					.iterator();
 			Map<String, Object> source = target;
 			Object result = null;
 
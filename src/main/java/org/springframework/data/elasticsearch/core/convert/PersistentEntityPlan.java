@@ -0,0 +1,152 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.convert;
+
+import java.lang.reflect.Modifier;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.convert.CustomConversions;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentProperty;
+import org.springframework.util.ClassUtils;
+
+/**
+ * The properties of an {@link ElasticsearchPersistentEntity} that are read and written by the
+ * {@link MappingElasticsearchConverter}, together with the facts about them that do not depend on the actual values.
+ * A plan is created once per entity so that reading and writing an entity does not need to rediscover them for every
+ * document.
+ *
+ * @since 4.2
+ */
+class PersistentEntityPlan {
+
+	private final ElasticsearchPersistentProperty[] readProperties;
+	private final WriteProperty[] writeProperties;
+
+	PersistentEntityPlan(ElasticsearchPersistentEntity<?> entity, CustomConversions conversions) {
+
+		List<ElasticsearchPersistentProperty> readProperties = new ArrayList<>();
+		List<WriteProperty> writeProperties = new ArrayList<>();
+
+		for (ElasticsearchPersistentProperty property : entity) {
+
+			if (!entity.isConstructorArgument(property) && property.isReadable()) {
+				readProperties.add(property);
+			}
+
+			if (property.isWritable()) {
+				writeProperties.add(new WriteProperty(property, conversions));
+			}
+		}
+
+		this.readProperties = readProperties.toArray(new ElasticsearchPersistentProperty[0]);
+		this.writeProperties = writeProperties.toArray(new WriteProperty[0]);
+	}
+
+	/**
+	 * @return the properties that are set after the entity was instantiated.
+	 */
+	ElasticsearchPersistentProperty[] getReadProperties() {
+		return readProperties;
+	}
+
+	/**
+	 * @return the properties that are written to the document.
+	 */
+	WriteProperty[] getWriteProperties() {
+		return writeProperties;
+	}
+
+	/**
+	 * Defines how the value of a property is written.
+	 */
+	enum WriteMode {
+		/**
+		 * the value is converted by the property converter.
+		 */
+		PROPERTY_CONVERTER,
+		/**
+		 * the property is a {@link TemporalAccessor} without a property converter, it is only written if there is a
+		 * custom conversion for the value.
+		 */
+		TEMPORAL,
+		/**
+		 * the type of the property is a final simple type without a custom conversion, the value is written as is.
+		 */
+		SIMPLE,
+		/**
+		 * the way the value is written depends on its type.
+		 */
+		DEFAULT
+	}
+
+	static class WriteProperty {
+
+		private final ElasticsearchPersistentProperty property;
+		private final String fieldName;
+		private final boolean storeNullValue;
+		private final WriteMode writeMode;
+
+		WriteProperty(ElasticsearchPersistentProperty property, CustomConversions conversions) {
+
+			this.property = property;
+			this.fieldName = property.getFieldName();
+			this.storeNullValue = property.storeNullValue();
+			this.writeMode = getWriteMode(property, conversions);
+		}
+
+		ElasticsearchPersistentProperty getProperty() {
+			return property;
+		}
+
+		String getFieldName() {
+			return fieldName;
+		}
+
+		boolean isStoreNullValue() {
+			return storeNullValue;
+		}
+
+		WriteMode getWriteMode() {
+			return writeMode;
+		}
+
+		private static WriteMode getWriteMode(ElasticsearchPersistentProperty property, CustomConversions conversions) {
+
+			if (property.hasPropertyConverter()) {
+				return WriteMode.PROPERTY_CONVERTER;
+			}
+
+			if (TemporalAccessor.class.isAssignableFrom(property.getActualType())) {
+				return WriteMode.TEMPORAL;
+			}
+
+			// a value of a final type always has the type of the property
+			Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(property.getType());
+
+			if (Modifier.isFinal(type.getModifiers()) && !type.isArray() && !type.isEnum()
+					&& !Map.class.isAssignableFrom(type) && conversions.isSimpleType(type)
+					&& !conversions.hasCustomWriteTarget(type)) {
+				return WriteMode.SIMPLE;
+			}
+
+			return WriteMode.DEFAULT;
+		}
+	}
+}
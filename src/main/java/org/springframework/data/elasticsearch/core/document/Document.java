@@ -63,11 +63,7 @@ public interface Document extends Map<String, Object> {
 
 		Assert.notNull(map, "Map must not be null");
 
-		if (map instanceof LinkedHashMap) {
-			return new MapDocument(map);
-		}
-
-		return new MapDocument(new LinkedHashMap<>(map));
+		return new MapDocument(map);
 	}
 
 	/**
@@ -81,7 +77,7 @@ public interface Document extends Map<String, Object> {
 		Assert.notNull(json, "JSON must not be null");
 
 		try {
-			return new MapDocument(MapDocument.OBJECT_MAPPER.readerFor(Map.class).readValue(json));
+			return MapDocument.wrap(MapDocument.OBJECT_MAPPER.readerFor(LinkedHashMap.class).readValue(json));
 		} catch (IOException e) {
 			throw new ConversionException("Cannot parse JSON", e);
 		}
@@ -21,6 +21,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -37,9 +38,11 @@ import org.elasticsearch.action.get.MultiGetResponse;
 import org.elasticsearch.common.bytes.BytesReference;
 import org.elasticsearch.common.document.DocumentField;
 import org.elasticsearch.common.text.Text;
+import org.elasticsearch.common.xcontent.XContentHelper;
 import org.elasticsearch.index.get.GetResult;
 import org.elasticsearch.search.SearchHit;
 import org.elasticsearch.search.SearchHits;
+import org.elasticsearch.search.fetch.subphase.highlight.HighlightField;
 import org.springframework.data.elasticsearch.core.MultiGetItem;
 import org.springframework.data.elasticsearch.core.ResponseConverter;
 import org.springframework.data.mapping.MappingException;
@@ -168,16 +171,42 @@ public class DocumentAdapters {
 
 		Assert.notNull(source, "SearchHit must not be null");
 
-		Map<String, List<String>> highlightFields = new HashMap<>(source.getHighlightFields().entrySet().stream() //
-				.collect(Collectors.toMap(Map.Entry::getKey,
-						entry -> Arrays.stream(entry.getValue().getFragments()).map(Text::string).collect(Collectors.toList()))));
+		// most hits have neither fields, highlights nor inner hits, they share the empty maps
+		Map<String, List<Object>> fields = Collections.emptyMap();
+		Map<String, DocumentField> sourceFields = source.getFields();
 
-		Map<String, SearchDocumentResponse> innerHits = new LinkedHashMap<>();
+		if (!sourceFields.isEmpty()) {
+			fields = new HashMap<>(sourceFields.size());
+
+			for (Map.Entry<String, DocumentField> entry : sourceFields.entrySet()) {
+				fields.put(entry.getKey(), entry.getValue().getValues());
+			}
+		}
+
+		Map<String, List<String>> highlightFields = Collections.emptyMap();
+
+		if (!source.getHighlightFields().isEmpty()) {
+			highlightFields = new HashMap<>(source.getHighlightFields().size());
+
+			for (HighlightField highlightField : source.getHighlightFields().values()) {
+				List<String> fragments = new ArrayList<>(highlightField.getFragments().length);
+
+				for (Text fragment : highlightField.getFragments()) {
+					fragments.add(fragment.string());
+				}
+				highlightFields.put(highlightField.getName(), fragments);
+			}
+		}
+
+		Map<String, SearchDocumentResponse> innerHits = Collections.emptyMap();
 		Map<String, SearchHits> sourceInnerHits = source.getInnerHits();
 
-		if (sourceInnerHits != null) {
-			sourceInnerHits
-					.forEach((name, searchHits) -> innerHits.put(name, SearchDocumentResponse.from(searchHits, null, null)));
+		if (sourceInnerHits != null && !sourceInnerHits.isEmpty()) {
+			innerHits = new LinkedHashMap<>(sourceInnerHits.size());
+
+			for (Map.Entry<String, SearchHits> entry : sourceInnerHits.entrySet()) {
+				innerHits.put(entry.getKey(), SearchDocumentResponse.from(entry.getValue(), null, null));
+			}
 		}
 
 		NestedMetaData nestedMetaData = from(source.getNestedIdentity());
@@ -188,12 +217,13 @@ public class DocumentAdapters {
 
 		if (sourceRef == null || sourceRef.length() == 0) {
 			return new SearchDocumentAdapter(
-					source.getScore(), source.getSortValues(), source.getFields(), highlightFields, fromDocumentFields(source,
+					source.getScore(), source.getSortValues(), fields, highlightFields, fromDocumentFields(source,
 							source.getIndex(), source.getId(), source.getVersion(), source.getSeqNo(), source.getPrimaryTerm()),
-					innerHits, nestedMetaData, explanation, matchedQueries);
+					null, innerHits, nestedMetaData, explanation, matchedQueries);
 		}
 
-		Document document = Document.from(source.getSourceAsMap());
+		// the source is parsed when the content of the document is accessed for the first time
+		Document document = Document.create();
 		document.setIndex(source.getIndex());
 		document.setId(source.getId());
 
@@ -203,8 +233,22 @@ public class DocumentAdapters {
 		document.setSeqNo(source.getSeqNo());
 		document.setPrimaryTerm(source.getPrimaryTerm());
 
-		return new SearchDocumentAdapter(source.getScore(), source.getSortValues(), source.getFields(), highlightFields,
-				document, innerHits, nestedMetaData, explanation, matchedQueries);
+		return new SearchDocumentAdapter(source.getScore(), source.getSortValues(), fields, highlightFields,
+				document, sourceRef, innerHits, nestedMetaData, explanation, matchedQueries);
+	}
+
+	/**
+	 * Parses the source into a {@link Document} that is backed by the parsed map instead of a copy of it.
+	 */
+	private static Document parseSource(BytesReference source) {
+
+		Map<String, Object> map = XContentHelper.convertToMap(source, true, null).v2();
+
+		if (map instanceof LinkedHashMap) {
+			return MapDocument.wrap((LinkedHashMap<String, Object>) map);
+		}
+
+		return Document.from(map);
 	}
 
 	@Nullable
@@ -235,7 +279,12 @@ public class DocumentAdapters {
 
 	@Nullable
 	private static List<String> from(@Nullable String[] matchedQueries) {
-		return matchedQueries == null ? null : Arrays.asList(matchedQueries);
+
+		if (matchedQueries == null) {
+			return null;
+		}
+
+		return matchedQueries.length == 0 ? Collections.emptyList() : Arrays.asList(matchedQueries);
 	}
 
 	/**
@@ -479,39 +528,95 @@ public class DocumentAdapters {
 	}
 
 	/**
-	 * Adapter for a {@link SearchDocument}.
+	 * Adapter for a {@link SearchDocument}. The source is parsed once on first access to the content, also when hits are
+	 * accessed from several threads; modifications of the content are not synchronized.
 	 */
-	static class SearchDocumentAdapter implements SearchDocument {
+	static class SearchDocumentAdapter implements SearchDocument, UnparsedSource {
 
 		private final float score;
 		private final Object[] sortValues;
-		private final Map<String, List<Object>> fields = new HashMap<>();
-		private final Document delegate;
-		private final Map<String, List<String>> highlightFields = new HashMap<>();
-		private final Map<String, SearchDocumentResponse> innerHits = new HashMap<>();
+		private final Map<String, List<Object>> fields;
+		private volatile Document delegate;
+		@Nullable private volatile BytesReference unparsedSource;
+		private final Map<String, List<String>> highlightFields;
+		private final Map<String, SearchDocumentResponse> innerHits;
 		@Nullable private final NestedMetaData nestedMetaData;
 		@Nullable private final Explanation explanation;
 		@Nullable private final List<String> matchedQueries;
 
-		SearchDocumentAdapter(float score, Object[] sortValues, Map<String, DocumentField> fields,
-				Map<String, List<String>> highlightFields, Document delegate, Map<String, SearchDocumentResponse> innerHits,
-				@Nullable NestedMetaData nestedMetaData, @Nullable Explanation explanation,
-				@Nullable List<String> matchedQueries) {
+		/**
+		 * Creates the adapter, the maps are used as they are and must not be modified by the caller afterwards.
+		 */
+		SearchDocumentAdapter(float score, Object[] sortValues, Map<String, List<Object>> fields,
+				Map<String, List<String>> highlightFields, Document delegate, @Nullable BytesReference unparsedSource,
+				Map<String, SearchDocumentResponse> innerHits, @Nullable NestedMetaData nestedMetaData,
+				@Nullable Explanation explanation, @Nullable List<String> matchedQueries) {
 
 			this.score = score;
 			this.sortValues = sortValues;
 			this.delegate = delegate;
-			fields.forEach((name, documentField) -> this.fields.put(name, documentField.getValues()));
-			this.highlightFields.putAll(highlightFields);
-			this.innerHits.putAll(innerHits);
+			this.unparsedSource = unparsedSource;
+			this.fields = fields;
+			this.highlightFields = highlightFields;
+			this.innerHits = innerHits;
 			this.nestedMetaData = nestedMetaData;
 			this.explanation = explanation;
 			this.matchedQueries = matchedQueries;
 		}
 
+		@Override
+		@Nullable
+		public BytesReference getUnparsedSource() {
+			return unparsedSource;
+		}
+
+		/**
+		 * @return the delegate after the source was parsed into it.
+		 */
+		private Document content() {
+
+			if (unparsedSource != null) {
+				synchronized (this) {
+					BytesReference source = unparsedSource;
+
+					if (source != null) {
+						delegate = parsedDocument(source);
+						// cleared after the delegate is set so that a reader seeing null also sees the parsed document
+						unparsedSource = null;
+					}
+				}
+			}
+
+			return delegate;
+		}
+
+		private Document parsedDocument(BytesReference source) {
+
+			Document document = parseSource(source);
+			document.setIndex(delegate.getIndex());
+
+			if (delegate.hasId()) {
+				document.setId(delegate.getId());
+			}
+
+			if (delegate.hasVersion()) {
+				document.setVersion(delegate.getVersion());
+			}
+
+			if (delegate.hasSeqNo()) {
+				document.setSeqNo(delegate.getSeqNo());
+			}
+
+			if (delegate.hasPrimaryTerm()) {
+				document.setPrimaryTerm(delegate.getPrimaryTerm());
+			}
+
+			return document;
+		}
+
 		@Override
 		public SearchDocument append(String key, Object value) {
-			delegate.append(key, value);
+			content().append(key, value);
 
 			return this;
 		}
@@ -615,72 +720,72 @@ public class DocumentAdapters {
 		@Override
 		@Nullable
 		public <T> T get(Object key, Class<T> type) {
-			return delegate.get(key, type);
+			return content().get(key, type);
 		}
 
 		@Override
 		public String toJson() {
-			return delegate.toJson();
+			return content().toJson();
 		}
 
 		@Override
 		public int size() {
-			return delegate.size();
+			return content().size();
 		}
 
 		@Override
 		public boolean isEmpty() {
-			return delegate.isEmpty();
+			return content().isEmpty();
 		}
 
 		@Override
 		public boolean containsKey(Object key) {
-			return delegate.containsKey(key);
+			return content().containsKey(key);
 		}
 
 		@Override
 		public boolean containsValue(Object value) {
-			return delegate.containsValue(value);
+			return content().containsValue(value);
 		}
 
 		@Override
 		public Object get(Object key) {
-			return delegate.get(key);
+			return content().get(key);
 		}
 
 		@Override
 		public Object put(String key, Object value) {
-			return delegate.put(key, value);
+			return content().put(key, value);
 		}
 
 		@Override
 		public Object remove(Object key) {
-			return delegate.remove(key);
+			return content().remove(key);
 		}
 
 		@Override
 		public void putAll(Map<? extends String, ?> m) {
-			delegate.putAll(m);
+			content().putAll(m);
 		}
 
 		@Override
 		public void clear() {
-			delegate.clear();
+			content().clear();
 		}
 
 		@Override
 		public Set<String> keySet() {
-			return delegate.keySet();
+			return content().keySet();
 		}
 
 		@Override
 		public Collection<Object> values() {
-			return delegate.values();
+			return content().values();
 		}
 
 		@Override
 		public Set<Entry<String, Object>> entrySet() {
-			return delegate.entrySet();
+			return content().entrySet();
 		}
 
 		@Override
@@ -704,22 +809,22 @@ public class DocumentAdapters {
 				return false;
 			}
 			SearchDocumentAdapter that = (SearchDocumentAdapter) o;
-			return Float.compare(that.score, score) == 0 && delegate.equals(that.delegate);
+			return Float.compare(that.score, score) == 0 && content().equals(that.content());
 		}
 
 		@Override
 		public int hashCode() {
-			return delegate.hashCode();
+			return content().hashCode();
 		}
 
 		@Override
 		public void forEach(BiConsumer<? super String, ? super Object> action) {
-			delegate.forEach(action);
+			content().forEach(action);
 		}
 
 		@Override
 		public boolean remove(Object key, Object value) {
-			return delegate.remove(key, value);
+			return content().remove(key, value);
 		}
 
 		@Override
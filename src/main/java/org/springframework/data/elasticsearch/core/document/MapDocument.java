@@ -54,6 +54,22 @@ class MapDocument implements Document {
 		this.documentAsMap = new LinkedHashMap<>(documentAsMap);
 	}
 
+	private MapDocument(LinkedHashMap<String, Object> documentAsMap) {
+		this.documentAsMap = documentAsMap;
+	}
+
+	/**
+	 * Creates a {@link MapDocument} that is backed by the given map instead of a copy of it. The caller must not use the
+	 * map afterwards.
+	 *
+	 * @param documentAsMap the map to take over, must not be {@literal null}.
+	 * @return the new {@link MapDocument}
+	 * @since 4.2
+	 */
+	static MapDocument wrap(LinkedHashMap<String, Object> documentAsMap) {
+		return new MapDocument(documentAsMap);
+	}
+
 	@Override
 	public void setIndex(@Nullable String index) {
 		this.index = index;
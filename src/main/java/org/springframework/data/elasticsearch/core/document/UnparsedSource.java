@@ -0,0 +1,34 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.document;
+
+import org.elasticsearch.common.bytes.BytesReference;
+import org.springframework.lang.Nullable;
+
+/**
+ * Implemented by {@link Document}s that keep the source as returned from Elasticsearch and only parse it when their
+ * content is accessed. This allows a converter to read an entity directly from the source.
+ *
+ * @since 4.2
+ */
+public interface UnparsedSource {
+
+	/**
+	 * @return the source if it has not been parsed into the document yet, {@literal null} otherwise.
+	 */
+	@Nullable
+	BytesReference getUnparsedSource();
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.index;
+
+import static org.springframework.util.StringUtils.*;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.elasticsearch.annotations.Setting;
+import org.springframework.data.elasticsearch.core.ResourceUtil;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentProperty;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.util.Lazy;
+import org.springframework.util.Assert;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Caches the mapping built by the {@link MappingBuilder} and the settings of an entity, so that they are only created
+ * once for every {@link ElasticsearchPersistentEntity} even when indices are created repeatedly, for example for time
+ * based indices. A cache belongs to one {@link ElasticsearchConverter} and lives as long as the converter, it is
+ * obtained with {@link ElasticsearchConverter#getMappingCache()}.
+ * <p>
+ * Mappings can be precomputed at build time with {@link #writeMappings(ElasticsearchConverter, Collection, Writer)}
+ * into the classpath resource {@value #PRECOMPUTED_MAPPINGS_LOCATION}. A precomputed mapping is only used if the
+ * fingerprint of the annotation metadata of the entity and the entities of its properties still matches. Mapping
+ * files referenced by annotations like {@link DynamicTemplates} are not part of the fingerprint, the resource must be
+ * written again when they change.
+ *
+ * @since 4.2
+ */
+public final class MappingCache {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(MappingCache.class);
+
+	/**
+	 * The classpath location of the precomputed mappings.
+	 */
+	public static final String PRECOMPUTED_MAPPINGS_LOCATION = "META-INF/spring-data-elasticsearch/mappings.properties";
+
+	private static final String FINGERPRINT_SUFFIX = ".fingerprint";
+	private static final String MAPPING_SUFFIX = ".mapping";
+
+	private final ElasticsearchConverter converter;
+	private final Map<Class<?>, String> mappings = new ConcurrentHashMap<>();
+	private final Map<Class<?>, String> settings = new ConcurrentHashMap<>();
+	private final Lazy<Properties> precomputedMappings = Lazy.of(MappingCache::loadPrecomputedMappings);
+
+	/**
+	 * @param converter the converter whose mapping context and conversions define the mappings, must not be
+	 *          {@literal null}
+	 */
+	public MappingCache(ElasticsearchConverter converter) {
+
+		Assert.notNull(converter, "converter must not be null");
+
+		this.converter = converter;
+	}
+
+	/**
+	 * Returns the mapping for the given class as built by the {@link MappingBuilder}.
+	 *
+	 * @param clazz the entity class
+	 * @return the mapping as JSON string
+	 * @throws MappingException on errors while building the mapping
+	 */
+	public String getMapping(Class<?> clazz) throws MappingException {
+		return mappings.computeIfAbsent(clazz, it -> loadOrBuildMapping(getRequiredPersistentEntity(it)));
+	}
+
+	/**
+	 * Returns the settings for the given class, read from the file of the {@link Setting} annotation or the default
+	 * settings of the entity if there is no such file.
+	 *
+	 * @param clazz the entity class
+	 * @return the settings as JSON string
+	 */
+	public String getSettings(Class<?> clazz) {
+		return settings.computeIfAbsent(clazz, it -> buildSettings(getRequiredPersistentEntity(it)));
+	}
+
+	private ElasticsearchPersistentEntity<?> getRequiredPersistentEntity(Class<?> clazz) {
+		return converter.getMappingContext().getRequiredPersistentEntity(clazz);
+	}
+
+	/**
+	 * Writes the mappings of the given classes in the format that is read from
+	 * {@value #PRECOMPUTED_MAPPINGS_LOCATION}. Intended to be called during the build of an application.
+	 *
+	 * @param converter the converter that provides the mapping context
+	 * @param classes the entity classes
+	 * @param writer the writer to write to, must write UTF-8 and is not closed
+	 * @throws IOException on errors writing the mappings
+	 */
+	public static void writeMappings(ElasticsearchConverter converter, Collection<Class<?>> classes, Writer writer)
+			throws IOException {
+
+		Properties mappings = new Properties();
+
+		for (Class<?> clazz : classes) {
+			ElasticsearchPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(clazz);
+			mappings.setProperty(clazz.getName() + FINGERPRINT_SUFFIX, fingerprint(converter, entity));
+			mappings.setProperty(clazz.getName() + MAPPING_SUFFIX, new MappingBuilder(converter).buildPropertyMapping(clazz));
+		}
+
+		mappings.store(writer, "Elasticsearch mappings precomputed by Spring Data Elasticsearch");
+	}
+
+	/**
+	 * Creates a fingerprint of the annotation metadata of an entity and the entities of its properties.
+	 */
+	static String fingerprint(ElasticsearchConverter converter, ElasticsearchPersistentEntity<?> entity) {
+
+		StringBuilder metadata = new StringBuilder();
+		appendMetadata(converter.getMappingContext(), entity, metadata, new HashSet<>());
+		return DigestUtils.md5DigestAsHex(metadata.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static void appendMetadata(
+			MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> mappingContext,
+			ElasticsearchPersistentEntity<?> entity, StringBuilder metadata, Set<Class<?>> visited) {
+
+		if (!visited.add(entity.getType())) {
+			return;
+		}
+
+		metadata.append(entity.getType().getName()).append(Arrays.toString(entity.getType().getAnnotations()));
+
+		for (ElasticsearchPersistentProperty property : entity) {
+
+			metadata.append(';').append(property.getName()).append(':').append(property.getTypeInformation());
+
+			Field field = property.getField();
+			if (field != null) {
+				metadata.append(Arrays.toString(field.getAnnotations()));
+			}
+
+			Method getter = property.getGetter();
+			if (getter != null) {
+				metadata.append(Arrays.toString(getter.getAnnotations()));
+			}
+
+			ElasticsearchPersistentEntity<?> propertyEntity = property.isEntity()
+					? mappingContext.getPersistentEntity(property)
+					: null;
+
+			if (propertyEntity != null) {
+				appendMetadata(mappingContext, propertyEntity, metadata, visited);
+			}
+		}
+	}
+
+	private String loadOrBuildMapping(ElasticsearchPersistentEntity<?> entity) {
+
+		Properties precomputedMappings = this.precomputedMappings.get();
+		String className = entity.getType().getName();
+		String mapping = precomputedMappings.getProperty(className + MAPPING_SUFFIX);
+
+		if (mapping != null) {
+
+			if (fingerprint(converter, entity).equals(precomputedMappings.getProperty(className + FINGERPRINT_SUFFIX))) {
+				return mapping;
+			}
+
+			LOGGER.info("the precomputed mapping for {} is outdated, building the mapping", className);
+		}
+
+		return new MappingBuilder(converter).buildPropertyMapping(entity.getType());
+	}
+
+	private static String buildSettings(ElasticsearchPersistentEntity<?> entity) {
+
+		Setting setting = AnnotatedElementUtils.findMergedAnnotation(entity.getType(), Setting.class);
+
+		if (setting != null) {
+
+			if (hasText(setting.settingPath())) {
+				String settings = ResourceUtil.readFileFromClasspath(setting.settingPath());
+
+				if (hasText(settings)) {
+					return settings;
+				}
+			} else {
+				LOGGER.info("settingPath in @Setting has to be defined. Using default instead.");
+			}
+		}
+
+		return entity.getDefaultSettings().toJson();
+	}
+
+	private static Properties loadPrecomputedMappings() {
+
+		Properties mappings = new Properties();
+		ClassPathResource resource = new ClassPathResource(PRECOMPUTED_MAPPINGS_LOCATION);
+
+		if (resource.exists()) {
+			try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+				mappings.load(reader);
+			} catch (IOException e) {
+				LOGGER.warn("could not read the precomputed mappings from {}: {}", PRECOMPUTED_MAPPINGS_LOCATION,
+						e.getMessage());
+			}
+		}
+
+		return mappings;
+	}
+}
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.elasticsearch.core.mapping;
 
+import java.time.Duration;
+
 import org.springframework.data.mapping.context.AbstractMappingContext;
 import org.springframework.data.mapping.model.FieldNamingStrategy;
 import org.springframework.data.mapping.model.Property;
@@ -22,6 +24,7 @@ import org.springframework.data.mapping.model.PropertyNameFieldNamingStrategy;
 import org.springframework.data.mapping.model.SimpleTypeHolder;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * SimpleElasticsearchMappingContext
@@ -37,6 +40,8 @@ public class SimpleElasticsearchMappingContext
 	private static final FieldNamingStrategy DEFAULT_NAMING_STRATEGY = PropertyNameFieldNamingStrategy.INSTANCE;
 
 	private FieldNamingStrategy fieldNamingStrategy = DEFAULT_NAMING_STRATEGY;
+	private Duration indexNameRefreshInterval = Duration.ZERO;
+	private boolean compileIndexNameExpressions = false;
 
 	/**
 	 * Configures the {@link FieldNamingStrategy} to be used to determine the field name if no manual mapping is applied.
@@ -50,6 +55,45 @@ public class SimpleElasticsearchMappingContext
 		this.fieldNamingStrategy = fieldNamingStrategy == null ? DEFAULT_NAMING_STRATEGY : fieldNamingStrategy;
 	}
 
+	/**
+	 * Configures the interval for which the index names of the entities that are defined by a SpEL expression are cached
+	 * after they have been resolved. Defaults to {@link Duration#ZERO} which resolves the expressions on every access.
+	 * The cached names can be dropped before the interval has passed with {@link #invalidateIndexCoordinates()}.
+	 *
+	 * @param indexNameRefreshInterval must not be {@literal null} or negative
+	 * @since 4.2
+	 */
+	public void setIndexNameRefreshInterval(Duration indexNameRefreshInterval) {
+
+		Assert.notNull(indexNameRefreshInterval, "indexNameRefreshInterval must not be null");
+		Assert.isTrue(!indexNameRefreshInterval.isNegative(), "indexNameRefreshInterval must not be negative");
+
+		this.indexNameRefreshInterval = indexNameRefreshInterval;
+		getPersistentEntities().forEach(entity -> entity.setIndexNameRefreshInterval(indexNameRefreshInterval));
+	}
+
+	/**
+	 * Configures whether SpEL expressions in the index names of the entities are compiled. Defaults to {@literal false}.
+	 *
+	 * @param compileIndexNameExpressions {@literal true} to compile the expressions
+	 * @since 4.2
+	 */
+	public void setCompileIndexNameExpressions(boolean compileIndexNameExpressions) {
+
+		this.compileIndexNameExpressions = compileIndexNameExpressions;
+		getPersistentEntities().forEach(entity -> entity.setCompileIndexNameExpressions(compileIndexNameExpressions));
+	}
+
+	/**
+	 * Drops the cached index names of all entities, so that they are resolved again on their next use. Can be called
+	 * by the bean that provides a dynamic index name when the name changes.
+	 *
+	 * @since 4.2
+	 */
+	public void invalidateIndexCoordinates() {
+		getPersistentEntities().forEach(SimpleElasticsearchPersistentEntity::invalidateIndexCoordinates);
+	}
+
 	@Override
 	protected boolean shouldCreatePersistentEntityFor(TypeInformation<?> type) {
 		return !ElasticsearchSimpleTypes.HOLDER.isSimpleType(type.getType());
@@ -57,7 +101,11 @@ public class SimpleElasticsearchMappingContext
 
 	@Override
 	protected <T> SimpleElasticsearchPersistentEntity<?> createPersistentEntity(TypeInformation<T> typeInformation) {
-		return new SimpleElasticsearchPersistentEntity<>(typeInformation);
+
+		SimpleElasticsearchPersistentEntity<T> entity = new SimpleElasticsearchPersistentEntity<>(typeInformation);
+		entity.setIndexNameRefreshInterval(indexNameRefreshInterval);
+		entity.setCompileIndexNameExpressions(compileIndexNameExpressions);
+		return entity;
 	}
 
 	@Override
@@ -15,9 +15,14 @@
  */
 package org.springframework.data.elasticsearch.core.mapping;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 import org.elasticsearch.common.collect.MapBuilder;
 import org.elasticsearch.index.VersionType;
@@ -37,11 +42,27 @@ import org.springframework.data.mapping.model.PersistentPropertyAccessorFactory;
 import org.springframework.data.spel.ExpressionDependencies;
 import org.springframework.data.util.Lazy;
 import org.springframework.data.util.TypeInformation;
+import org.springframework.expression.BeanResolver;
+import org.springframework.expression.ConstructorResolver;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.Expression;
+import org.springframework.expression.MethodResolver;
+import org.springframework.expression.OperatorOverloader;
 import org.springframework.expression.ParserContext;
+import org.springframework.expression.PropertyAccessor;
+import org.springframework.expression.TypeComparator;
+import org.springframework.expression.TypeConverter;
+import org.springframework.expression.TypeLocator;
+import org.springframework.expression.TypedValue;
 import org.springframework.expression.common.LiteralExpression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelNode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.ast.CompoundExpression;
+import org.springframework.expression.spel.ast.PropertyOrFieldReference;
+import org.springframework.expression.spel.ast.VariableReference;
+import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -79,11 +100,14 @@ public class SimpleElasticsearchPersistentEntity<T> extends BasicPersistentEntit
 	private @Nullable VersionType versionType;
 	private boolean createIndexAndMapping;
 	private final Map<String, ElasticsearchPersistentProperty> fieldNamePropertyCache = new ConcurrentHashMap<>();
-	private final ConcurrentHashMap<String, Expression> routingExpressions = new ConcurrentHashMap<>();
 	private @Nullable String routing;
+	private final Lazy<Function<T, String>> routingFunction = Lazy.of(this::createRoutingFunction);
 
 	private final ConcurrentHashMap<String, Expression> indexNameExpressions = new ConcurrentHashMap<>();
 	private final Lazy<EvaluationContext> indexNameEvaluationContext = Lazy.of(this::getIndexNameEvaluationContext);
+	private Duration indexNameRefreshInterval = Duration.ZERO;
+	private boolean compileIndexNameExpressions = false;
+	private @Nullable volatile CachedIndexCoordinates cachedIndexCoordinates;
 
 	public SimpleElasticsearchPersistentEntity(TypeInformation<T> typeInformation) {
 
@@ -129,7 +153,67 @@ public class SimpleElasticsearchPersistentEntity<T> extends BasicPersistentEntit
 
 	@Override
 	public IndexCoordinates getIndexCoordinates() {
-		return resolve(IndexCoordinates.of(getIndexName()));
+
+		long now = System.nanoTime();
+		CachedIndexCoordinates cached = this.cachedIndexCoordinates;
+
+		if (cached != null && cached.isValid(now)) {
+			return cached.indexCoordinates;
+		}
+
+		String indexName = getIndexName();
+		Expression expression = getExpressionForIndexName(indexName);
+		IndexCoordinates indexCoordinates = resolve(IndexCoordinates.of(indexName));
+
+		if (expression == null) {
+			this.cachedIndexCoordinates = new CachedIndexCoordinates(indexCoordinates, null);
+		} else if (!indexNameRefreshInterval.isZero()) {
+			this.cachedIndexCoordinates = new CachedIndexCoordinates(indexCoordinates,
+					now + indexNameRefreshInterval.toNanos());
+		}
+
+		return indexCoordinates;
+	}
+
+	/**
+	 * Sets the interval for which an index name that is defined by a SpEL expression is cached after it has been
+	 * resolved. Defaults to {@link Duration#ZERO} which resolves the expression on every call. Index names without an
+	 * expression are always cached.
+	 *
+	 * @param indexNameRefreshInterval must not be {@literal null} or negative
+	 * @since 4.2
+	 */
+	public void setIndexNameRefreshInterval(Duration indexNameRefreshInterval) {
+
+		Assert.notNull(indexNameRefreshInterval, "indexNameRefreshInterval must not be null");
+		Assert.isTrue(!indexNameRefreshInterval.isNegative(), "indexNameRefreshInterval must not be negative");
+
+		this.indexNameRefreshInterval = indexNameRefreshInterval;
+		invalidateIndexCoordinates();
+	}
+
+	/**
+	 * Sets whether SpEL expressions in the index name are compiled to byte code after they have been evaluated a few
+	 * times, falling back to interpretation if the compiled expression fails. Defaults to {@literal false}.
+	 *
+	 * @param compileIndexNameExpressions {@literal true} to compile the expressions
+	 * @since 4.2
+	 */
+	public void setCompileIndexNameExpressions(boolean compileIndexNameExpressions) {
+
+		this.compileIndexNameExpressions = compileIndexNameExpressions;
+		indexNameExpressions.clear();
+		invalidateIndexCoordinates();
+	}
+
+	/**
+	 * Removes the cached {@link IndexCoordinates}, so that the index name is resolved again on the next call of
+	 * {@link #getIndexCoordinates()}.
+	 *
+	 * @since 4.2
+	 */
+	public void invalidateIndexCoordinates() {
+		this.cachedIndexCoordinates = null;
 	}
 
 	@Nullable
@@ -355,7 +439,8 @@ public class SimpleElasticsearchPersistentEntity<T> extends BasicPersistentEntit
 	@Nullable
 	private Expression getExpressionForIndexName(String name) {
 		return indexNameExpressions.computeIfAbsent(name, s -> {
-			Expression expr = PARSER.parseExpression(s, ParserContext.TEMPLATE_EXPRESSION);
+			SpelExpressionParser parser = compileIndexNameExpressions ? getCompilingParser() : PARSER;
+			Expression expr = parser.parseExpression(s, ParserContext.TEMPLATE_EXPRESSION);
 			return expr instanceof LiteralExpression ? null : expr;
 		});
 	}
@@ -383,25 +468,178 @@ public class SimpleElasticsearchPersistentEntity<T> extends BasicPersistentEntit
 			return null;
 		}
 
-		ElasticsearchPersistentProperty persistentProperty = getPersistentProperty(routing);
+		return routingFunction.get().apply(bean);
+	}
+
+	/**
+	 * creates the function that resolves the routing of a bean. The routing is read directly from the property if it is
+	 * the name of a property or a SpEL expression like {@code #entity.property}, other expressions are compiled when
+	 * possible.
+	 *
+	 * @return function returning the routing for a bean
+	 */
+	private Function<T, String> createRoutingFunction() {
+
+		String routing = Objects.requireNonNull(this.routing);
+		ElasticsearchPersistentProperty routingProperty = getPersistentProperty(routing);
+
+		if (routingProperty == null) {
+			Expression expression = getCompilingParser().parseExpression(routing);
+			routingProperty = getEntityPropertyReference(expression);
 
-		if (persistentProperty != null) {
-			Object propertyValue = getPropertyAccessor(bean).getProperty(persistentProperty);
+			if (routingProperty == null) {
+				return createRoutingExpressionFunction(routing, expression);
+			}
+		}
 
+		ElasticsearchPersistentProperty property = routingProperty;
+		return bean -> {
+			Object propertyValue = getPropertyAccessor(bean).getProperty(property);
 			return propertyValue != null ? propertyValue.toString() : null;
+		};
+	}
+
+	private Function<T, String> createRoutingExpressionFunction(String routing, Expression expression) {
+
+		ExpressionDependencies expressionDependencies = ExpressionDependencies.discover(expression);
+
+		// without dependencies the context does not contain extensions which could depend on the current state, it is
+		// shared and the entity is provided by a wrapper for every bean
+		EvaluationContext sharedContext = expressionDependencies.isEmpty()
+				? getEvaluationContext(null, expressionDependencies)
+				: null;
+
+		return bean -> {
+			try {
+				EvaluationContext context;
+
+				if (sharedContext != null) {
+					context = new EntityEvaluationContext(sharedContext, bean);
+				} else {
+					context = getEvaluationContext(null, expressionDependencies);
+					context.setVariable("entity", bean);
+				}
+
+				return expression.getValue(context, String.class);
+			} catch (EvaluationException e) {
+				throw new InvalidDataAccessApiUsageException("Could not resolve expression: " + routing
+						+ " for object of class " + bean.getClass().getCanonicalName(), e);
+			}
+		};
+	}
+
+	/**
+	 * @return the property if the expression only references a property of the entity like {@code #entity.property}
+	 */
+	@Nullable
+	private ElasticsearchPersistentProperty getEntityPropertyReference(Expression expression) {
+
+		if (!(expression instanceof SpelExpression)) {
+			return null;
+		}
+
+		SpelNode ast = ((SpelExpression) expression).getAST();
+
+		if (ast instanceof CompoundExpression && ast.getChildCount() == 2 && ast.getChild(0) instanceof VariableReference
+				&& "#entity".equals(ast.getChild(0).toStringAST())
+				&& ast.getChild(1) instanceof PropertyOrFieldReference) {
+			return getPersistentProperty(((PropertyOrFieldReference) ast.getChild(1)).getName());
 		}
 
-		try {
-			Expression expression = routingExpressions.computeIfAbsent(routing, PARSER::parseExpression);
-			ExpressionDependencies expressionDependencies = ExpressionDependencies.discover(expression);
+		return null;
+	}
+
+	private SpelExpressionParser getCompilingParser() {
+		return new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.MIXED, getType().getClassLoader()));
+	}
+
+	/**
+	 * resolved {@link IndexCoordinates} together with the {@link System#nanoTime()} until which they are valid.
+	 */
+	private static class CachedIndexCoordinates {
+
+		private final IndexCoordinates indexCoordinates;
+		@Nullable private final Long validUntil;
+
+		CachedIndexCoordinates(IndexCoordinates indexCoordinates, @Nullable Long validUntil) {
+			this.indexCoordinates = indexCoordinates;
+			this.validUntil = validUntil;
+		}
+
+		boolean isValid(long now) {
+			return validUntil == null || now - validUntil < 0;
+		}
+	}
+
+	/**
+	 * {@link EvaluationContext} that provides a bean as variable {@code entity} and otherwise delegates to a shared
+	 * context, so that the shared context is never modified.
+	 */
+	private static class EntityEvaluationContext implements EvaluationContext {
 
-			EvaluationContext context = getEvaluationContext(null, expressionDependencies);
-			context.setVariable("entity", bean);
+		private final EvaluationContext delegate;
+		private final Map<String, Object> variables = new HashMap<>(4);
+
+		EntityEvaluationContext(EvaluationContext delegate, Object entity) {
+			this.delegate = delegate;
+			this.variables.put("entity", entity);
+		}
+
+		@Override
+		public TypedValue getRootObject() {
+			return delegate.getRootObject();
+		}
+
+		@Override
+		public List<PropertyAccessor> getPropertyAccessors() {
+			return delegate.getPropertyAccessors();
+		}
+
+		@Override
+		public List<ConstructorResolver> getConstructorResolvers() {
+			return delegate.getConstructorResolvers();
+		}
+
+		@Override
+		public List<MethodResolver> getMethodResolvers() {
+			return delegate.getMethodResolvers();
+		}
+
+		@Override
+		@Nullable
+		public BeanResolver getBeanResolver() {
+			return delegate.getBeanResolver();
+		}
+
+		@Override
+		public TypeLocator getTypeLocator() {
+			return delegate.getTypeLocator();
+		}
+
+		@Override
+		public TypeConverter getTypeConverter() {
+			return delegate.getTypeConverter();
+		}
+
+		@Override
+		public TypeComparator getTypeComparator() {
+			return delegate.getTypeComparator();
+		}
+
+		@Override
+		public OperatorOverloader getOperatorOverloader() {
+			return delegate.getOperatorOverloader();
+		}
+
+		@Override
+		public void setVariable(String name, @Nullable Object value) {
+			variables.put(name, value);
+		}
 
-			return expression.getValue(context, String.class);
-		} catch (EvaluationException e) {
-			throw new InvalidDataAccessApiUsageException(
-					"Could not resolve expression: " + routing + " for object of class " + bean.getClass().getCanonicalName(), e);
+		@Override
+		@Nullable
+		public Object lookupVariable(String name) {
+			return variables.containsKey(name) ? variables.get(name) : delegate.lookupVariable(name);
 		}
 	}
 
@@ -64,6 +64,9 @@ abstract class AbstractQuery implements Query {
 	@Nullable private TimeValue timeout;
 	private boolean explain = false;
 	@Nullable private List<Object> searchAfter;
+	private int scrollPrefetch = 0;
+	@Nullable private Duration pointInTimeKeepAlive;
+	@Nullable private Integer scrollSize;
 	protected List<RescorerQuery> rescorerQueries = new ArrayList<>();
 
 	@Override
@@ -298,6 +301,44 @@ abstract class AbstractQuery implements Query {
 		return searchAfter;
 	}
 
+	@Override
+	public void setScrollPrefetch(int scrollPrefetch) {
+
+		Assert.isTrue(scrollPrefetch >= 0, "scrollPrefetch must not be negative");
+
+		this.scrollPrefetch = scrollPrefetch;
+	}
+
+	@Override
+	public int getScrollPrefetch() {
+		return scrollPrefetch;
+	}
+
+	@Override
+	public void setPointInTimeKeepAlive(@Nullable Duration pointInTimeKeepAlive) {
+		this.pointInTimeKeepAlive = pointInTimeKeepAlive;
+	}
+
+	@Nullable
+	@Override
+	public Duration getPointInTimeKeepAlive() {
+		return pointInTimeKeepAlive;
+	}
+
+	@Override
+	public void setScrollSize(@Nullable Integer scrollSize) {
+
+		Assert.isTrue(scrollSize == null || scrollSize > 0, "scrollSize must be greater than 0");
+
+		this.scrollSize = scrollSize;
+	}
+
+	@Nullable
+	@Override
+	public Integer getScrollSize() {
+		return scrollSize;
+	}
+
 	@Override
 	public void addRescorerQuery(RescorerQuery rescorerQuery) {
 
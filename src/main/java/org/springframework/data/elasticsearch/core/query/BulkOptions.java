@@ -19,9 +19,12 @@ import java.util.List;
 
 import org.elasticsearch.action.support.ActiveShardCount;
 import org.elasticsearch.action.support.WriteRequest;
+import org.elasticsearch.common.unit.ByteSizeUnit;
+import org.elasticsearch.common.unit.ByteSizeValue;
 import org.elasticsearch.common.unit.TimeValue;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Options that may be passed to an
@@ -36,6 +39,31 @@ import org.springframework.lang.Nullable;
  */
 public class BulkOptions {
 
+	/**
+	 * default for the maximum number of actions in one bulk request when a stream of entities is split into bulks.
+	 *
+	 * @since 4.2
+	 */
+	public static final int DEFAULT_MAX_ACTIONS = 1000;
+	/**
+	 * default for the maximum size of the sources in one bulk request when a stream of entities is split into bulks.
+	 *
+	 * @since 4.2
+	 */
+	public static final ByteSizeValue DEFAULT_MAX_SIZE = new ByteSizeValue(5, ByteSizeUnit.MB);
+	/**
+	 * default for the number of bulk requests that may be executed concurrently.
+	 *
+	 * @since 4.2
+	 */
+	public static final int DEFAULT_MAX_CONCURRENT_BULKS = 1;
+	/**
+	 * default for the initial wait time before rejected bulk items are sent again.
+	 *
+	 * @since 4.2
+	 */
+	public static final TimeValue DEFAULT_RETRY_BACKOFF = TimeValue.timeValueMillis(50);
+
 	private static final BulkOptions defaultOptions = builder().build();
 
 	private final @Nullable TimeValue timeout;
@@ -43,14 +71,28 @@ public class BulkOptions {
 	private final @Nullable ActiveShardCount waitForActiveShards;
 	private final @Nullable String pipeline;
 	private final @Nullable String routingId;
+	private final int maxActions;
+	private final ByteSizeValue maxSize;
+	private final int maxConcurrentBulks;
+	private final @Nullable TimeValue flushInterval;
+	private final int maxRetries;
+	private final TimeValue retryBackoff;
 
 	private BulkOptions(@Nullable TimeValue timeout, @Nullable WriteRequest.RefreshPolicy refreshPolicy,
-			@Nullable ActiveShardCount waitForActiveShards, @Nullable String pipeline, @Nullable String routingId) {
+			@Nullable ActiveShardCount waitForActiveShards, @Nullable String pipeline, @Nullable String routingId,
+			int maxActions, ByteSizeValue maxSize, int maxConcurrentBulks, @Nullable TimeValue flushInterval,
+			int maxRetries, TimeValue retryBackoff) {
 		this.timeout = timeout;
 		this.refreshPolicy = refreshPolicy;
 		this.waitForActiveShards = waitForActiveShards;
 		this.pipeline = pipeline;
 		this.routingId = routingId;
+		this.maxActions = maxActions;
+		this.maxSize = maxSize;
+		this.maxConcurrentBulks = maxConcurrentBulks;
+		this.flushInterval = flushInterval;
+		this.maxRetries = maxRetries;
+		this.retryBackoff = retryBackoff;
 	}
 
 	@Nullable
@@ -78,6 +120,60 @@ public class BulkOptions {
 		return routingId;
 	}
 
+	/**
+	 * @return the maximum number of actions that are put into one bulk request when a stream of entities is split into
+	 *         bulks.
+	 * @since 4.2
+	 */
+	public int getMaxActions() {
+		return maxActions;
+	}
+
+	/**
+	 * @return the maximum size of the document sources that are put into one bulk request when a stream of entities is
+	 *         split into bulks.
+	 * @since 4.2
+	 */
+	public ByteSizeValue getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * @return the maximum number of bulk requests that are in flight at the same time when a stream of entities is
+	 *         split into bulks.
+	 * @since 4.2
+	 */
+	public int getMaxConcurrentBulks() {
+		return maxConcurrentBulks;
+	}
+
+	/**
+	 * @return the interval in which a {@link org.springframework.data.elasticsearch.core.BulkIngester} sends the
+	 *         collected actions regardless of their number and size, {@literal null} if there is no time based flush.
+	 * @since 4.2
+	 */
+	@Nullable
+	public TimeValue getFlushInterval() {
+		return flushInterval;
+	}
+
+	/**
+	 * @return the maximum number of times that bulk items rejected by the cluster (HTTP status 429) are sent again, 0
+	 *         if rejected items are not retried.
+	 * @since 4.2
+	 */
+	public int getMaxRetries() {
+		return maxRetries;
+	}
+
+	/**
+	 * @return the time to wait before rejected items are sent for the first time, doubled on every further retry.
+	 * @since 4.2
+	 */
+	public TimeValue getRetryBackoff() {
+		return retryBackoff;
+	}
+
 	/**
 	 * Create a new {@link BulkOptionsBuilder} to build {@link BulkOptions}.
 	 *
@@ -106,6 +202,12 @@ public class BulkOptions {
 		private @Nullable ActiveShardCount waitForActiveShards;
 		private @Nullable String pipeline;
 		private @Nullable String routingId;
+		private int maxActions = DEFAULT_MAX_ACTIONS;
+		private ByteSizeValue maxSize = DEFAULT_MAX_SIZE;
+		private int maxConcurrentBulks = DEFAULT_MAX_CONCURRENT_BULKS;
+		private @Nullable TimeValue flushInterval;
+		private int maxRetries = 0;
+		private TimeValue retryBackoff = DEFAULT_RETRY_BACKOFF;
 
 		private BulkOptionsBuilder() {}
 
@@ -134,8 +236,74 @@ public class BulkOptions {
 			return this;
 		}
 
+		/**
+		 * @param maxActions the maximum number of actions in one bulk request, must be greater than 0.
+		 * @since 4.2
+		 */
+		public BulkOptionsBuilder withMaxActions(int maxActions) {
+
+			Assert.isTrue(maxActions > 0, "maxActions must be greater than 0");
+
+			this.maxActions = maxActions;
+			return this;
+		}
+
+		/**
+		 * @param maxSize the maximum size of the document sources in one bulk request, must not be {@literal null}.
+		 * @since 4.2
+		 */
+		public BulkOptionsBuilder withMaxSize(ByteSizeValue maxSize) {
+
+			Assert.notNull(maxSize, "maxSize must not be null");
+
+			this.maxSize = maxSize;
+			return this;
+		}
+
+		/**
+		 * @param maxConcurrentBulks the maximum number of bulk requests in flight, must be greater than 0.
+		 * @since 4.2
+		 */
+		public BulkOptionsBuilder withMaxConcurrentBulks(int maxConcurrentBulks) {
+
+			Assert.isTrue(maxConcurrentBulks > 0, "maxConcurrentBulks must be greater than 0");
+
+			this.maxConcurrentBulks = maxConcurrentBulks;
+			return this;
+		}
+
+		/**
+		 * @param flushInterval the interval in which a {@link org.springframework.data.elasticsearch.core.BulkIngester}
+		 *          sends the collected actions.
+		 * @since 4.2
+		 */
+		public BulkOptionsBuilder withFlushInterval(TimeValue flushInterval) {
+			this.flushInterval = flushInterval;
+			return this;
+		}
+
+		/**
+		 * Enables sending bulk items again that were rejected by the cluster (HTTP status 429), using an exponential
+		 * backoff.
+		 *
+		 * @param maxRetries the maximum number of retries, must not be negative.
+		 * @param retryBackoff the wait time before the first retry, doubled on every further retry, must not be
+		 *          {@literal null}.
+		 * @since 4.2
+		 */
+		public BulkOptionsBuilder withRetries(int maxRetries, TimeValue retryBackoff) {
+
+			Assert.isTrue(maxRetries >= 0, "maxRetries must not be negative");
+			Assert.notNull(retryBackoff, "retryBackoff must not be null");
+
+			this.maxRetries = maxRetries;
+			this.retryBackoff = retryBackoff;
+			return this;
+		}
+
 		public BulkOptions build() {
-			return new BulkOptions(timeout, refreshPolicy, waitForActiveShards, pipeline, routingId);
+			return new BulkOptions(timeout, refreshPolicy, waitForActiveShards, pipeline, routingId, maxActions, maxSize,
+					maxConcurrentBulks, flushInterval, maxRetries, retryBackoff);
 		}
 	}
 }
@@ -29,6 +29,7 @@ import org.springframework.util.Assert;
 public class CriteriaQuery extends AbstractQuery {
 
 	private Criteria criteria;
+	private boolean mapped = false;
 
 	public CriteriaQuery(Criteria criteria) {
 		this(criteria, Pageable.unpaged());
@@ -74,4 +75,24 @@ public class CriteriaQuery extends AbstractQuery {
 	public Criteria getCriteria() {
 		return this.criteria;
 	}
+
+	/**
+	 * @return {@literal true} if the field names and values of the criteria are already mapped for the domain class
+	 * @since 4.2
+	 */
+	public boolean isMapped() {
+		return mapped;
+	}
+
+	/**
+	 * Marks the criteria as already mapped to the field names and converted values of the domain class, so that they are
+	 * not updated by {@link org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter#updateQuery} again
+	 * when the query is executed. Criteria added afterwards must be mapped as well.
+	 *
+	 * @param mapped {@literal true} if the criteria are mapped
+	 * @since 4.2
+	 */
+	public void setMapped(boolean mapped) {
+		this.mapped = mapped;
+	}
 }
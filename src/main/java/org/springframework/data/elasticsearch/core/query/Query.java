@@ -255,7 +255,8 @@ public interface Query {
 
 	/**
 	 * For queries that are used in delete request, these are internally handled by Elasticsearch as scroll/bulk delete
-	 * queries. Must not return {@literal null} when {@link #hasScrollTime()} returns {@literal true}.
+	 * queries. Unpaged reactive searches use it as keep alive of their scroll context. Must not return {@literal null}
+	 * when {@link #hasScrollTime()} returns {@literal true}.
 	 *
 	 * @return the scrolltime settings
 	 * @since 4.0
@@ -265,7 +266,7 @@ public interface Query {
 
 	/**
 	 * For queries that are used in delete request, these are internally handled by Elasticsearch as scroll/bulk delete
-	 * queries.
+	 * queries. Unpaged reactive searches use it as keep alive of their scroll context, defaults to one minute there.
 	 *
 	 * @param scrollTime the scrolltime settings
 	 * @since 4.0
@@ -337,4 +338,63 @@ public interface Query {
 	default List<RescorerQuery> getRescorerQueries() {
 		return Collections.emptyList();
 	}
+
+	/**
+	 * Sets the number of scroll pages that are requested in the background while the current page is consumed when the
+	 * query is used with {@link org.springframework.data.elasticsearch.core.SearchOperations#searchForStream(Query, Class)}.
+	 *
+	 * @param scrollPrefetch the number of pages to request ahead, 0 disables prefetching, must not be negative.
+	 * @since 4.2
+	 */
+	void setScrollPrefetch(int scrollPrefetch);
+
+	/**
+	 * @return the number of scroll pages that are requested ahead when streaming the results, defaults to 0 which
+	 *         means that the next page is only requested when the current one is consumed.
+	 * @since 4.2
+	 */
+	default int getScrollPrefetch() {
+		return 0;
+	}
+
+	/**
+	 * Sets the keep alive of a point in time. When set,
+	 * {@link org.springframework.data.elasticsearch.core.SearchOperations#searchForStream(Query, Class)} and unpaged
+	 * reactive searches open a point in time and page through the results with {@literal search_after} instead of using
+	 * a scroll context. A sort on {@literal _id} is added as tiebreaker if the query does not sort by {@literal _id}.
+	 *
+	 * @param pointInTimeKeepAlive how long the point in time is kept alive between two requests, {@literal null} to use
+	 *          a scroll context.
+	 * @since 4.2
+	 */
+	void setPointInTimeKeepAlive(@Nullable Duration pointInTimeKeepAlive);
+
+	/**
+	 * @return the keep alive of the point in time to use for streaming the results, {@literal null} if a scroll context
+	 *         is used.
+	 * @since 4.2
+	 */
+	@Nullable
+	default Duration getPointInTimeKeepAlive() {
+		return null;
+	}
+
+	/**
+	 * Sets the number of hits that are requested with every scroll or {@literal search_after} request when the results
+	 * of an unpaged reactive search are read.
+	 *
+	 * @param scrollSize the number of hits per request, {@literal null} to use the default of the page size of the
+	 *          query or 10000 for an unpaged query. Must be greater than 0.
+	 * @since 4.2
+	 */
+	void setScrollSize(@Nullable Integer scrollSize);
+
+	/**
+	 * @return the number of hits per scroll or {@literal search_after} request, {@literal null} if not set.
+	 * @since 4.2
+	 */
+	@Nullable
+	default Integer getScrollSize() {
+		return null;
+	}
 }
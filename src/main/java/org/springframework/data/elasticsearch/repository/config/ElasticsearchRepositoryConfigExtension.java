@@ -20,13 +20,18 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.core.annotation.AnnotationAttributes;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
 import org.springframework.data.elasticsearch.repository.support.ElasticsearchRepositoryFactoryBean;
+import org.springframework.data.elasticsearch.repository.support.IndexBootstrapMode;
+import org.springframework.data.elasticsearch.repository.support.IndexBootstrapper;
 import org.springframework.data.repository.config.AnnotationRepositoryConfigurationSource;
 import org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport;
+import org.springframework.data.repository.config.RepositoryConfigurationSource;
 import org.springframework.data.repository.config.XmlRepositoryConfigurationSource;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.w3c.dom.Element;
@@ -70,6 +75,51 @@ public class ElasticsearchRepositoryConfigExtension extends RepositoryConfigurat
 
 		AnnotationAttributes attributes = config.getAttributes();
 		builder.addPropertyReference("elasticsearchOperations", attributes.getString("elasticsearchTemplateRef"));
+
+		IndexBootstrapMode indexBootstrapMode = attributes.getEnum("indexBootstrapMode");
+
+		if (indexBootstrapMode != IndexBootstrapMode.IMMEDIATE) {
+			builder.addPropertyReference("indexBootstrapper",
+					getIndexBootstrapperBeanName(attributes.getString("elasticsearchTemplateRef"), indexBootstrapMode));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport#registerBeansForRoot(org.springframework.beans.factory.support.BeanDefinitionRegistry, org.springframework.data.repository.config.RepositoryConfigurationSource)
+	 */
+	@Override
+	public void registerBeansForRoot(BeanDefinitionRegistry registry, RepositoryConfigurationSource configurationSource) {
+
+		super.registerBeansForRoot(registry, configurationSource);
+
+		if (!(configurationSource instanceof AnnotationRepositoryConfigurationSource)) {
+			return;
+		}
+
+		AnnotationAttributes attributes = ((AnnotationRepositoryConfigurationSource) configurationSource).getAttributes();
+		IndexBootstrapMode indexBootstrapMode = attributes.getEnum("indexBootstrapMode");
+
+		if (indexBootstrapMode == IndexBootstrapMode.IMMEDIATE) {
+			return;
+		}
+
+		// repositories of all configurations that use the same operations and mode share one bootstrapper
+		String elasticsearchTemplateRef = attributes.getString("elasticsearchTemplateRef");
+		String beanName = getIndexBootstrapperBeanName(elasticsearchTemplateRef, indexBootstrapMode);
+
+		if (!registry.containsBeanDefinition(beanName)) {
+			AbstractBeanDefinition beanDefinition = BeanDefinitionBuilder.genericBeanDefinition(IndexBootstrapper.class) //
+					.addConstructorArgReference(elasticsearchTemplateRef) //
+					.addConstructorArgValue(indexBootstrapMode) //
+					.getBeanDefinition();
+			registry.registerBeanDefinition(beanName, beanDefinition);
+		}
+	}
+
+	private static String getIndexBootstrapperBeanName(String elasticsearchTemplateRef,
+			IndexBootstrapMode indexBootstrapMode) {
+		return IndexBootstrapper.class.getName() + '#' + elasticsearchTemplateRef + '#' + indexBootstrapMode;
 	}
 
 	/*
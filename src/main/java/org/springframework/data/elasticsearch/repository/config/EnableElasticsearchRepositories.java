@@ -25,6 +25,7 @@ import java.lang.annotation.Target;
 import org.springframework.context.annotation.ComponentScan.Filter;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.elasticsearch.repository.support.ElasticsearchRepositoryFactoryBean;
+import org.springframework.data.elasticsearch.repository.support.IndexBootstrapMode;
 import org.springframework.data.repository.config.DefaultRepositoryBaseClass;
 import org.springframework.data.repository.query.QueryLookupStrategy.Key;
 
@@ -127,6 +128,14 @@ public @interface EnableElasticsearchRepositories {
 	 */
 	String elasticsearchTemplateRef() default "elasticsearchTemplate";
 
+	/**
+	 * Configures when the indices of the repositories discovered through this annotation are checked and created.
+	 * Defaults to {@link IndexBootstrapMode#IMMEDIATE}.
+	 *
+	 * @since 4.2
+	 */
+	IndexBootstrapMode indexBootstrapMode() default IndexBootstrapMode.IMMEDIATE;
+
 	/**
 	 * Configures whether nested repository-interfaces (e.g. defined as inner classes) should be discovered by the
 	 * repositories infrastructure.
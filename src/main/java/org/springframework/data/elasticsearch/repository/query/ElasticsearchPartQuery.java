@@ -15,20 +15,14 @@
  */
 package org.springframework.data.elasticsearch.repository.query;
 
-import java.util.Collections;
-
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHitSupport;
 import org.springframework.data.elasticsearch.core.SearchHits;
-import org.springframework.data.elasticsearch.core.SearchHitsImpl;
-import org.springframework.data.elasticsearch.core.TotalHitsRelation;
-import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
-import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentProperty;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
 import org.springframework.data.elasticsearch.repository.query.parser.ElasticsearchQueryCreator;
-import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.elasticsearch.repository.query.parser.PartTreeFieldMapping;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.data.util.StreamUtils;
@@ -49,14 +43,14 @@ import org.springframework.util.ClassUtils;
 public class ElasticsearchPartQuery extends AbstractElasticsearchRepositoryQuery {
 
 	private final PartTree tree;
-	private final ElasticsearchConverter elasticsearchConverter;
-	private final MappingContext<?, ElasticsearchPersistentProperty> mappingContext;
+	private final PartTreeFieldMapping fieldMapping;
 
 	public ElasticsearchPartQuery(ElasticsearchQueryMethod method, ElasticsearchOperations elasticsearchOperations) {
 		super(method, elasticsearchOperations);
-		this.tree = new PartTree(queryMethod.getName(), queryMethod.getResultProcessor().getReturnedType().getDomainType());
-		this.elasticsearchConverter = elasticsearchOperations.getElasticsearchConverter();
-		this.mappingContext = elasticsearchConverter.getMappingContext();
+		Class<?> domainType = queryMethod.getResultProcessor().getReturnedType().getDomainType();
+		this.tree = new PartTree(queryMethod.getName(), domainType);
+		this.fieldMapping = new PartTreeFieldMapping(tree, domainType,
+				elasticsearchOperations.getElasticsearchConverter().getMappingContext());
 	}
 
 	@Override
@@ -73,8 +67,6 @@ public class ElasticsearchPartQuery extends AbstractElasticsearchRepositoryQuery
 
 		Assert.notNull(query, "unsupported query");
 
-		elasticsearchConverter.updateQuery(query, clazz);
-
 		if (queryMethod.hasAnnotatedHighlight()) {
 			query.setHighlightQuery(queryMethod.getAnnotatedHighlightQuery());
 		}
@@ -110,23 +102,15 @@ public class ElasticsearchPartQuery extends AbstractElasticsearchRepositoryQuery
 		} else if (queryMethod.isCollectionQuery()) {
 
 			if (accessor.getPageable().isUnpaged()) {
-				int itemCount = (int) elasticsearchOperations.count(query, clazz, index);
-
-				if (itemCount == 0) {
-					result = new SearchHitsImpl<>(0, TotalHitsRelation.EQUAL_TO, Float.NaN, null, Collections.emptyList(), null);
-				} else {
-					query.setPageable(PageRequest.of(0, Math.max(1, itemCount)));
-				}
+				result = elasticsearchOperations.searchAll(query, clazz, index);
 			} else {
 				query.setPageable(accessor.getPageable());
-			}
-
-			if (result == null) {
 				result = elasticsearchOperations.search(query, clazz, index);
 			}
-
 		} else if (tree.isCountProjection()) {
 			result = elasticsearchOperations.count(query, clazz, index);
+		} else if (tree.isExistsProjection()) {
+			result = elasticsearchOperations.exists(query, clazz, index);
 		} else {
 			result = elasticsearchOperations.searchOne(query, clazz, index);
 		}
@@ -146,12 +130,11 @@ public class ElasticsearchPartQuery extends AbstractElasticsearchRepositoryQuery
 		if (queryMethod.isCollectionQuery()) {
 
 			if (accessor.getPageable().isUnpaged()) {
-				int itemCount = (int) elasticsearchOperations.count(query, clazz, index);
-				query.setPageable(PageRequest.of(0, Math.max(1, itemCount)));
+				result = elasticsearchOperations.searchAll(query, clazz, index);
 			} else {
 				query.setPageable(accessor.getPageable());
+				result = elasticsearchOperations.search(query, clazz, index);
 			}
-			result = elasticsearchOperations.search(query, clazz, index);
 		}
 
 		if (ClassUtils.isAssignable(Number.class, queryMethod.getReturnedObjectType())) {
@@ -161,6 +144,6 @@ public class ElasticsearchPartQuery extends AbstractElasticsearchRepositoryQuery
 	}
 
 	public CriteriaQuery createQuery(ParametersParameterAccessor accessor) {
-		return new ElasticsearchQueryCreator(tree, accessor, mappingContext).createQuery();
+		return new ElasticsearchQueryCreator(tree, accessor, fieldMapping).createQuery();
 	}
 }
@@ -15,14 +15,10 @@
  */
 package org.springframework.data.elasticsearch.repository.query;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 import org.springframework.data.elasticsearch.core.ReactiveElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.query.StringQuery;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.util.NumberUtils;
 import org.springframework.util.ObjectUtils;
 
 /**
@@ -32,8 +28,7 @@ import org.springframework.util.ObjectUtils;
  */
 public class ReactiveElasticsearchStringQuery extends AbstractReactiveElasticsearchRepositoryQuery {
 
-	private static final Pattern PARAMETER_PLACEHOLDER = Pattern.compile("\\?(\\d+)");
-	private final String query;
+	private final StringQueryTemplate queryTemplate;
 
 	public ReactiveElasticsearchStringQuery(ReactiveElasticsearchQueryMethod queryMethod,
 			ReactiveElasticsearchOperations operations, SpelExpressionParser expressionParser,
@@ -47,28 +42,15 @@ public class ReactiveElasticsearchStringQuery extends AbstractReactiveElasticsea
 			QueryMethodEvaluationContextProvider evaluationContextProvider) {
 
 		super(queryMethod, operations);
-		this.query = query;
+		this.queryTemplate = StringQueryTemplate.parse(query);
 	}
 
 	@Override
 	protected StringQuery createQuery(ElasticsearchParameterAccessor parameterAccessor) {
-		String queryString = replacePlaceholders(this.query, parameterAccessor);
+		String queryString = queryTemplate.bind(index -> getParameterWithIndex(parameterAccessor, index));
 		return new StringQuery(queryString);
 	}
 
-	private String replacePlaceholders(String input, ElasticsearchParameterAccessor accessor) {
-
-		Matcher matcher = PARAMETER_PLACEHOLDER.matcher(input);
-		String result = input;
-		while (matcher.find()) {
-
-			String placeholder = Pattern.quote(matcher.group()) + "(?!\\d+)";
-			int index = NumberUtils.parseNumber(matcher.group(1), Integer.class);
-			result = result.replaceAll(placeholder, getParameterWithIndex(accessor, index));
-		}
-		return result;
-	}
-
 	private String getParameterWithIndex(ElasticsearchParameterAccessor accessor, int index) {
 		return ObjectUtils.nullSafeToString(accessor.getBindableValue(index));
 	}
@@ -19,6 +19,7 @@ import org.springframework.data.elasticsearch.core.ReactiveElasticsearchOperatio
 import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.data.elasticsearch.repository.query.parser.ElasticsearchQueryCreator;
+import org.springframework.data.elasticsearch.repository.query.parser.PartTreeFieldMapping;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.parser.PartTree;
 
@@ -30,18 +31,21 @@ import org.springframework.data.repository.query.parser.PartTree;
 public class ReactivePartTreeElasticsearchQuery extends AbstractReactiveElasticsearchRepositoryQuery {
 
 	private final PartTree tree;
+	private final PartTreeFieldMapping fieldMapping;
 
 	public ReactivePartTreeElasticsearchQuery(ReactiveElasticsearchQueryMethod queryMethod,
 			ReactiveElasticsearchOperations elasticsearchOperations) {
 		super(queryMethod, elasticsearchOperations);
 
 		ResultProcessor processor = queryMethod.getResultProcessor();
-		this.tree = new PartTree(queryMethod.getName(), processor.getReturnedType().getDomainType());
+		Class<?> domainType = processor.getReturnedType().getDomainType();
+		this.tree = new PartTree(queryMethod.getName(), domainType);
+		this.fieldMapping = new PartTreeFieldMapping(tree, domainType, getMappingContext());
 	}
 
 	@Override
 	protected Query createQuery(ElasticsearchParameterAccessor accessor) {
-		CriteriaQuery query = new ElasticsearchQueryCreator(tree, accessor, getMappingContext()).createQuery();
+		CriteriaQuery query = new ElasticsearchQueryCreator(tree, accessor, fieldMapping).createQuery();
 
 		if (tree.isLimiting()) {
 			query.setMaxResults(tree.getMaxResults());
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The query of a {@link org.springframework.data.elasticsearch.annotations.Query} annotation, parsed once into the
+ * literal parts and the {@literal ?0}, {@literal ?1}... parameter placeholders between them, so that binding the
+ * parameters is a single pass over the parts. A placeholder inside a string literal of the query, delimited by double or
+ * single quotes, is replaced with the escaped value, any other placeholder with the value as it is, so that it can
+ * hold a JSON fragment.
+ *
+ * @since 4.2
+ */
+final class StringQueryTemplate {
+
+	private static final Pattern PARAMETER_PLACEHOLDER = Pattern.compile("\\?(\\d+)");
+
+	private final String[] literals;
+	private final int[] parameterIndexes;
+	private final boolean[] quoted;
+	private final int literalsLength;
+
+	private StringQueryTemplate(String[] literals, int[] parameterIndexes, boolean[] quoted) {
+
+		this.literals = literals;
+		this.parameterIndexes = parameterIndexes;
+		this.quoted = quoted;
+
+		int length = 0;
+		for (String literal : literals) {
+			length += literal.length();
+		}
+		this.literalsLength = length;
+	}
+
+	/**
+	 * Parses a query into a template.
+	 *
+	 * @param query must not be {@literal null}
+	 * @return the template
+	 */
+	static StringQueryTemplate parse(String query) {
+
+		Assert.notNull(query, "query must not be null");
+
+		List<String> literals = new ArrayList<>();
+		List<Integer> parameterIndexes = new ArrayList<>();
+		List<Boolean> quoted = new ArrayList<>();
+		Matcher matcher = PARAMETER_PLACEHOLDER.matcher(query);
+		int literalStart = 0;
+		char quote = 0;
+
+		while (matcher.find()) {
+			String literal = query.substring(literalStart, matcher.start());
+			quote = quoteAfter(literal, quote);
+
+			literals.add(literal);
+			parameterIndexes.add(Integer.parseInt(matcher.group(1)));
+			quoted.add(quote != 0);
+			literalStart = matcher.end();
+		}
+
+		literals.add(query.substring(literalStart));
+
+		boolean[] quotedArray = new boolean[quoted.size()];
+		for (int i = 0; i < quotedArray.length; i++) {
+			quotedArray[i] = quoted.get(i);
+		}
+
+		return new StringQueryTemplate(literals.toArray(new String[0]),
+				parameterIndexes.stream().mapToInt(Integer::intValue).toArray(), quotedArray);
+	}
+
+	/**
+	 * Returns the quote character of the string literal that is open at the end of the given part of the query,
+	 * {@literal 0} if none is open.
+	 *
+	 * @param literal the part of the query
+	 * @param quote the quote character of the string literal open at the start of the part, {@literal 0} if none
+	 */
+	private static char quoteAfter(String literal, char quote) {
+
+		for (int i = 0; i < literal.length(); i++) {
+			char c = literal.charAt(i);
+
+			if (quote == 0) {
+				if (c == '"' || c == '\'') {
+					quote = c;
+				}
+			} else if (c == '\\') {
+				i++;
+			} else if (c == quote) {
+				quote = 0;
+			}
+		}
+
+		return quote;
+	}
+
+	/**
+	 * Replaces the placeholders with the values of the parameters. The values of placeholders inside a string literal
+	 * are escaped to be used in a JSON string, the others are inserted unchanged. A {@literal null} value is written as
+	 * {@literal null}.
+	 *
+	 * @param parameterValues returns the string value of the parameter with the given index
+	 * @return the query with the parameter values
+	 */
+	String bind(IntFunction<String> parameterValues) {
+
+		StringBuilder sb = new StringBuilder(literalsLength + 16 * parameterIndexes.length);
+
+		for (int i = 0; i < parameterIndexes.length; i++) {
+			sb.append(literals[i]);
+			String value = parameterValues.apply(parameterIndexes[i]);
+
+			if (quoted[i]) {
+				appendEscaped(sb, value);
+			} else {
+				sb.append(value);
+			}
+		}
+
+		return sb.append(literals[parameterIndexes.length]).toString();
+	}
+
+	private static void appendEscaped(StringBuilder sb, @Nullable String value) {
+
+		if (value == null) {
+			sb.append("null");
+			return;
+		}
+
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+
+			switch (c) {
+				case '"':
+					sb.append("\\\"");
+					break;
+				case '\\':
+					sb.append("\\\\");
+					break;
+				case '\n':
+					sb.append("\\n");
+					break;
+				case '\r':
+					sb.append("\\r");
+					break;
+				case '\t':
+					sb.append("\\t");
+					break;
+				case '\b':
+					sb.append("\\b");
+					break;
+				case '\f':
+					sb.append("\\f");
+					break;
+				default:
+					if (c < 0x20) {
+						sb.append(String.format("\\u%04x", (int) c));
+					} else {
+						sb.append(c);
+					}
+			}
+		}
+	}
+}
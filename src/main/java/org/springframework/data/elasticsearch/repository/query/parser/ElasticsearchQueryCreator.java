@@ -17,6 +17,7 @@ package org.springframework.data.elasticsearch.repository.query.parser;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.Objects;
 
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Sort;
@@ -47,26 +48,37 @@ import org.springframework.lang.Nullable;
  */
 public class ElasticsearchQueryCreator extends AbstractQueryCreator<CriteriaQuery, CriteriaQuery> {
 
-	private final MappingContext<?, ElasticsearchPersistentProperty> context;
+	@Nullable private final MappingContext<?, ElasticsearchPersistentProperty> context;
+	@Nullable private final PartTreeFieldMapping fieldMapping;
 
 	public ElasticsearchQueryCreator(PartTree tree, ParameterAccessor parameters,
 			MappingContext<?, ElasticsearchPersistentProperty> context) {
 		super(tree, parameters);
 		this.context = context;
+		this.fieldMapping = null;
 	}
 
 	public ElasticsearchQueryCreator(PartTree tree, MappingContext<?, ElasticsearchPersistentProperty> context) {
 		super(tree);
 		this.context = context;
+		this.fieldMapping = null;
+	}
+
+	/**
+	 * Creates a query creator that takes the fields from a {@link PartTreeFieldMapping} created for the tree. The
+	 * created query already has the mapped field names, field types and converted values.
+	 *
+	 * @since 4.2
+	 */
+	public ElasticsearchQueryCreator(PartTree tree, ParameterAccessor parameters, PartTreeFieldMapping fieldMapping) {
+		super(tree, parameters);
+		this.context = null;
+		this.fieldMapping = fieldMapping;
 	}
 
 	@Override
 	protected CriteriaQuery create(Part part, Iterator<Object> iterator) {
-		PersistentPropertyPath<ElasticsearchPersistentProperty> path = context
-				.getPersistentPropertyPath(part.getProperty());
-		return new CriteriaQuery(from(part,
-				new Criteria(path.toDotPath(ElasticsearchPersistentProperty.QueryPropertyToFieldNameConverter.INSTANCE)),
-				iterator));
+		return new CriteriaQuery(criteriaFor(part, iterator));
 	}
 
 	@Override
@@ -74,11 +86,22 @@ public class ElasticsearchQueryCreator extends AbstractQueryCreator<CriteriaQuer
 		if (base == null) {
 			return create(part, iterator);
 		}
-		PersistentPropertyPath<ElasticsearchPersistentProperty> path = context
+		return base.addCriteria(criteriaFor(part, iterator));
+	}
+
+	private Criteria criteriaFor(Part part, Iterator<Object> iterator) {
+
+		if (fieldMapping != null) {
+			Criteria criteria = from(part, fieldMapping.createCriteria(part), iterator);
+			fieldMapping.convertValues(part, criteria);
+			return criteria;
+		}
+
+		PersistentPropertyPath<ElasticsearchPersistentProperty> path = Objects.requireNonNull(context)
 				.getPersistentPropertyPath(part.getProperty());
-		return base.addCriteria(from(part,
+		return from(part,
 				new Criteria(path.toDotPath(ElasticsearchPersistentProperty.QueryPropertyToFieldNameConverter.INSTANCE)),
-				iterator));
+				iterator);
 	}
 
 	@Override
@@ -93,6 +116,9 @@ public class ElasticsearchQueryCreator extends AbstractQueryCreator<CriteriaQuer
 			// this is the case in a findAllByOrderByField method, add empty criteria
 			query = new CriteriaQuery(new Criteria());
 		}
+
+		// the criteria created with the field mapping must not be mapped again when the query is executed
+		query.setMapped(fieldMapping != null);
 		return query.addSort(sort);
 	}
 
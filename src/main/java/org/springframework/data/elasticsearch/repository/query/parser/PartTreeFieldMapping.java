@@ -0,0 +1,141 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.query.parser;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentProperty;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentPropertyConverter;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.SimpleField;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The fields of the {@link Part}s of a {@link PartTree} with the field names, field types and property converters
+ * resolved the same way as
+ * {@link org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter#updateCriteriaQuery} does. Created
+ * once for a query method, so that the {@link ElasticsearchQueryCreator} only needs to bind the parameter values when
+ * the query is executed.
+ *
+ * @since 4.2
+ */
+public class PartTreeFieldMapping {
+
+	private final Map<Part, MappedField> fields = new IdentityHashMap<>();
+
+	public PartTreeFieldMapping(PartTree tree, Class<?> domainType,
+			MappingContext<?, ElasticsearchPersistentProperty> context) {
+
+		Assert.notNull(tree, "tree must not be null");
+		Assert.notNull(domainType, "domainType must not be null");
+		Assert.notNull(context, "context must not be null");
+
+		PersistentEntity<?, ElasticsearchPersistentProperty> entity = context.getPersistentEntity(domainType);
+
+		for (Part part : tree.getParts()) {
+			String path = context.getPersistentPropertyPath(part.getProperty())
+					.toDotPath(ElasticsearchPersistentProperty.QueryPropertyToFieldNameConverter.INSTANCE);
+			ElasticsearchPersistentProperty property = entity != null ? entity.getPersistentProperty(path) : null;
+
+			fields.put(part, property != null && property.getName().equals(path) ? new MappedField(property)
+					: new MappedField(path));
+		}
+	}
+
+	/**
+	 * Creates the {@link Criteria} for a part with the mapped field.
+	 *
+	 * @param part a part of the tree this mapping was created for
+	 * @return new Criteria
+	 */
+	Criteria createCriteria(Part part) {
+
+		MappedField mappedField = getMappedField(part);
+		SimpleField field = new SimpleField(mappedField.name);
+
+		if (mappedField.fieldType != null) {
+			field.setFieldType(mappedField.fieldType);
+		}
+
+		return new Criteria(field);
+	}
+
+	/**
+	 * Converts the values of a criteria created for a part with the property converter of the mapped property.
+	 *
+	 * @param part a part of the tree this mapping was created for
+	 * @param criteria the criteria created for the part
+	 */
+	void convertValues(Part part, Criteria criteria) {
+
+		ElasticsearchPersistentPropertyConverter propertyConverter = getMappedField(part).propertyConverter;
+
+		if (propertyConverter == null) {
+			return;
+		}
+
+		criteria.getQueryCriteriaEntries().forEach(criteriaEntry -> {
+			Object value = criteriaEntry.getValue();
+			if (value.getClass().isArray()) {
+				Object[] objects = (Object[]) value;
+				for (int i = 0; i < objects.length; i++) {
+					objects[i] = propertyConverter.write(objects[i]);
+				}
+			} else {
+				criteriaEntry.setValue(propertyConverter.write(value));
+			}
+		});
+	}
+
+	private MappedField getMappedField(Part part) {
+
+		MappedField mappedField = fields.get(part);
+
+		Assert.notNull(mappedField, () -> "Part " + part + " is not a part of the mapped tree");
+
+		return mappedField;
+	}
+
+	private static class MappedField {
+
+		private final String name;
+		@Nullable private final FieldType fieldType;
+		@Nullable private final ElasticsearchPersistentPropertyConverter propertyConverter;
+
+		MappedField(String name) {
+			this.name = name;
+			this.fieldType = null;
+			this.propertyConverter = null;
+		}
+
+		MappedField(ElasticsearchPersistentProperty property) {
+
+			org.springframework.data.elasticsearch.annotations.Field fieldAnnotation = property
+					.findAnnotation(org.springframework.data.elasticsearch.annotations.Field.class);
+
+			this.name = property.getFieldName();
+			this.fieldType = fieldAnnotation != null ? fieldAnnotation.type() : null;
+			this.propertyConverter = property.hasPropertyConverter() ? property.getPropertyConverter() : null;
+		}
+	}
+}
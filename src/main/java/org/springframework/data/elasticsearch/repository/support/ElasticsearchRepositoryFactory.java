@@ -20,6 +20,7 @@ import static org.springframework.data.querydsl.QuerydslUtils.*;
 import java.lang.reflect.Method;
 import java.util.Optional;
 
+import org.aopalliance.intercept.MethodInterceptor;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
 import org.springframework.data.elasticsearch.repository.query.ElasticsearchPartQuery;
@@ -35,6 +36,7 @@ import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.QueryLookupStrategy.Key;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.util.ReflectionUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -54,6 +56,7 @@ public class ElasticsearchRepositoryFactory extends RepositoryFactorySupport {
 
 	private final ElasticsearchOperations elasticsearchOperations;
 	private final ElasticsearchEntityInformationCreator entityInformationCreator;
+	@Nullable private IndexBootstrapper indexBootstrapper;
 
 	public ElasticsearchRepositoryFactory(ElasticsearchOperations elasticsearchOperations) {
 
@@ -64,6 +67,34 @@ public class ElasticsearchRepositoryFactory extends RepositoryFactorySupport {
 				elasticsearchOperations.getElasticsearchConverter().getMappingContext());
 	}
 
+	/**
+	 * Sets the {@link IndexBootstrapper} that checks and creates the indices of the repositories. If none is set, every
+	 * repository checks its index when it is created. Repository base classes need a constructor that takes the
+	 * {@link IndexBootstrapper} as third argument like {@link SimpleElasticsearchRepository} to use it.
+	 *
+	 * @param indexBootstrapper can be {@literal null}
+	 * @since 4.2
+	 */
+	public void setIndexBootstrapper(@Nullable IndexBootstrapper indexBootstrapper) {
+
+		if (this.indexBootstrapper == null && indexBootstrapper != null) {
+			// the index must be bootstrapped before any repository method, including query methods, accesses it
+			addRepositoryProxyPostProcessor((factory, repositoryInformation) -> {
+				Class<?> domainType = repositoryInformation.getDomainType();
+				factory.addAdvice((MethodInterceptor) invocation -> {
+					IndexBootstrapper bootstrapper = this.indexBootstrapper;
+
+					if (bootstrapper != null) {
+						bootstrapper.ensureIndex(domainType);
+					}
+					return invocation.proceed();
+				});
+			});
+		}
+
+		this.indexBootstrapper = indexBootstrapper;
+	}
+
 	@Override
 	public <T, ID> ElasticsearchEntityInformation<T, ID> getEntityInformation(Class<T> domainClass) {
 		return entityInformationCreator.getEntityInformation(domainClass);
@@ -71,8 +102,18 @@ public class ElasticsearchRepositoryFactory extends RepositoryFactorySupport {
 
 	@Override
 	protected Object getTargetRepository(RepositoryInformation metadata) {
-		return getTargetRepositoryViaReflection(metadata, getEntityInformation(metadata.getDomainType()),
-				elasticsearchOperations);
+
+		ElasticsearchEntityInformation<?, ?> entityInformation = getEntityInformation(metadata.getDomainType());
+
+		if (indexBootstrapper != null && ReflectionUtils
+				.findConstructor(metadata.getRepositoryBaseClass(), entityInformation, elasticsearchOperations,
+						indexBootstrapper)
+				.isPresent()) {
+			return getTargetRepositoryViaReflection(metadata, entityInformation, elasticsearchOperations,
+					indexBootstrapper);
+		}
+
+		return getTargetRepositoryViaReflection(metadata, entityInformation, elasticsearchOperations);
 	}
 
 	@Override
@@ -37,6 +37,7 @@ public class ElasticsearchRepositoryFactoryBean<T extends Repository<S, ID>, S,
 		extends RepositoryFactoryBeanSupport<T, S, ID> {
 
 	@Nullable private ElasticsearchOperations operations;
+	@Nullable private IndexBootstrapper indexBootstrapper;
 
 	/**
 	 * Creates a new {@link ElasticsearchRepositoryFactoryBean} for the given repository interface.
@@ -60,6 +61,20 @@ public class ElasticsearchRepositoryFactoryBean<T extends Repository<S, ID>, S,
 		this.operations = operations;
 	}
 
+	/**
+	 * Configures the {@link IndexBootstrapper} that checks and creates the index of the repository. If none is set, the
+	 * repository checks its index when it is created.
+	 *
+	 * @param indexBootstrapper the index bootstrapper to set
+	 * @since 4.2
+	 */
+	public void setIndexBootstrapper(IndexBootstrapper indexBootstrapper) {
+
+		Assert.notNull(indexBootstrapper, "IndexBootstrapper must not be null!");
+
+		this.indexBootstrapper = indexBootstrapper;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport#afterPropertiesSet()
@@ -75,6 +90,8 @@ public class ElasticsearchRepositoryFactoryBean<T extends Repository<S, ID>, S,
 
 		Assert.notNull(operations, "operations are not initialized");
 
-		return new ElasticsearchRepositoryFactory(operations);
+		ElasticsearchRepositoryFactory factory = new ElasticsearchRepositoryFactory(operations);
+		factory.setIndexBootstrapper(indexBootstrapper);
+		return factory;
 	}
 }
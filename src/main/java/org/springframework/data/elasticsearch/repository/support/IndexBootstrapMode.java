@@ -0,0 +1,43 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.support;
+
+/**
+ * Defines when the indices of the entities managed by Elasticsearch repositories are checked and created if they do
+ * not exist. Only entities with {@link org.springframework.data.elasticsearch.annotations.Document#createIndex()} set
+ * are considered.
+ *
+ * @since 4.2
+ */
+public enum IndexBootstrapMode {
+
+	/**
+	 * Every repository checks its index and creates it when the repository is created.
+	 */
+	IMMEDIATE,
+
+	/**
+	 * The indices of all repositories are checked and created together once all singletons of the application context
+	 * are instantiated, or as soon as one of the repositories is used before that. The mappings are built concurrently,
+	 * the existence of all indices is checked with one request and missing indices are created in parallel.
+	 */
+	CONCURRENT,
+
+	/**
+	 * The index of a repository is checked and created when the repository is used for the first time.
+	 */
+	LAZY
+}
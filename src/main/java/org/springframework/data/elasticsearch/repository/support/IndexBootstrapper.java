@@ -0,0 +1,198 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.util.Assert;
+
+/**
+ * Checks the indices of the entities managed by Elasticsearch repositories and creates them with their settings and
+ * mapping if they do not exist, at the time defined by the {@link IndexBootstrapMode}. Repositories
+ * {@link #register(Class) register} their entity when they are created and {@link #ensureIndex(Class) ensure} that
+ * the index has been bootstrapped before they access it.
+ *
+ * @since 4.2
+ */
+public class IndexBootstrapper implements SmartInitializingSingleton {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(IndexBootstrapper.class);
+
+	private static final int DEFAULT_CONCURRENCY_LIMIT = 8;
+
+	private final ElasticsearchOperations operations;
+	private final IndexBootstrapMode mode;
+	private final Set<Class<?>> pendingEntityClasses = ConcurrentHashMap.newKeySet();
+	private Executor executor = createExecutor();
+	private volatile boolean singletonsInstantiated = false;
+
+	public IndexBootstrapper(ElasticsearchOperations operations, IndexBootstrapMode mode) {
+
+		Assert.notNull(operations, "operations must not be null");
+		Assert.notNull(mode, "mode must not be null");
+
+		this.operations = operations;
+		this.mode = mode;
+	}
+
+	/**
+	 * Sets the {@link Executor} that builds the mappings and creates the missing indices. Defaults to an executor that
+	 * runs up to 8 tasks in parallel on daemon threads.
+	 *
+	 * @param executor must not be {@literal null}
+	 */
+	public void setExecutor(Executor executor) {
+
+		Assert.notNull(executor, "executor must not be null");
+
+		this.executor = executor;
+	}
+
+	public IndexBootstrapMode getMode() {
+		return mode;
+	}
+
+	/**
+	 * Registers an entity class whose index must be bootstrapped.
+	 *
+	 * @param entityClass must not be {@literal null}
+	 */
+	public void register(Class<?> entityClass) {
+
+		Assert.notNull(entityClass, "entityClass must not be null");
+
+		pendingEntityClasses.add(entityClass);
+
+		if (mode == IndexBootstrapMode.IMMEDIATE || (mode == IndexBootstrapMode.CONCURRENT && singletonsInstantiated)) {
+			bootstrap(Collections.singletonList(entityClass));
+		}
+	}
+
+	/**
+	 * Makes sure that the index of a registered entity class has been bootstrapped. In {@link IndexBootstrapMode#LAZY}
+	 * mode only the index of the given entity is bootstrapped, in {@link IndexBootstrapMode#CONCURRENT} mode the
+	 * indices of all registered entities are.
+	 *
+	 * @param entityClass must not be {@literal null}
+	 */
+	public void ensureIndex(Class<?> entityClass) {
+
+		if (!pendingEntityClasses.contains(entityClass)) {
+			return;
+		}
+
+		if (mode == IndexBootstrapMode.CONCURRENT) {
+			bootstrap(new ArrayList<>(pendingEntityClasses));
+		} else {
+			bootstrap(Collections.singletonList(entityClass));
+		}
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+
+		if (mode == IndexBootstrapMode.CONCURRENT) {
+			singletonsInstantiated = true;
+			bootstrap(new ArrayList<>(pendingEntityClasses));
+		}
+	}
+
+	private synchronized void bootstrap(Collection<Class<?>> entityClasses) {
+
+		// another thread might have bootstrapped some of them in the meantime
+		List<Class<?>> pending = new ArrayList<>(entityClasses);
+		pending.retainAll(pendingEntityClasses);
+
+		if (pending.isEmpty()) {
+			return;
+		}
+
+		// entities that share an index must not create it twice
+		Map<String, IndexOperations> indices = new LinkedHashMap<>();
+
+		for (Class<?> entityClass : pending) {
+			IndexOperations indexOperations = operations.indexOps(entityClass);
+			indices.putIfAbsent(indexOperations.getIndexCoordinates().getIndexName(), indexOperations);
+		}
+
+		if (indices.size() == 1 || !allExist(indices.keySet())) {
+
+			List<CompletableFuture<Void>> futures = new ArrayList<>(indices.size());
+
+			for (IndexOperations indexOperations : indices.values()) {
+				futures.add(CompletableFuture.runAsync(() -> createIfMissing(indexOperations), executor));
+			}
+
+			join(futures);
+		}
+
+		pendingEntityClasses.removeAll(pending);
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("bootstrapped the indices {}", indices.keySet());
+		}
+	}
+
+	private boolean allExist(Collection<String> indexNames) {
+		return operations.indexOps(IndexCoordinates.of(indexNames.toArray(new String[0]))).exists();
+	}
+
+	private static void createIfMissing(IndexOperations indexOperations) {
+
+		if (!indexOperations.exists()) {
+			indexOperations.createWithMapping();
+		}
+	}
+
+	private static void join(List<CompletableFuture<Void>> futures) {
+
+		try {
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+		} catch (CompletionException e) {
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+
+			throw e;
+		}
+	}
+
+	private static Executor createExecutor() {
+
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("index-bootstrap-");
+		executor.setDaemon(true);
+		executor.setConcurrencyLimit(DEFAULT_CONCURRENCY_LIMIT);
+		return executor;
+	}
+}
@@ -18,7 +18,6 @@ package org.springframework.data.elasticsearch.repository.support;
 import static org.elasticsearch.index.query.QueryBuilders.*;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -28,7 +27,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.elasticsearch.core.AbstractElasticsearchTemplate;
@@ -95,6 +93,27 @@ public class SimpleElasticsearchRepository<T, ID> implements ElasticsearchReposi
 		}
 	}
 
+	/**
+	 * Creates a repository that leaves the creation of the index to the given {@link IndexBootstrapper}.
+	 *
+	 * @since 4.2
+	 */
+	public SimpleElasticsearchRepository(ElasticsearchEntityInformation<T, ID> metadata,
+			ElasticsearchOperations operations, IndexBootstrapper indexBootstrapper) {
+		this.operations = operations;
+
+		Assert.notNull(metadata, "ElasticsearchEntityInformation must not be null!");
+		Assert.notNull(indexBootstrapper, "IndexBootstrapper must not be null!");
+
+		this.entityInformation = metadata;
+		this.entityClass = this.entityInformation.getJavaType();
+		this.indexOperations = operations.indexOps(this.entityClass);
+
+		if (shouldCreateIndexAndMapping()) {
+			indexBootstrapper.register(entityClass);
+		}
+	}
+
 	private boolean shouldCreateIndexAndMapping() {
 
 		final ElasticsearchPersistentEntity<?> entity = operations.getElasticsearchConverter().getMappingContext()
@@ -108,14 +127,14 @@ public class SimpleElasticsearchRepository<T, ID> implements ElasticsearchReposi
 				execute(operations -> operations.get(stringIdRepresentation(id), entityClass, getIndexCoordinates())));
 	}
 
+	@SuppressWarnings("unchecked")
 	@Override
 	public Iterable<T> findAll() {
-		int itemCount = (int) this.count();
-
-		if (itemCount == 0) {
-			return new PageImpl<>(Collections.emptyList());
-		}
-		return this.findAll(PageRequest.of(0, Math.max(1, itemCount)));
+		NativeSearchQuery query = new NativeSearchQueryBuilder().withQuery(matchAllQuery()).build();
+		List<SearchHit<T>> searchHitList = execute(
+				operations -> operations.searchAll(query, entityClass, getIndexCoordinates()).getSearchHits());
+		// noinspection ConstantConditions
+		return new PageImpl<>((List<T>) SearchHitSupport.unwrapSearchHits(searchHitList));
 	}
 
 	@SuppressWarnings("unchecked")
@@ -131,15 +150,10 @@ public class SimpleElasticsearchRepository<T, ID> implements ElasticsearchReposi
 	@SuppressWarnings("unchecked")
 	@Override
 	public Iterable<T> findAll(Sort sort) {
-		int itemCount = (int) this.count();
-
-		if (itemCount == 0) {
-			return new PageImpl<>(Collections.emptyList());
-		}
-		NativeSearchQuery query = new NativeSearchQueryBuilder().withQuery(matchAllQuery())
-				.withPageable(PageRequest.of(0, itemCount, sort)).build();
+		NativeSearchQuery query = new NativeSearchQueryBuilder().withQuery(matchAllQuery()).build();
+		query.addSort(sort);
 		List<SearchHit<T>> searchHitList = execute(
-				operations -> operations.search(query, entityClass, getIndexCoordinates()).getSearchHits());
+				operations -> operations.searchAll(query, entityClass, getIndexCoordinates()).getSearchHits());
 		return (List<T>) SearchHitSupport.unwrapSearchHits(searchHitList);
 	}
 
@@ -19,7 +19,10 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.elasticsearch.core.document.Document;
 
@@ -46,6 +49,29 @@ public class DocumentUnitTests {
 		assertThat(document).containsEntry("key", "value");
 	}
 
+	@Test
+	@DisplayName("should not change when the map it was created from changes")
+	void shouldNotChangeWhenTheMapItWasCreatedFromChanges() {
+
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("key", "value");
+
+		Document document = Document.from(map);
+		map.put("other", "value");
+
+		assertThat(document).containsOnlyKeys("key");
+	}
+
+	@Test
+	@DisplayName("should keep the order of the parsed JSON")
+	void shouldKeepTheOrderOfTheParsedJson() {
+
+		Document document = Document.parse("{\"b\":1,\"a\":{\"d\":2,\"c\":3}}");
+
+		assertThat(document.keySet()).containsExactly("b", "a");
+		assertThat(document.toJson()).isEqualTo("{\"b\":1,\"a\":{\"d\":2,\"c\":3}}");
+	}
+
 	@Test // DATAES-628
 	public void shouldRenderDocumentToJson() {
 
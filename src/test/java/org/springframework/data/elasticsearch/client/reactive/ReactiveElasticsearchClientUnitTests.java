@@ -19,12 +19,13 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.data.elasticsearch.client.reactive.ReactiveMockClientTestsUtils.MockWebClientProvider.Receive.*;
 
-import reactor.core.publisher.Mono;
+import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
 import java.io.IOException;
 import java.net.URI;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collections;
 
 import org.elasticsearch.ElasticsearchStatusException;
@@ -44,14 +45,19 @@ import org.elasticsearch.search.aggregations.bucket.terms.ParsedStringTerms;
 import org.elasticsearch.search.aggregations.metrics.ParsedMax;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
-import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.data.elasticsearch.client.reactive.ReactiveMockClientTestsUtils.MockDelegatingElasticsearchHostProvider;
 import org.springframework.data.elasticsearch.client.reactive.ReactiveMockClientTestsUtils.MockWebClientProvider.Receive;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
 import org.springframework.util.StreamUtils;
+import org.springframework.web.reactive.function.BodyInserter;
 
 /**
  * @author Christoph Strobl
@@ -208,6 +214,31 @@ public class ReactiveElasticsearchClientUnitTests {
 				.verifyComplete();
 	}
 
+	@Test
+	public void getShouldDecodeResponseSplitIntoSeveralBuffers() throws IOException {
+
+		byte[] content = StreamUtils.copyToByteArray(Receive.fromPath("get-by-id-ok").getInputStream());
+		int half = content.length / 2;
+		DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
+		hostProvider.when(HOST) //
+				.receive(Receive::json) //
+				.receive(Receive::ok) //
+				.receive(response -> Mockito.when(response.body(any())).thenReturn(Flux.just( //
+						bufferFactory.wrap(Arrays.copyOfRange(content, 0, half)), //
+						bufferFactory.wrap(Arrays.copyOfRange(content, half, content.length)))));
+
+		client.get(new GetRequest("twitter").id("1")) //
+				.as(StepVerifier::create) //
+				.consumeNextWith(result -> {
+
+					assertThat(result.isExists()).isTrue();
+					assertThat(result.getId()).isEqualTo("1");
+					assertThat(result.getSource()).containsEntry("user", "kimchy");
+				}) //
+				.verifyComplete();
+	}
+
 	@Test // DATAES-488
 	public void getShouldReturnEmptyForNonExisting() {
 
@@ -235,7 +266,7 @@ public class ReactiveElasticsearchClientUnitTests {
 		verify(hostProvider.client(HOST)).method(HttpMethod.POST);
 
 		hostProvider.when(HOST).exchange(requestBodyUriSpec -> {
-			verify(requestBodyUriSpec).body(any(Publisher.class), any(Class.class));
+			verify(requestBodyUriSpec).body(any(BodyInserter.class));
 		});
 
 		URI uri = hostProvider.when(HOST).captureUri();
@@ -397,6 +428,30 @@ public class ReactiveElasticsearchClientUnitTests {
 		assertThat(uri.getRawPath()).isEqualTo("/twitter/_doc/10");
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void indexShouldWriteEntityBytesAsRequestBody() {
+
+		hostProvider.when(HOST) //
+				.receiveIndexUpdated();
+
+		client.index(new IndexRequest("twitter").id("10").source("{\"foo\":\"bar\"}", XContentType.JSON)).then() //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		hostProvider.when(HOST).exchange(requestBodyUriSpec -> {
+
+			ArgumentCaptor<BodyInserter<?, ? super ClientHttpRequest>> captor = ArgumentCaptor.forClass(BodyInserter.class);
+			verify(requestBodyUriSpec).body(captor.capture());
+			verify(requestBodyUriSpec).contentLength(13);
+
+			MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.PUT, "/twitter/_doc/10");
+			captor.getValue().insert(request, mock(BodyInserter.Context.class)).block();
+
+			assertThat(request.getBodyAsString().block()).isEqualTo("{\"foo\":\"bar\"}");
+		});
+	}
+
 	@Test // DATAES-488
 	public void indexShouldReturnCreatedWhenNewDocumentIndexed() {
 
@@ -681,8 +736,8 @@ public class ReactiveElasticsearchClientUnitTests {
 
 		hostProvider.when(HOST) //
 				.receive(Receive::json) //
-				.receive(response -> Mockito.when(response.body(any())).thenReturn(Mono.just(start), Mono.just(next),
-						Mono.just(end), Mono.just(cleanup)));
+				.receive(response -> Mockito.when(response.body(any())).thenReturn(buffer(start), buffer(next),
+						buffer(end), buffer(cleanup)));
 
 		client.scroll(new SearchRequest("twitter")) //
 				.as(StepVerifier::create) //
@@ -703,8 +758,8 @@ public class ReactiveElasticsearchClientUnitTests {
 
 		hostProvider.when(HOST) //
 				.receive(Receive::json) //
-				.receive(response -> Mockito.when(response.body(any())).thenReturn(Mono.just(start), Mono.just(error),
-						Mono.just(cleanup)));
+				.receive(response -> Mockito.when(response.body(any())).thenReturn(buffer(start), buffer(error),
+						buffer(cleanup)));
 
 		client.scroll(new SearchRequest("twitter")) //
 				.as(StepVerifier::create) //
@@ -716,6 +771,94 @@ public class ReactiveElasticsearchClientUnitTests {
 		});
 	}
 
+	// --> POINT IN TIME
+
+	@Test
+	public void searchWithPointInTimeShouldReadAllAndClosePointInTime() throws IOException {
+
+		byte[] open = StreamUtils.copyToByteArray(Receive.fromPath("pit_open").getInputStream());
+		byte[] page = StreamUtils.copyToByteArray(Receive.fromPath("pit_search_ok").getInputStream());
+		byte[] end = StreamUtils.copyToByteArray(Receive.fromPath("scroll_no_more_results").getInputStream());
+		byte[] close = StreamUtils.copyToByteArray(Receive.fromPath("scroll_clean").getInputStream());
+
+		hostProvider.when(HOST) //
+				.receive(Receive::json) //
+				.receive(response -> Mockito.when(response.body(any())).thenReturn(buffer(open), buffer(page),
+						buffer(end), buffer(close)));
+
+		client.searchWithPointInTime(new SearchRequest("twitter"), TimeValue.timeValueMinutes(1)) //
+				.as(StepVerifier::create) //
+				.consumeNextWith(hit -> assertThat(hit.getId()).isEqualTo("1")) //
+				.consumeNextWith(hit -> assertThat(hit.getId()).isEqualTo("2")) //
+				.verifyComplete();
+
+		verify(hostProvider.client(HOST), times(2)).method(HttpMethod.POST);
+		verify(hostProvider.client(HOST)).method(HttpMethod.DELETE);
+		hostProvider.when(HOST).receive(response -> {
+			verify(response, times(4)).body(any());
+		});
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void searchWithPointInTimeShouldUseAndCloseTheLatestPointInTimeId() throws IOException {
+
+		byte[] open = StreamUtils.copyToByteArray(Receive.fromPath("pit_open").getInputStream());
+		byte[] page = StreamUtils.copyToByteArray(Receive.fromPath("pit_search_new_id").getInputStream());
+		byte[] end = StreamUtils.copyToByteArray(Receive.fromPath("scroll_no_more_results").getInputStream());
+		byte[] close = StreamUtils.copyToByteArray(Receive.fromPath("scroll_clean").getInputStream());
+
+		hostProvider.when(HOST) //
+				.receive(Receive::json) //
+				.receive(response -> Mockito.when(response.body(any())).thenReturn(buffer(open), buffer(page),
+						buffer(end), buffer(close)));
+
+		client.searchWithPointInTime(new SearchRequest("twitter"), TimeValue.timeValueMinutes(1)) //
+				.as(StepVerifier::create) //
+				.expectNextCount(2) //
+				.verifyComplete();
+
+		hostProvider.when(HOST).exchange(requestBodyUriSpec -> {
+
+			ArgumentCaptor<BodyInserter<?, ? super ClientHttpRequest>> captor = ArgumentCaptor.forClass(BodyInserter.class);
+			verify(requestBodyUriSpec, times(3)).body(captor.capture());
+
+			String[] bodies = captor.getAllValues().stream().map(inserter -> {
+				MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.POST, "/_search");
+				inserter.insert(request, mock(BodyInserter.Context.class)).block();
+				return request.getBodyAsString().block();
+			}).toArray(String[]::new);
+
+			assertThat(bodies[0]).contains("\"id\":\"46ToAwMDaWR5") //
+					.doesNotContain("search_after");
+			assertThat(bodies[1]).contains("\"id\":\"cGl0LWlkLWZyb20tc2VhcmNo\"") //
+					.contains("\"search_after\":[\"2\"]");
+			assertThat(bodies[2]).isEqualTo("{\"id\":\"cGl0LWlkLWZyb20tc2VhcmNo\"}");
+		});
+	}
+
+	@Test
+	public void searchWithPointInTimeShouldClosePointInTimeOnError() throws IOException {
+
+		byte[] open = StreamUtils.copyToByteArray(Receive.fromPath("pit_open").getInputStream());
+		byte[] error = StreamUtils.copyToByteArray(Receive.fromPath("scroll_error").getInputStream());
+		byte[] close = StreamUtils.copyToByteArray(Receive.fromPath("scroll_clean").getInputStream());
+
+		hostProvider.when(HOST) //
+				.receive(Receive::json) //
+				.receive(response -> Mockito.when(response.body(any())).thenReturn(buffer(open), buffer(error),
+						buffer(close)));
+
+		client.searchWithPointInTime(new SearchRequest("twitter"), TimeValue.timeValueMinutes(1)) //
+				.as(StepVerifier::create) //
+				.verifyError();
+
+		verify(hostProvider.client(HOST)).method(HttpMethod.DELETE);
+		hostProvider.when(HOST).receive(response -> {
+			verify(response, times(3)).body(any());
+		});
+	}
+
 	@Test // DATAES-684
 	public void bulkShouldEmitResponseCorrectly() {
 
@@ -737,4 +880,7 @@ public class ReactiveElasticsearchClientUnitTests {
 				.verifyComplete();
 	}
 
+	private static Flux<DataBuffer> buffer(byte[] bytes) {
+		return Flux.just(new DefaultDataBufferFactory().wrap(bytes));
+	}
 }
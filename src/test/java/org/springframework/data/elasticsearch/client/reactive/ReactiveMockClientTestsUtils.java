@@ -17,6 +17,7 @@ package org.springframework.data.elasticsearch.client.reactive;
 
 import static org.mockito.Mockito.*;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.io.IOException;
@@ -41,6 +42,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.data.elasticsearch.client.ElasticsearchHost;
 import org.springframework.data.elasticsearch.client.reactive.ReactiveMockClientTestsUtils.MockWebClientProvider.Send;
 import org.springframework.http.HttpHeaders;
@@ -425,7 +427,8 @@ public class ReactiveMockClientTestsUtils {
 			}
 
 			default Receive body(byte[] bytes) {
-				return receive(response -> Mockito.when(response.body(any())).thenReturn(Mono.just(bytes)));
+				return receive(response -> Mockito.when(response.body(any()))
+						.thenAnswer(invocation -> Flux.just(new DefaultDataBufferFactory().wrap(bytes))));
 			}
 
 			static void ok(ClientResponse response) {
@@ -20,9 +20,11 @@ import static org.assertj.core.api.Assertions.*;
 import java.util.Collections;
 
 import org.elasticsearch.action.delete.DeleteRequest;
+import org.elasticsearch.action.get.GetRequest;
 import org.elasticsearch.action.index.IndexRequest;
 import org.elasticsearch.client.Request;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
 
 /**
  * Unit tests for {@link RequestConverters}.
@@ -86,4 +88,15 @@ public class RequestConvertersTest {
 		assertThat(result.getParameters()).containsEntry("if_seq_no", "3");
 		assertThat(result.getParameters()).containsEntry("if_primary_term", "4");
 	}
+
+	@Test
+	void shouldConvertExistsRequestToHeadRequestWithoutBody() {
+
+		Request result = RequestConverters.exists(new GetRequest("the-index", "id").routing("the-routing"));
+
+		assertThat(result.getMethod()).isEqualTo(HttpMethod.HEAD.name());
+		assertThat(result.getEndpoint()).endsWith("the-index/_doc/id");
+		assertThat(result.getParameters()).containsEntry("routing", "the-routing");
+		assertThat(result.getEntity()).isNull();
+	}
 }
@@ -23,14 +23,23 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.apache.lucene.search.TotalHits;
 import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.common.bytes.BytesArray;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.document.SearchDocument;
+import org.springframework.data.elasticsearch.core.document.UnparsedSource;
 import org.springframework.data.elasticsearch.core.event.AfterConvertCallback;
 import org.springframework.data.elasticsearch.core.event.AfterSaveCallback;
 import org.springframework.data.elasticsearch.core.event.BeforeConvertCallback;
@@ -66,9 +75,14 @@ abstract class AbstractElasticsearchTemplateCallbackTests {
 	}
 
 	protected final org.elasticsearch.search.SearchHits nSearchHits(int count) {
+		return nSearchHits(count, count);
+	}
+
+	protected final org.elasticsearch.search.SearchHits nSearchHits(int count, long totalHits) {
 		org.elasticsearch.search.SearchHit[] hits = new org.elasticsearch.search.SearchHit[count];
 		Arrays.fill(hits, searchHit);
-		return new org.elasticsearch.search.SearchHits(hits, new TotalHits(count, TotalHits.Relation.EQUAL_TO), 1.0f);
+		return new org.elasticsearch.search.SearchHits(hits, new TotalHits(totalHits, TotalHits.Relation.EQUAL_TO),
+				1.0f);
 	}
 
 	@Test // DATAES-771
@@ -204,6 +218,37 @@ abstract class AbstractElasticsearchTemplateCallbackTests {
 		assertThat(savedPerson2.firstname).isEqualTo("after-save");
 	}
 
+	@Test
+	void bulkIngesterShouldInvokeCallbacksAndReportResults() {
+
+		template.setEntityCallbacks(EntityCallbacks.create(beforeConvertCallback, afterSaveCallback));
+
+		Person entity1 = new Person("init1", "luke1");
+		Person entity2 = new Person("init2", "luke2");
+		IndexQuery query1 = indexQueryForEntity(entity1);
+		IndexQuery query2 = indexQueryForEntity(entity2);
+		List<Object> succeeded = new CopyOnWriteArrayList<>();
+
+		BulkIngester.Listener listener = new BulkIngester.Listener() {
+			@Override
+			public void onSuccess(Object operation, IndexedObjectInformation indexedObjectInformation) {
+				succeeded.add(operation);
+			}
+		};
+
+		try (BulkIngester bulkIngester = template.bulkIngester(BulkOptions.builder().withMaxActions(2).build(), index,
+				listener)) {
+			bulkIngester.add(query1);
+			bulkIngester.add(query2);
+		}
+
+		verify(beforeConvertCallback, times(2)).onBeforeConvert(any(), eq(index));
+		verify(afterSaveCallback, times(2)).onAfterSave(any(), eq(index));
+		assertThat(succeeded).containsExactly(query1, query2);
+		assertThat(((Person) query1.getObject()).firstname).isEqualTo("after-save");
+		assertThat(((Person) query2.getObject()).firstname).isEqualTo("after-save");
+	}
+
 	@Test // DATAES-772
 	void getShouldInvokeAfterConvertCallback() {
 
@@ -344,6 +389,125 @@ abstract class AbstractElasticsearchTemplateCallbackTests {
 		assertThat(hits.get(1).getContent().firstname).isEqualTo("after-convert");
 	}
 
+	@Test
+	@DisplayName("searchAll should return the hits of the first search if all of them fit into one page")
+	void searchAllShouldReturnTheHitsOfTheFirstSearchIfAllOfThemFitIntoOnePage() {
+
+		template.setEntityCallbacks(EntityCallbacks.create(afterConvertCallback));
+		template.setSearchAllPageSize(2);
+		Query query = queryForTwo();
+		Pageable pageable = query.getPageable();
+
+		SearchHits<Person> results = template.searchAll(query, Person.class, index);
+
+		verify(afterConvertCallback, times(2)).onAfterConvert(eq(new Person("init", "luke")), eq(lukeDocument()),
+				eq(index));
+		assertThat(query.getPageable()).isSameAs(pageable);
+		assertThat(results.getSearchHits()).hasSize(2)
+				.allSatisfy(hit -> assertThat(hit.getContent().firstname).isEqualTo("after-convert"));
+	}
+
+	@Test
+	void searchAllShouldReadAllHitsWithAStreamIfTheFirstPageIsFull() {
+
+		template.setEntityCallbacks(EntityCallbacks.create(afterConvertCallback));
+		template.setSearchAllPageSize(2);
+		// the first page of searchAll, then the pages of the stream
+		doReturn(nSearchHits(2, 5), nSearchHits(2, 5), nSearchHits(2, 5), nSearchHits(1, 5), nSearchHits(0, 5))
+				.when(searchResponse).getHits();
+
+		SearchHits<Person> results = template.searchAll(queryForTwo(), Person.class, index);
+
+		assertThat(results.getTotalHits()).isEqualTo(5);
+		assertThat(results.getSearchHits()).hasSize(5)
+				.allSatisfy(hit -> assertThat(hit.getContent().firstname).isEqualTo("after-convert"));
+		verify(searchResponse, times(5)).getHits();
+	}
+
+	@Test
+	void searchForSlicedStreamsWithOneSliceShouldReturnAPlainStream() {
+
+		template.setEntityCallbacks(EntityCallbacks.create(afterConvertCallback));
+
+		List<SearchHitsIterator<Person>> results = template.searchForSlicedStreams(queryForTwo(), Person.class, 1, index);
+
+		assertThat(results).hasSize(1);
+		SearchHitsIterator<Person> iterator = results.get(0);
+		assertThat(iterator.next().getContent().firstname).isEqualTo("after-convert");
+		assertThat(iterator.next().getContent().firstname).isEqualTo("after-convert");
+	}
+
+	@Test
+	@DisplayName("exists should be true if the search has a hit even when it was not terminated early")
+	void existsShouldBeTrueIfTheSearchHasAHitEvenWhenItWasNotTerminatedEarly() {
+
+		doReturn(nSearchHits(1)).when(searchResponse).getHits();
+		doReturn(null).when(searchResponse).isTerminatedEarly();
+
+		assertThat(template.exists(queryForOne(), Person.class, index)).isTrue();
+	}
+
+	@Test
+	@DisplayName("exists should be false if the search has no hits")
+	void existsShouldBeFalseIfTheSearchHasNoHits() {
+
+		doReturn(nSearchHits(0)).when(searchResponse).getHits();
+
+		assertThat(template.exists(queryForOne(), Person.class, index)).isFalse();
+	}
+
+	@Test
+	@DisplayName("search for SearchDocument should neither convert nor parse the documents")
+	void searchForSearchDocumentShouldNeitherConvertNorParseTheDocuments() {
+
+		template.setEntityCallbacks(EntityCallbacks.create(afterConvertCallback));
+
+		SearchHits<SearchDocument> results = template.search(queryForTwo(), SearchDocument.class, index);
+
+		verify(afterConvertCallback, never()).onAfterConvert(any(), any(), any());
+		assertThat(results.getSearchHits()).hasSize(2).allSatisfy(hit -> {
+			assertThat(hit.getContent()).isInstanceOf(UnparsedSource.class);
+			assertThat(((UnparsedSource) hit.getContent()).getUnparsedSource()).isNotNull();
+		});
+	}
+
+	@Test
+	@DisplayName("search with an entity conversion pool should keep the order of the hits and invoke AfterConvertCallback")
+	void searchWithEntityConversionPoolShouldKeepTheOrderOfTheHitsAndInvokeAfterConvertCallback() {
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+
+		try {
+			template.setEntityCallbacks(EntityCallbacks.create(afterConvertCallback));
+			template.setEntityConversionPool(pool);
+			template.setParallelEntityConversionThreshold(2);
+			doReturn(searchHitsWithIds(100)).when(searchResponse).getHits();
+
+			SearchHits<Person> results = template.search(queryForTwo(), Person.class, index);
+
+			verify(afterConvertCallback, times(100)).onAfterConvert(any(), any(), eq(index));
+			assertThat(results.getSearchHits()).extracting(hit -> hit.getContent().id)
+					.containsExactlyElementsOf(IntStream.range(0, 100).mapToObj(i -> "id-" + i).collect(Collectors.toList()));
+			assertThat(results.getSearchHits()).allSatisfy(hit -> {
+				assertThat(hit.getContent().firstname).isEqualTo("after-convert");
+			});
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	private org.elasticsearch.search.SearchHits searchHitsWithIds(int count) {
+
+		org.elasticsearch.search.SearchHit[] hits = new org.elasticsearch.search.SearchHit[count];
+
+		for (int i = 0; i < count; i++) {
+			hits[i] = new org.elasticsearch.search.SearchHit(i, "id-" + i, null, null, null)
+					.sourceRef(new BytesArray("{\"id\":\"id-" + i + "\",\"firstname\":\"luke\"}"));
+		}
+
+		return new org.elasticsearch.search.SearchHits(hits, new TotalHits(count, TotalHits.Relation.EQUAL_TO), 1.0f);
+	}
+
 	@Test // DATAES-772
 	void searchWithIndexCoordinatesShouldInvokeAfterConvertCallback() {
 
@@ -492,7 +656,7 @@ abstract class AbstractElasticsearchTemplateCallbackTests {
 
 		private final List<T> values = new ArrayList<>(1);
 
-		protected void capture(T value) {
+		protected synchronized void capture(T value) {
 			values.add(value);
 		}
 
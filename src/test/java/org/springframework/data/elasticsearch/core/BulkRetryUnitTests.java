@@ -0,0 +1,184 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.index.IndexResponse;
+import org.elasticsearch.action.update.UpdateResponse;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.unit.TimeValue;
+import org.elasticsearch.common.util.concurrent.EsRejectedExecutionException;
+import org.elasticsearch.index.shard.ShardId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.client.reactive.ReactiveElasticsearchClient;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+
+/**
+ * Tests for sending rejected bulk items again.
+ *
+ * @since 4.2
+ */
+@ExtendWith(MockitoExtension.class)
+class BulkRetryUnitTests {
+
+	private static final IndexCoordinates INDEX = IndexCoordinates.of("index");
+	private static final ShardId SHARD_ID = new ShardId("index", "uuid", 0);
+
+	@Mock private RestHighLevelClient restClient;
+	@Mock private ReactiveElasticsearchClient reactiveClient;
+
+	@Test
+	void shouldSendOnlyRejectedItemsAgainAndKeepTheOriginalOrder() throws Exception {
+
+		ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+		when(restClient.bulk(captor.capture(), any(RequestOptions.class))) //
+				.thenReturn(bulkResponse(indexed(0, "1"), rejected(1, "2"), indexed(2, "3"), rejected(3, "4")))
+				.thenReturn(bulkResponse(indexed(0, "2"), rejected(1, "4"))) //
+				.thenReturn(bulkResponse(indexed(0, "4")));
+
+		ElasticsearchRestTemplate template = new ElasticsearchRestTemplate(restClient);
+		BulkOptions bulkOptions = BulkOptions.builder().withRetries(3, TimeValue.timeValueMillis(1)).build();
+
+		List<IndexedObjectInformation> result = template.bulkIndex(indexQueries("1", "2", "3", "4"), bulkOptions, INDEX);
+
+		assertThat(result).extracting(IndexedObjectInformation::getId).containsExactly("1", "2", "3", "4");
+		List<BulkRequest> requests = captor.getAllValues();
+		assertThat(requests).hasSize(3);
+		assertThat(requests.get(1).requests()).extracting(DocWriteRequest::id).containsExactly("2", "4");
+		assertThat(requests.get(2).requests()).extracting(DocWriteRequest::id).containsExactly("4");
+	}
+
+	@Test
+	void shouldFailWithRemainingRejectionsWhenRetriesAreExhausted() throws Exception {
+
+		when(restClient.bulk(any(BulkRequest.class), any(RequestOptions.class))) //
+				.thenReturn(bulkResponse(indexed(0, "1"), rejected(1, "2"))) //
+				.thenReturn(bulkResponse(rejected(0, "2")));
+
+		ElasticsearchRestTemplate template = new ElasticsearchRestTemplate(restClient);
+		BulkOptions bulkOptions = BulkOptions.builder().withRetries(1, TimeValue.timeValueMillis(1)).build();
+
+		assertThatThrownBy(() -> template.bulkIndex(indexQueries("1", "2"), bulkOptions, INDEX))
+				.isInstanceOf(BulkFailureException.class) //
+				.satisfies(e -> assertThat(((BulkFailureException) e).getFailedDocuments()).containsOnlyKeys("2"));
+		verify(restClient, times(2)).bulk(any(BulkRequest.class), any(RequestOptions.class));
+	}
+
+	@Test
+	void shouldNotRetryByDefault() throws Exception {
+
+		when(restClient.bulk(any(BulkRequest.class), any(RequestOptions.class))) //
+				.thenReturn(bulkResponse(indexed(0, "1"), rejected(1, "2")));
+
+		ElasticsearchRestTemplate template = new ElasticsearchRestTemplate(restClient);
+
+		assertThatThrownBy(() -> template.bulkIndex(indexQueries("1", "2"), BulkOptions.defaultOptions(), INDEX))
+				.isInstanceOf(BulkFailureException.class);
+		verify(restClient, times(1)).bulk(any(BulkRequest.class), any(RequestOptions.class));
+	}
+
+	@Test
+	void reactiveTemplateShouldSendOnlyRejectedItemsAgain() {
+
+		ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+		when(reactiveClient.bulk(captor.capture())) //
+				.thenReturn(Mono.just(bulkResponse(updated(0, "1"), rejected(1, "2"), rejected(2, "3"))))
+				.thenReturn(Mono.just(bulkResponse(updated(0, "2"), updated(1, "3"))));
+
+		ReactiveElasticsearchTemplate template = new ReactiveElasticsearchTemplate(reactiveClient);
+		BulkOptions bulkOptions = BulkOptions.builder().withRetries(2, TimeValue.timeValueMillis(1)).build();
+
+		template.bulkUpdate(updateQueries("1", "2", "3"), bulkOptions, INDEX) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		List<BulkRequest> requests = captor.getAllValues();
+		assertThat(requests).hasSize(2);
+		assertThat(requests.get(1).requests()).extracting(DocWriteRequest::id).containsExactly("2", "3");
+	}
+
+	@Test
+	void reactiveTemplateShouldFailWhenRetriesAreExhausted() {
+
+		when(reactiveClient.bulk(any(BulkRequest.class))) //
+				.thenReturn(Mono.just(bulkResponse(rejected(0, "1"))));
+
+		ReactiveElasticsearchTemplate template = new ReactiveElasticsearchTemplate(reactiveClient);
+		BulkOptions bulkOptions = BulkOptions.builder().withRetries(2, TimeValue.timeValueMillis(1)).build();
+
+		template.bulkUpdate(updateQueries("1"), bulkOptions, INDEX) //
+				.as(StepVerifier::create) //
+				.verifyError(BulkFailureException.class);
+
+		verify(reactiveClient, times(3)).bulk(any(BulkRequest.class));
+	}
+
+	private static List<IndexQuery> indexQueries(String... ids) {
+		return Arrays.stream(ids) //
+				.map(id -> new IndexQueryBuilder().withId(id).withSource("{}").build()) //
+				.collect(Collectors.toList());
+	}
+
+	private static List<UpdateQuery> updateQueries(String... ids) {
+		return Arrays.stream(ids) //
+				.map(id -> UpdateQuery.builder(id).withDocument(Document.create()).build()) //
+				.collect(Collectors.toList());
+	}
+
+	private static BulkResponse bulkResponse(BulkItemResponse... items) {
+		return new BulkResponse(items, 1);
+	}
+
+	private static BulkItemResponse indexed(int itemId, String id) {
+		return new BulkItemResponse(itemId, DocWriteRequest.OpType.INDEX,
+				new IndexResponse(SHARD_ID, "_doc", id, 1, 1, 1, true));
+	}
+
+	private static BulkItemResponse updated(int itemId, String id) {
+		return new BulkItemResponse(itemId, DocWriteRequest.OpType.UPDATE,
+				new UpdateResponse(SHARD_ID, "_doc", id, 1, 1, 2, UpdateResponse.Result.UPDATED));
+	}
+
+	@SuppressWarnings("deprecation")
+	private static BulkItemResponse rejected(int itemId, String id) {
+		return new BulkItemResponse(itemId, DocWriteRequest.OpType.INDEX,
+				new BulkItemResponse.Failure("index", "_doc", id, new EsRejectedExecutionException("rejected")));
+	}
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.index.IndexResponse;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.unit.ByteSizeValue;
+import org.elasticsearch.common.unit.TimeValue;
+import org.elasticsearch.index.shard.ShardId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+
+/**
+ * Tests for flushing the {@link DefaultBulkIngester} and limiting the bulks in flight.
+ *
+ * @since 4.2
+ */
+@ExtendWith(MockitoExtension.class)
+class DefaultBulkIngesterUnitTests {
+
+	private static final IndexCoordinates INDEX = IndexCoordinates.of("index");
+	private static final ShardId SHARD_ID = new ShardId("index", "uuid", 0);
+
+	/**
+	 * a source of 100 bytes, together with the estimated action overhead an item has 150 bytes
+	 */
+	private static final String SOURCE = "{\"text\":\"" + new String(new char[89]).replace('\0', 'x') + "\"}";
+
+	@Mock private RestHighLevelClient client;
+
+	private ElasticsearchRestTemplate template;
+
+	@BeforeEach
+	void setUp() {
+		template = new ElasticsearchRestTemplate(client);
+	}
+
+	@Test
+	void shouldFlushWhenTheMaxSizeIsReached() throws Exception {
+
+		when(client.bulk(any(BulkRequest.class), any(RequestOptions.class))).thenAnswer(indexedItems());
+		BulkOptions bulkOptions = BulkOptions.builder() //
+				.withMaxActions(1000) //
+				.withMaxSize(new ByteSizeValue(250)) //
+				.build();
+
+		try (BulkIngester bulkIngester = template.bulkIngester(bulkOptions, INDEX, new BulkIngester.Listener() {})) {
+			bulkIngester.add(indexQuery("1"));
+			bulkIngester.add(indexQuery("2"));
+			bulkIngester.add(indexQuery("3"));
+
+			ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+			verify(client, timeout(1000)).bulk(captor.capture(), any(RequestOptions.class));
+			assertThat(captor.getValue().numberOfActions()).isEqualTo(2);
+		}
+
+		ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+		verify(client, times(2)).bulk(captor.capture(), any(RequestOptions.class));
+		assertThat(captor.getAllValues().get(1).numberOfActions()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldFlushAfterTheFlushInterval() throws Exception {
+
+		when(client.bulk(any(BulkRequest.class), any(RequestOptions.class))).thenAnswer(indexedItems());
+		BulkOptions bulkOptions = BulkOptions.builder() //
+				.withMaxActions(1000) //
+				.withFlushInterval(TimeValue.timeValueMillis(50)) //
+				.build();
+		List<Object> succeeded = new CopyOnWriteArrayList<>();
+		IndexQuery query = indexQuery("1");
+
+		try (BulkIngester bulkIngester = template.bulkIngester(bulkOptions, INDEX, new BulkIngester.Listener() {
+			@Override
+			public void onSuccess(Object operation, IndexedObjectInformation indexedObjectInformation) {
+				succeeded.add(operation);
+			}
+		})) {
+			bulkIngester.add(query);
+
+			verify(client, timeout(2000)).bulk(any(BulkRequest.class), any(RequestOptions.class));
+		}
+
+		verify(client, times(1)).bulk(any(BulkRequest.class), any(RequestOptions.class));
+		assertThat(succeeded).containsExactly(query);
+	}
+
+	@Test
+	void shouldBlockTheCallerWhileTheMaxConcurrentBulksAreInFlight() throws Exception {
+
+		CountDownLatch firstBulkStarted = new CountDownLatch(1);
+		CountDownLatch releaseFirstBulk = new CountDownLatch(1);
+		Answer<BulkResponse> indexedItems = indexedItems();
+		when(client.bulk(any(BulkRequest.class), any(RequestOptions.class))).thenAnswer(invocation -> {
+			if (firstBulkStarted.getCount() > 0) {
+				firstBulkStarted.countDown();
+				releaseFirstBulk.await();
+			}
+			return indexedItems.answer(invocation);
+		});
+		BulkOptions bulkOptions = BulkOptions.builder() //
+				.withMaxActions(1) //
+				.withMaxConcurrentBulks(1) //
+				.build();
+
+		try (BulkIngester bulkIngester = template.bulkIngester(bulkOptions, INDEX, new BulkIngester.Listener() {})) {
+			bulkIngester.add(indexQuery("1"));
+			assertThat(firstBulkStarted.await(1, TimeUnit.SECONDS)).isTrue();
+
+			CompletableFuture<Void> secondAdd = CompletableFuture.runAsync(() -> bulkIngester.add(indexQuery("2")));
+
+			assertThatThrownBy(() -> secondAdd.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+			verify(client, times(1)).bulk(any(BulkRequest.class), any(RequestOptions.class));
+
+			releaseFirstBulk.countDown();
+			secondAdd.get(1, TimeUnit.SECONDS);
+		}
+
+		verify(client, times(2)).bulk(any(BulkRequest.class), any(RequestOptions.class));
+	}
+
+	private static Answer<BulkResponse> indexedItems() {
+		return invocation -> {
+			List<DocWriteRequest<?>> requests = invocation.<BulkRequest> getArgument(0).requests();
+			BulkItemResponse[] items = new BulkItemResponse[requests.size()];
+			for (int i = 0; i < items.length; i++) {
+				items[i] = new BulkItemResponse(i, DocWriteRequest.OpType.INDEX,
+						new IndexResponse(SHARD_ID, "_doc", requests.get(i).id(), 1, 1, 1, true));
+			}
+			return new BulkResponse(items, 1);
+		};
+	}
+
+	private static IndexQuery indexQuery(String id) {
+		return new IndexQueryBuilder().withId(id).withSource(SOURCE).build();
+	}
+}
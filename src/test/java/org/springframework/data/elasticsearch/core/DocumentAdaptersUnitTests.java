@@ -37,6 +37,7 @@ import org.springframework.data.elasticsearch.core.document.Document;
 import org.springframework.data.elasticsearch.core.document.DocumentAdapters;
 import org.springframework.data.elasticsearch.core.document.Explanation;
 import org.springframework.data.elasticsearch.core.document.SearchDocument;
+import org.springframework.data.elasticsearch.core.document.UnparsedSource;
 
 /**
  * Unit tests for {@link DocumentAdapters}.
@@ -240,6 +241,40 @@ public class DocumentAdaptersUnitTests {
 		assertThat(document.getPrimaryTerm()).isEqualTo(2);
 	}
 
+	@Test
+	@DisplayName("should keep the source unparsed until the content is accessed")
+	void shouldKeepTheSourceUnparsedUntilTheContentIsAccessed() {
+
+		BytesArray source = new BytesArray("{\"field\":\"value\"}");
+		SearchHit searchHit = new SearchHit(123, "my-id", new Text("type"), null, null);
+		searchHit.sourceRef(source);
+
+		SearchDocument document = DocumentAdapters.from(searchHit);
+
+		assertThat(((UnparsedSource) document).getUnparsedSource()).isSameAs(source);
+		assertThat(document.getId()).isEqualTo("my-id");
+		assertThat(((UnparsedSource) document).getUnparsedSource()).isSameAs(source);
+
+		assertThat(document.get("field")).isEqualTo("value");
+		assertThat(((UnparsedSource) document).getUnparsedSource()).isNull();
+	}
+
+	@Test
+	@DisplayName("should return empty fields, highlights, inner hits and matched queries if there are none")
+	void shouldReturnEmptyFieldsHighlightsInnerHitsAndMatchedQueriesIfThereAreNone() {
+
+		SearchHit searchHit = new SearchHit(123, "my-id", new Text("type"), null, null);
+		searchHit.sourceRef(new BytesArray("{\"field\":\"value\"}"));
+
+		SearchDocument document = DocumentAdapters.from(searchHit);
+
+		assertThat(document.getFields()).isEmpty();
+		assertThat(document.getHighlightFields()).isEmpty();
+		assertThat(document.getInnerHits()).isEmpty();
+		assertThat(document.getMatchedQueries()).isEmpty();
+		assertThat(document.getExplanation()).isNull();
+	}
+
 	@Test // #725
 	@DisplayName("should adapt returned explanations")
 	void shouldAdaptReturnedExplanations() {
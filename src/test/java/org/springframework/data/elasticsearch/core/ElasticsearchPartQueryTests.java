@@ -15,6 +15,7 @@
  */
 package org.springframework.data.elasticsearch.core;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import static org.skyscreamer.jsonassert.JSONAssert.*;
 
@@ -26,6 +27,7 @@ import java.util.List;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
 import org.json.JSONException;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -506,6 +508,26 @@ class ElasticsearchPartQueryTests {
 		assertEquals(expected, query, false);
 	}
 
+	@Test
+	@DisplayName("should create the criteria with the mapped field without updating the query")
+	void shouldCreateTheCriteriaWithTheMappedFieldWithoutUpdatingTheQuery() throws NoSuchMethodException {
+
+		Method method = SampleRepository.class.getMethod("findByAvailableTrue");
+		ElasticsearchQueryMethod queryMethod = new ElasticsearchQueryMethod(method,
+				new DefaultRepositoryMetadata(SampleRepository.class), new SpelAwareProxyProjectionFactory(),
+				converter.getMappingContext());
+		ElasticsearchPartQuery partQuery = new ElasticsearchPartQuery(queryMethod, operations);
+
+		CriteriaQuery criteriaQuery = partQuery
+				.createQuery(new ParametersParameterAccessor(queryMethod.getParameters(), new Object[0]));
+
+		org.springframework.data.elasticsearch.core.query.Field field = criteriaQuery.getCriteria().getField();
+		assertThat(field).isNotNull();
+		assertThat(field.getName()).isEqualTo("available");
+		assertThat(field.getFieldType()).isEqualTo(FieldType.Boolean);
+		assertThat(criteriaQuery.isMapped()).isTrue();
+	}
+
 	private String getQueryBuilder(String methodName, Class<?>[] parameterClasses, Object[] parameters)
 			throws NoSuchMethodException {
 
@@ -91,7 +91,7 @@ class ElasticsearchRestTemplateCallbackTests extends AbstractElasticsearchTempla
 		doReturn(searchResponse).when(client).search(any(SearchRequest.class), any(RequestOptions.class));
 		doReturn(nSearchHits(2)).when(searchResponse).getHits();
 		doReturn("scroll-id").when(searchResponse).getScrollId();
-		doReturn(new BytesArray(new byte[8])).when(searchHit).getSourceRef();
+		doReturn(new BytesArray("{\"id\":\"init\",\"firstname\":\"luke\"}")).when(searchHit).getSourceRef();
 		doReturn(new HashMap<String, Object>() {
 			{
 				put("id", "init");
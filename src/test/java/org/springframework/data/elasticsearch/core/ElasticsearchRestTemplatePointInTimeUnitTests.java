@@ -0,0 +1,166 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.elasticsearch.index.query.QueryBuilders.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.util.EntityUtils;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.RestClient;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+/**
+ * Unit tests for streaming search results through a point in time with the {@link ElasticsearchRestTemplate}.
+ *
+ * @since 4.2
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ElasticsearchRestTemplatePointInTimeUnitTests {
+
+	private static final String SHARDS = "\"took\":1,\"timed_out\":false,"
+			+ "\"_shards\":{\"total\":1,\"successful\":1,\"skipped\":0,\"failed\":0}";
+
+	@Mock private RestHighLevelClient client;
+	@Mock private RestClient lowLevelClient;
+
+	private ElasticsearchRestTemplate template;
+
+	@BeforeEach
+	void setUp() {
+		when(client.getLowLevelClient()).thenReturn(lowLevelClient);
+		template = new ElasticsearchRestTemplate(client);
+	}
+
+	@Test
+	void shouldPageThroughThePointInTimeWithSearchAfterAndCloseItWhenExhausted() throws IOException {
+
+		Response open = response("{\"id\":\"pit-1\"}");
+		Response firstPage = response(page("pit-2", hit("1", "luke"), hit("2", "leia")));
+		Response lastPage = response(page("pit-3"));
+		Response close = response("{\"succeeded\":true,\"num_freed\":1}");
+		when(lowLevelClient.performRequest(any(Request.class))).thenReturn(open, firstPage, lastPage, close);
+
+		SearchHitsIterator<Person> iterator = template.searchForStream(pointInTimeQuery(), Person.class);
+		int count = 0;
+		while (iterator.hasNext()) {
+			iterator.next();
+			count++;
+		}
+
+		assertThat(count).isEqualTo(2);
+
+		List<Request> requests = capturedRequests(4);
+
+		assertThat(requests.get(0).getMethod()).isEqualTo("POST");
+		assertThat(requests.get(0).getEndpoint()).isEqualTo("/persons/_pit");
+
+		assertThat(requests.get(1).getEndpoint()).isEqualTo("/_search");
+		assertThat(body(requests.get(1))) //
+				.contains("\"pit\":{\"id\":\"pit-1\",\"keep_alive\":\"60000ms\"}") //
+				.doesNotContain("search_after");
+
+		assertThat(requests.get(2).getEndpoint()).isEqualTo("/_search");
+		assertThat(body(requests.get(2))) //
+				.contains("\"pit\":{\"id\":\"pit-2\",\"keep_alive\":\"60000ms\"}") //
+				.contains("\"search_after\":[\"2\"]");
+
+		assertThat(requests.get(3).getMethod()).isEqualTo("DELETE");
+		assertThat(requests.get(3).getEndpoint()).isEqualTo("/_pit");
+		assertThat(body(requests.get(3))).isEqualTo("{\"id\":\"pit-3\"}");
+	}
+
+	@Test
+	void shouldCloseThePointInTimeWhenTheStreamIsClosedEarly() throws IOException {
+
+		Response open = response("{\"id\":\"pit-1\"}");
+		Response firstPage = response(page("pit-2", hit("1", "luke"), hit("2", "leia")));
+		Response close = response("{\"succeeded\":true,\"num_freed\":1}");
+		when(lowLevelClient.performRequest(any(Request.class))).thenReturn(open, firstPage, close);
+
+		SearchHitsIterator<Person> iterator = template.searchForStream(pointInTimeQuery(), Person.class);
+		assertThat(iterator.next().getId()).isEqualTo("1");
+		iterator.close();
+
+		List<Request> requests = capturedRequests(3);
+
+		assertThat(requests.get(2).getMethod()).isEqualTo("DELETE");
+		assertThat(requests.get(2).getEndpoint()).isEqualTo("/_pit");
+		assertThat(body(requests.get(2))).isEqualTo("{\"id\":\"pit-2\"}");
+	}
+
+	private List<Request> capturedRequests(int expectedCount) throws IOException {
+
+		ArgumentCaptor<Request> captor = ArgumentCaptor.forClass(Request.class);
+		verify(lowLevelClient, times(expectedCount)).performRequest(captor.capture());
+		return captor.getAllValues();
+	}
+
+	private static Query pointInTimeQuery() {
+
+		Query query = new NativeSearchQueryBuilder().withQuery(matchAllQuery()).build();
+		query.setPointInTimeKeepAlive(Duration.ofMinutes(1));
+		return query;
+	}
+
+	private static Response response(String json) {
+
+		Response response = mock(Response.class);
+		when(response.getEntity()).thenReturn(new StringEntity(json, ContentType.APPLICATION_JSON));
+		return response;
+	}
+
+	private static String page(String pointInTimeId, String... hits) {
+		return "{\"pit_id\":\"" + pointInTimeId + "\"," + SHARDS + ",\"hits\":{\"total\":{\"value\":" + hits.length
+				+ ",\"relation\":\"eq\"},\"max_score\":null,\"hits\":[" + String.join(",", hits) + "]}}";
+	}
+
+	private static String hit(String id, String name) {
+		return "{\"_index\":\"persons\",\"_type\":\"_doc\",\"_id\":\"" + id + "\",\"_score\":null,\"_source\":{\"id\":\""
+				+ id + "\",\"name\":\"" + name + "\"},\"sort\":[\"" + id + "\"]}";
+	}
+
+	private static String body(Request request) throws IOException {
+		return EntityUtils.toString(request.getEntity());
+	}
+
+	@Document(indexName = "persons")
+	static class Person {
+		@Id String id;
+		String name;
+	}
+}
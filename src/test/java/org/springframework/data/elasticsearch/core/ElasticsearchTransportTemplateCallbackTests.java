@@ -15,12 +15,16 @@
  */
 package org.springframework.data.elasticsearch.core;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.HashMap;
 
 import org.elasticsearch.action.ActionFuture;
 import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkRequest;
 import org.elasticsearch.action.bulk.BulkRequestBuilder;
 import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.get.GetRequestBuilder;
@@ -40,11 +44,14 @@ import org.elasticsearch.client.Client;
 import org.elasticsearch.common.bytes.BytesArray;
 import org.elasticsearch.common.unit.TimeValue;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.Query;
 
 /**
  * @author Roman Puchkovskiy
@@ -88,6 +95,7 @@ class ElasticsearchTransportTemplateCallbackTests extends AbstractElasticsearchT
 		when(client.prepareBulk()).thenReturn(bulkRequestBuilder);
 		doReturn(bulkResponseActionFuture).when(bulkRequestBuilder).execute();
 		when(bulkResponseActionFuture.actionGet()).thenReturn(bulkResponse);
+		doReturn(bulkResponseActionFuture).when(client).bulk(any(BulkRequest.class));
 		doReturn(new BulkItemResponse[] { bulkItemResponse, bulkItemResponse }).when(bulkResponse).getItems();
 		doReturn("response-id").when(bulkItemResponse).getId();
 
@@ -121,7 +129,7 @@ class ElasticsearchTransportTemplateCallbackTests extends AbstractElasticsearchT
 		when(searchResponseActionFuture.actionGet(anyString())).thenReturn(searchResponse);
 		doReturn(nSearchHits(2)).when(searchResponse).getHits();
 		doReturn("scroll-id").when(searchResponse).getScrollId();
-		doReturn(new BytesArray(new byte[8])).when(searchHit).getSourceRef();
+		doReturn(new BytesArray("{\"id\":\"init\",\"firstname\":\"luke\"}")).when(searchHit).getSourceRef();
 		doReturn(new HashMap<String, Object>() {
 			{
 				put("id", "init");
@@ -139,4 +147,17 @@ class ElasticsearchTransportTemplateCallbackTests extends AbstractElasticsearchT
 		doReturn(searchScrollRequestBuilder).when(searchScrollRequestBuilder).setScroll(any(TimeValue.class));
 		doReturn(searchResponseActionFuture).when(searchScrollRequestBuilder).execute();
 	}
+
+	@Test
+	void searchForStreamShouldFallBackToAScrollWithoutPointInTimeSupport() {
+
+		Query query = new NativeSearchQueryBuilder().withIds(Arrays.asList("init1", "init2")).build();
+		query.setPointInTimeKeepAlive(Duration.ofMinutes(1));
+
+		SearchHitsIterator<Person> results = template.searchForStream(query, Person.class);
+
+		assertThat(results.next().getContent().firstname).isEqualTo("luke");
+		assertThat(results.next().getContent().firstname).isEqualTo("luke");
+		verify(searchRequestBuilder).setScroll(any(TimeValue.class));
+	}
 }
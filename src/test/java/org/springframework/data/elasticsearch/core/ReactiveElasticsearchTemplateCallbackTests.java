@@ -22,6 +22,8 @@ import org.elasticsearch.action.get.GetResponse;
 import org.elasticsearch.action.get.MultiGetItemResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.Duration;
 import java.util.ArrayList;
@@ -29,6 +31,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.apache.lucene.search.TotalHits;
 import org.elasticsearch.Version;
@@ -61,6 +64,7 @@ import org.springframework.data.elasticsearch.core.event.ReactiveAfterConvertCal
 import org.springframework.data.elasticsearch.core.event.ReactiveAfterSaveCallback;
 import org.springframework.data.elasticsearch.core.event.ReactiveBeforeConvertCallback;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
 import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.data.mapping.callback.ReactiveEntityCallbacks;
@@ -138,7 +142,7 @@ public class ReactiveElasticsearchTemplateCallbackTests {
 				new org.elasticsearch.search.SearchHits(new org.elasticsearch.search.SearchHit[] { searchHit, searchHit },
 						new TotalHits(2, TotalHits.Relation.EQUAL_TO), 1.0f));
 
-		doReturn(new BytesArray(new byte[8])).when(searchHit).getSourceRef();
+		doReturn(new BytesArray("{\"id\":\"init\",\"firstname\":\"luke\"}")).when(searchHit).getSourceRef();
 		doReturn(new HashMap<String, Object>() {
 			{
 				put("id", "init");
@@ -233,6 +237,22 @@ public class ReactiveElasticsearchTemplateCallbackTests {
 		assertThat(saved.get(1).firstname).isEqualTo("after-save");
 	}
 
+	@Test
+	void saveAllFromPublisherShouldSplitIntoBulksAndInvokeAfterSaveCallbacks() {
+
+		template.setEntityCallbacks(ReactiveEntityCallbacks.create(afterSaveCallback));
+
+		Flux<Person> entities = Flux.range(1, 4).map(i -> new Person("init" + i, "luke" + i));
+		BulkOptions bulkOptions = BulkOptions.builder().withMaxActions(2).build();
+
+		List<Person> saved = template.saveAll(entities, bulkOptions, index).collectList().block(Duration.ofSeconds(1));
+
+		verify(client, times(2)).bulk(any(BulkRequest.class));
+		verify(afterSaveCallback, times(4)).onAfterSave(any(), eq(index));
+		assertThat(saved).extracting(person -> person.firstname).containsOnly("after-save");
+		assertThat(saved).extracting(person -> person.id).containsExactly("init1", "init2", "init3", "init4");
+	}
+
 	@Test // DATAES-772, #1678
 	void multiGetShouldInvokeAfterConvertCallbacks() {
 
@@ -305,6 +325,43 @@ public class ReactiveElasticsearchTemplateCallbackTests {
 		assertThat(searchHits.getSearchHit(1).getContent().firstname).isEqualTo("after-convert");
 	}
 
+	@Test
+	void searchForPageWithEntityConversionSchedulerShouldKeepTheOrderOfTheHitsAndInvokeAfterConvertCallbacks() {
+
+		Scheduler scheduler = Schedulers.newParallel("entity-conversion", 4);
+
+		try {
+			template.setEntityCallbacks(ReactiveEntityCallbacks.create(afterConvertCallback));
+			template.setEntityConversionScheduler(scheduler);
+			template.setParallelEntityConversionThreshold(2);
+			when(searchResponse.getHits()).thenReturn(searchHitsWithIds(100));
+
+			SearchPage<Person> searchPage = template.searchForPage(pagedQueryForTwo(), Person.class)
+					.timeout(Duration.ofSeconds(1)).block();
+
+			verify(afterConvertCallback, times(100)).onAfterConvert(any(), any(), any());
+			assertThat(searchPage.getSearchHits().getSearchHits()).extracting(hit -> hit.getContent().id)
+					.containsExactlyElementsOf(IntStream.range(0, 100).mapToObj(i -> "id-" + i).collect(Collectors.toList()));
+			assertThat(searchPage.getSearchHits().getSearchHits()).allSatisfy(hit -> {
+				assertThat(hit.getContent().firstname).isEqualTo("after-convert");
+			});
+		} finally {
+			scheduler.dispose();
+		}
+	}
+
+	private org.elasticsearch.search.SearchHits searchHitsWithIds(int count) {
+
+		org.elasticsearch.search.SearchHit[] hits = new org.elasticsearch.search.SearchHit[count];
+
+		for (int i = 0; i < count; i++) {
+			hits[i] = new org.elasticsearch.search.SearchHit(i, "id-" + i, null, null, null)
+					.sourceRef(new BytesArray("{\"id\":\"id-" + i + "\",\"firstname\":\"luke\"}"));
+		}
+
+		return new org.elasticsearch.search.SearchHits(hits, new TotalHits(count, TotalHits.Relation.EQUAL_TO), 1.0f);
+	}
+
 	@Test // DATAES-772
 	void searchWithIndexCoordinatesShouldInvokeAfterConvertCallbacks() {
 
@@ -428,7 +485,7 @@ public class ReactiveElasticsearchTemplateCallbackTests {
 
 		private final List<T> values = new ArrayList<>(1);
 
-		protected void capture(T value) {
+		protected synchronized void capture(T value) {
 			values.add(value);
 		}
 
@@ -27,17 +27,28 @@ import reactor.test.StepVerifier;
 import java.lang.Double;
 import java.lang.Long;
 import java.lang.Object;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
 
+import org.apache.lucene.search.TotalHits;
 import org.elasticsearch.action.delete.DeleteRequest;
+import org.elasticsearch.action.get.GetRequest;
 import org.elasticsearch.action.index.IndexRequest;
 import org.elasticsearch.action.main.MainResponse;
 import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.action.support.IndicesOptions;
 import org.elasticsearch.action.support.WriteRequest;
 import org.elasticsearch.cluster.ClusterName;
+import org.elasticsearch.common.bytes.BytesArray;
+import org.elasticsearch.common.text.Text;
+import org.elasticsearch.common.unit.TimeValue;
 import org.elasticsearch.index.query.QueryBuilders;
 import org.elasticsearch.index.reindex.DeleteByQueryRequest;
+import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.SearchHits;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -166,6 +177,118 @@ public class ReactiveElasticsearchTemplateUnitTests {
 		verify(client).scroll(any());
 	}
 
+	@Test
+	void slicedSearchShouldScrollEverySlice() {
+
+		ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+		when(client.scroll(captor.capture())).thenReturn(Flux.empty());
+
+		template.search(new CriteriaQuery(new Criteria("*")), SampleEntity.class, 3) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		assertThat(captor.getAllValues()) //
+				.extracting(request -> request.source().slice().getId()) //
+				.containsExactlyInAnyOrder(0, 1, 2);
+		assertThat(captor.getAllValues()) //
+				.extracting(request -> request.source().slice().getMax()) //
+				.containsOnly(3);
+	}
+
+	@Test
+	void unpagedSearchShouldNotScrollIfTheFirstPageContainsAllHits() {
+
+		template.setUnpagedFirstPageSize(10);
+		ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+		when(client.searchForResponse(captor.capture())).thenReturn(Mono.just(searchResponse(2, "1", "2")));
+
+		template.search(new CriteriaQuery(new Criteria("*")).setPageable(Pageable.unpaged()), SampleEntity.class, index) //
+				.as(StepVerifier::create) //
+				.expectNextCount(2) //
+				.verifyComplete();
+
+		assertThat(captor.getValue().source().size()).isEqualTo(10);
+		assertThat(captor.getValue().scroll()).isNull();
+		verify(client, never()).scroll(any());
+	}
+
+	@Test
+	void unpagedSearchShouldScrollWithTheScrollSizeAndTimeOfTheQueryIfThereAreMoreHits() {
+
+		template.setUnpagedFirstPageSize(2);
+		when(client.searchForResponse(any(SearchRequest.class))).thenReturn(Mono.just(searchResponse(5, "1", "2")));
+		ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+		when(client.scroll(captor.capture())).thenReturn(Flux.empty());
+
+		Query query = new CriteriaQuery(new Criteria("*")).setPageable(Pageable.unpaged());
+		query.setScrollSize(100);
+		query.setScrollTime(Duration.ofSeconds(30));
+		template.search(query, SampleEntity.class, index) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		assertThat(captor.getValue().source().size()).isEqualTo(100);
+		assertThat(captor.getValue().scroll().keepAlive()).isEqualTo(TimeValue.timeValueSeconds(30));
+	}
+
+	@Test
+	void existsShouldSearchForTheFirstMatchingDocumentOnly() {
+
+		ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+		when(client.searchForResponse(captor.capture())).thenReturn(Mono.just(searchResponse(1)));
+
+		template.exists(new CriteriaQuery(new Criteria("message").is("test")), SampleEntity.class, index) //
+				.as(StepVerifier::create) //
+				.expectNext(true) //
+				.verifyComplete();
+
+		SearchSourceBuilder source = captor.getValue().source();
+		assertThat(source.size()).isEqualTo(0);
+		assertThat(source.terminateAfter()).isEqualTo(1);
+		assertThat(source.trackTotalHitsUpTo()).isEqualTo(1);
+		assertThat(source.fetchSource().fetchSource()).isFalse();
+	}
+
+	@Test
+	void existsShouldBeTrueForAMatchEvenIfTheSearchWasNotTerminatedEarly() {
+
+		SearchResponse response = searchResponse(1);
+		lenient().when(response.isTerminatedEarly()).thenReturn(null);
+		when(client.searchForResponse(any(SearchRequest.class))).thenReturn(Mono.just(response));
+
+		template.exists(new CriteriaQuery(new Criteria("message").is("test")), SampleEntity.class, index) //
+				.as(StepVerifier::create) //
+				.expectNext(true) //
+				.verifyComplete();
+	}
+
+	@Test
+	void existsShouldBeFalseIfNoDocumentMatches() {
+
+		when(client.searchForResponse(any(SearchRequest.class))).thenReturn(Mono.just(searchResponse(0)));
+
+		template.exists(new CriteriaQuery(new Criteria("message").is("test")), SampleEntity.class, index) //
+				.as(StepVerifier::create) //
+				.expectNext(false) //
+				.verifyComplete();
+	}
+
+	@Test
+	void existsByIdShouldSendAHeadRequestForTheId() {
+
+		ArgumentCaptor<GetRequest> captor = ArgumentCaptor.forClass(GetRequest.class);
+		when(client.exists(captor.capture())).thenReturn(Mono.just(true));
+
+		template.exists("42", index) //
+				.as(StepVerifier::create) //
+				.expectNext(true) //
+				.verifyComplete();
+
+		assertThat(captor.getValue().id()).isEqualTo("42");
+		assertThat(captor.getValue().index()).isEqualTo("index");
+		verify(client, never()).get(any(GetRequest.class));
+	}
+
 	@Test // DATAES-504
 	public void deleteShouldUseDefaultRefreshPolicy() {
 
@@ -250,6 +373,18 @@ public class ReactiveElasticsearchTemplateUnitTests {
 		assertThat(captor.getValue().indicesOptions()).isEqualTo(IndicesOptions.LENIENT_EXPAND_OPEN);
 	}
 
+	private static SearchResponse searchResponse(long totalHits, String... ids) {
+
+		SearchHit[] hits = Arrays.stream(ids) //
+				.map(id -> new SearchHit(0, id, new Text("_doc"), null, null).sourceRef(new BytesArray("{}"))) //
+				.toArray(SearchHit[]::new);
+
+		SearchResponse response = mock(SearchResponse.class);
+		when(response.getHits())
+				.thenReturn(new SearchHits(hits, new TotalHits(totalHits, TotalHits.Relation.EQUAL_TO), 1.0f));
+		return response;
+	}
+
 	@Document(indexName = "test-index-sample-core-reactive-template-Unit", replicas = 0, refreshInterval = "-1")
 	static class SampleEntity {
 
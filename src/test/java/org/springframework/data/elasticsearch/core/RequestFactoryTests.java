@@ -44,6 +44,10 @@ import org.elasticsearch.index.query.QueryBuilders;
 import org.elasticsearch.index.query.functionscore.FunctionScoreQueryBuilder;
 import org.elasticsearch.index.query.functionscore.FunctionScoreQueryBuilder.FilterFunctionBuilder;
 import org.elasticsearch.index.query.functionscore.GaussDecayFunctionBuilder;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.elasticsearch.search.sort.FieldSortBuilder;
+import org.elasticsearch.search.sort.SortBuilders;
+import org.elasticsearch.search.sort.SortOrder;
 import org.json.JSONException;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -53,6 +57,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.convert.support.GenericConversionService;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.elasticsearch.annotations.Field;
@@ -101,6 +106,21 @@ class RequestFactoryTests {
 		requestFactory = new RequestFactory((converter));
 	}
 
+	@Test
+	@DisplayName("should not update the fields of a mapped criteria query again")
+	void shouldNotUpdateTheFieldsOfAMappedCriteriaQueryAgain() {
+
+		CriteriaQuery mappedQuery = new CriteriaQuery(new Criteria("lastName").is("Smith"));
+		mappedQuery.setMapped(true);
+		CriteriaQuery query = new CriteriaQuery(new Criteria("lastName").is("Smith"));
+
+		requestFactory.searchRequest(mappedQuery, Person.class, IndexCoordinates.of("persons"));
+		requestFactory.searchRequest(query, Person.class, IndexCoordinates.of("persons"));
+
+		assertThat(mappedQuery.getCriteria().getField().getName()).isEqualTo("lastName");
+		assertThat(query.getCriteria().getField().getName()).isEqualTo("last-name");
+	}
+
 	@Test // FPI-734
 	void shouldBuildSearchWithGeoSortSort() throws JSONException {
 		CriteriaQuery query = new CriteriaQuery(new Criteria("lastName").is("Smith"));
@@ -497,6 +517,36 @@ class RequestFactoryTests {
 		assertThat(searchRequest.source().timeout()).isEqualTo(TimeValue.timeValueSeconds(1));
 	}
 
+	@Test
+	@DisplayName("should add _id tiebreaker to point in time search request")
+	void shouldAddIdTiebreakerToPointInTimeSearchRequest() {
+
+		Query query = new CriteriaQuery(new Criteria("lastName").is("Smith"))
+				.addSort(Sort.by(Sort.Direction.DESC, "lastName"));
+		query.setPageable(PageRequest.of(3, 10));
+
+		SearchRequest searchRequest = requestFactory.searchRequestWithPointInTime(query, Person.class,
+				IndexCoordinates.of("persons"));
+
+		assertThat(searchRequest.source().from()).isEqualTo(0);
+		assertThat(searchRequest.source().sorts()).extracting(sort -> ((FieldSortBuilder) sort).getFieldName())
+				.containsExactly("last-name", "_id");
+	}
+
+	@Test
+	@DisplayName("should not add a second _id tiebreaker to point in time search request")
+	void shouldNotAddASecondIdTiebreakerToPointInTimeSearchRequest() {
+
+		Query query = new NativeSearchQueryBuilder().withQuery(matchAllQuery())
+				.withSort(SortBuilders.fieldSort("_id").order(SortOrder.DESC)).build();
+
+		SearchRequest searchRequest = requestFactory.searchRequestWithPointInTime(query, Person.class,
+				IndexCoordinates.of("persons"));
+
+		assertThat(searchRequest.source().sorts()).hasSize(1);
+		assertThat(((FieldSortBuilder) searchRequest.source().sorts().get(0)).order()).isEqualTo(SortOrder.DESC);
+	}
+
 	@Test // DATAES-1003
 	@DisplayName("should set timeout to requestbuilder")
 	void shouldSetTimeoutToRequestBuilder() {
@@ -510,6 +560,41 @@ class RequestFactoryTests {
 		assertThat(searchRequestBuilder.request().source().timeout()).isEqualTo(TimeValue.timeValueSeconds(1));
 	}
 
+	@Test
+	@DisplayName("should create an exists request that stops at the first hit")
+	void shouldCreateAnExistsRequestThatStopsAtTheFirstHit() {
+
+		Query query = new CriteriaQuery(new Criteria("lastName").is("Smith"));
+		query.setPageable(PageRequest.of(3, 10));
+
+		SearchRequest searchRequest = requestFactory.existsRequest(query, Person.class, IndexCoordinates.of("persons"));
+
+		SearchSourceBuilder source = searchRequest.source();
+		assertThat(source.from()).isEqualTo(0);
+		assertThat(source.size()).isEqualTo(0);
+		assertThat(source.terminateAfter()).isEqualTo(1);
+		assertThat(source.trackTotalHitsUpTo()).isEqualTo(1);
+		assertThat(source.fetchSource().fetchSource()).isFalse();
+	}
+
+	@Test
+	@DisplayName("should create an exists request builder that stops at the first hit")
+	void shouldCreateAnExistsRequestBuilderThatStopsAtTheFirstHit() {
+
+		when(client.prepareSearch(any())).thenReturn(new SearchRequestBuilder(client, SearchAction.INSTANCE));
+		Query query = new CriteriaQuery(new Criteria("lastName").is("Smith"));
+
+		SearchRequestBuilder searchRequestBuilder = requestFactory.existsRequestBuilder(client, query, Person.class,
+				IndexCoordinates.of("persons"));
+
+		SearchSourceBuilder source = searchRequestBuilder.request().source();
+		assertThat(source.from()).isEqualTo(0);
+		assertThat(source.size()).isEqualTo(0);
+		assertThat(source.terminateAfter()).isEqualTo(1);
+		assertThat(source.trackTotalHitsUpTo()).isEqualTo(1);
+		assertThat(source.fetchSource().fetchSource()).isFalse();
+	}
+
 	private String requestToString(ToXContent request) throws IOException {
 		return XContentHelper.toXContent(request, XContentType.JSON, true).utf8ToString();
 	}
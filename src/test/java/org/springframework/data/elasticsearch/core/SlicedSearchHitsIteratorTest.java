@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.util.StreamUtils;
+
+/**
+ * @since 4.2
+ */
+class SlicedSearchHitsIteratorTest {
+
+	@Test
+	@DisplayName("should return the hits of all slices and clear all scroll ids")
+	void shouldReturnTheHitsOfAllSlicesAndClearAllScrollIds() {
+
+		List<String> clearedScrollIds = Collections.synchronizedList(new ArrayList<>());
+		List<SearchHitsIterator<String>> slices = Arrays.asList( //
+				slice("a", 3, clearedScrollIds), //
+				slice("b", 2, clearedScrollIds), //
+				slice("c", 0, clearedScrollIds));
+
+		SlicedSearchHitsIterator<String> iterator = new SlicedSearchHitsIterator<>(0, slices);
+
+		List<String> contents = StreamUtils.createStreamFromIterator(iterator) //
+				.map(SearchHit::getContent) //
+				.collect(Collectors.toList());
+
+		assertThat(iterator.getTotalHits()).isEqualTo(5);
+		assertThat(contents).containsExactlyInAnyOrder("a-0", "a-1", "a-2", "b-0", "b-1");
+		assertThat(clearedScrollIds).containsExactlyInAnyOrder("a-0", "a-1", "a-2", "a-3", "b-0", "b-1", "b-2", "c-0");
+	}
+
+	@Test
+	@DisplayName("should only return requested count and clear all scroll ids")
+	void shouldOnlyReturnRequestedCountAndClearAllScrollIds() {
+
+		List<String> clearedScrollIds = Collections.synchronizedList(new ArrayList<>());
+		List<SearchHitsIterator<String>> slices = Arrays.asList( //
+				slice("a", 100, clearedScrollIds), //
+				slice("b", 100, clearedScrollIds));
+
+		SlicedSearchHitsIterator<String> iterator = new SlicedSearchHitsIterator<>(5, slices);
+
+		long count = StreamUtils.createStreamFromIterator(iterator).count();
+
+		assertThat(count).isEqualTo(5);
+		assertThat(clearedScrollIds).contains("a-0", "b-0");
+	}
+
+	/**
+	 * creates a slice returning one hit per page, the scroll id is the slice name with the page number.
+	 */
+	private SearchHitsIterator<String> slice(String name, int hits, List<String> clearedScrollIds) {
+
+		List<SearchScrollHits<String>> pages = IntStream.rangeClosed(0, hits) //
+				.mapToObj(page -> newSearchScrollHits(
+						page < hits ? Collections.singletonList(searchHit(name + '-' + page)) : Collections.emptyList(),
+						name + '-' + page, hits)) //
+				.collect(Collectors.toList());
+
+		return StreamQueries.streamResults( //
+				0, //
+				pages.get(0), //
+				scrollId -> pages.get(Integer.parseInt(scrollId.substring(scrollId.indexOf('-') + 1)) + 1), //
+				clearedScrollIds::addAll);
+	}
+
+	private SearchHit<String> searchHit(String content) {
+		return new SearchHit<String>(null, null, null, 0, null, null, null, null, null, null, content);
+	}
+
+	private SearchScrollHits<String> newSearchScrollHits(List<SearchHit<String>> hits, String scrollId, long totalHits) {
+		return new SearchHitsImpl<String>(totalHits, TotalHitsRelation.EQUAL_TO, 0, scrollId, hits, null);
+	}
+}
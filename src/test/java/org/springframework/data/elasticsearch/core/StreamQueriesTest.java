@@ -23,6 +23,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -178,6 +179,78 @@ public class StreamQueriesTest {
 		assertThat(count).isEqualTo(2);
 	}
 
+	@Test
+	@DisplayName("should return all hits and clear all scroll ids when prefetching")
+	void shouldReturnAllHitsAndClearAllScrollIdsWhenPrefetching() {
+
+		SearchScrollHits<String> searchHits1 = newSearchScrollHits(Collections.singletonList(getOneSearchHit()), "s-1");
+		SearchScrollHits<String> searchHits2 = newSearchScrollHits(Collections.singletonList(getOneSearchHit()), "s-2");
+		SearchScrollHits<String> searchHits3 = newSearchScrollHits(Collections.singletonList(getOneSearchHit()), "s-2");
+		SearchScrollHits<String> searchHits4 = newSearchScrollHits(Collections.emptyList(), "s-3");
+
+		Iterator<SearchScrollHits<String>> searchScrollHitsIterator = Arrays
+				.asList(searchHits1, searchHits2, searchHits3, searchHits4).iterator();
+
+		List<String> clearedScrollIds = new ArrayList<>();
+		SearchHitsIterator<String> iterator = StreamQueries.streamResults( //
+				0, //
+				2, //
+				searchScrollHitsIterator.next(), //
+				scrollId -> searchScrollHitsIterator.next(), //
+				clearedScrollIds::addAll, //
+				runnable -> new Thread(runnable).start());
+
+		long count = StreamUtils.createStreamFromIterator(iterator).count();
+
+		assertThat(count).isEqualTo(3);
+		assertThat(clearedScrollIds).isEqualTo(Arrays.asList("s-1", "s-2", "s-3"));
+	}
+
+	@Test
+	@DisplayName("should only return requested count when prefetching")
+	void shouldOnlyReturnRequestedCountWhenPrefetching() {
+
+		AtomicInteger requestedPages = new AtomicInteger();
+		List<String> clearedScrollIds = new ArrayList<>();
+
+		SearchHitsIterator<String> iterator = StreamQueries.streamResults( //
+				2, //
+				3, //
+				newSearchScrollHits(Collections.singletonList(getOneSearchHit()), "s-0"), //
+				scrollId -> newSearchScrollHits(Collections.singletonList(getOneSearchHit()),
+						"s-" + requestedPages.incrementAndGet()), //
+				clearedScrollIds::addAll, //
+				runnable -> new Thread(runnable).start());
+
+		long count = StreamUtils.createStreamFromIterator(iterator).count();
+
+		assertThat(count).isEqualTo(2);
+		assertThat(requestedPages.get()).isEqualTo(1);
+		assertThat(clearedScrollIds).isEqualTo(Arrays.asList("s-0", "s-1"));
+	}
+
+	@Test
+	@DisplayName("should rethrow failure of prefetch request and clear scroll")
+	void shouldRethrowFailureOfPrefetchRequestAndClearScroll() {
+
+		AtomicBoolean clearScrollCalled = new AtomicBoolean(false);
+
+		SearchHitsIterator<String> iterator = StreamQueries.streamResults( //
+				0, //
+				1, //
+				newSearchScrollHits(Collections.singletonList(getOneSearchHit()), "s-1"), //
+				scrollId -> {
+					throw new IllegalStateException("scroll failed");
+				}, //
+				scrollIds -> clearScrollCalled.set(true), //
+				runnable -> new Thread(runnable).start());
+
+		iterator.next();
+
+		assertThatThrownBy(iterator::hasNext).isInstanceOf(IllegalStateException.class).hasMessage("scroll failed");
+		assertThat(clearScrollCalled).isTrue();
+	}
+
 	private SearchScrollHits<String> newSearchScrollHits(List<SearchHit<String>> hits, String scrollId) {
 		return new SearchHitsImpl<String>(hits.size(), TotalHitsRelation.EQUAL_TO, 0, scrollId, hits, null);
 	}
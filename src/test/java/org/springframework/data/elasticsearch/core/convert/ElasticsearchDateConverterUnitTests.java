@@ -2,6 +2,7 @@ package org.springframework.data.elasticsearch.core.convert;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -9,6 +10,7 @@ import java.time.LocalTime;
 import java.time.Year;
 import java.time.YearMonth;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.TemporalAccessor;
 import java.util.Date;
@@ -414,6 +416,57 @@ class ElasticsearchDateConverterUnitTests {
 		check(ElasticsearchDateConverter.of("basic_date_time ||invalid-pattern"), LocalDateTime.class);
 	}
 
+	@Test
+	@DisplayName("should parse date_optional_time with and without time")
+	void shouldParseDateOptionalTimeWithAndWithoutTime() {
+
+		ElasticsearchDateConverter converter = ElasticsearchDateConverter.of(DateFormat.date_optional_time);
+
+		assertThat(converter.parse("2021-03-04", LocalDate.class)).isEqualTo(LocalDate.of(2021, 3, 4));
+		assertThat(converter.parse("2021-03-04T05:06:07.089Z", Instant.class))
+				.isEqualTo(Instant.parse("2021-03-04T05:06:07.089Z"));
+		assertThat(converter.parse("2021-03-04T05:06:07.089+02:00", Instant.class))
+				.isEqualTo(Instant.parse("2021-03-04T03:06:07.089Z"));
+		assertThat(converter.parse("2021-03-04T05:06:07.089-01:30", LocalDateTime.class))
+				.isEqualTo(LocalDateTime.of(2021, 3, 4, 5, 6, 7, 89_000_000));
+		assertThat(converter.parse("2021-03-04T05:06:07.089+02:00", ZonedDateTime.class).getOffset())
+				.isEqualTo(ZoneOffset.ofHours(2));
+	}
+
+	@Test
+	@DisplayName("should fall back to the pattern for input the fast path does not handle")
+	void shouldFallBackToThePatternForInputTheFastPathDoesNotHandle() {
+
+		ElasticsearchDateConverter converter = ElasticsearchDateConverter.of(DateFormat.basic_date);
+
+		// the pattern's smart resolver adjusts the day to the end of the month
+		assertThat(converter.parse("20210230", LocalDate.class)).isEqualTo(LocalDate.of(2021, 2, 28));
+		assertThatThrownBy(() -> converter.parse("2021023", LocalDate.class)).isInstanceOf(DateTimeException.class);
+	}
+
+	@Test
+	@DisplayName("should format Instant in UTC")
+	void shouldFormatInstantInUtc() {
+
+		Instant instant = Instant.parse("2021-03-04T05:06:07.089Z");
+
+		assertThat(ElasticsearchDateConverter.of(DateFormat.date_optional_time).format(instant))
+				.isEqualTo("2021-03-04T05:06:07.089Z");
+		assertThat(ElasticsearchDateConverter.of(DateFormat.hour_minute).format(instant)).isEqualTo("05:06");
+		assertThat(ElasticsearchDateConverter.of(DateFormat.epoch_second).format(instant)).isEqualTo("1614834367.089");
+	}
+
+	@Test
+	@DisplayName("should parse epoch_second to the target type")
+	void shouldParseEpochSecondToTheTargetType() {
+
+		ElasticsearchDateConverter converter = ElasticsearchDateConverter.of(DateFormat.epoch_second);
+
+		assertThat(converter.parse("1614834367.089", Instant.class)).isEqualTo(Instant.ofEpochMilli(1614834367089L));
+		assertThat(converter.parse("-1.5", Instant.class)).isEqualTo(Instant.ofEpochMilli(-1500));
+		assertThat(converter.format(Instant.ofEpochMilli(-1500))).isEqualTo("-1.500");
+	}
+
 	private <T extends TemporalAccessor> void check(ElasticsearchDateConverter converter, Class<T> type) {
 
 		String formatted = converter.format(zdt);
@@ -19,6 +19,7 @@ import static java.util.Collections.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.skyscreamer.jsonassert.JSONAssert.*;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -29,6 +30,9 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
+import org.elasticsearch.common.bytes.BytesArray;
+import org.elasticsearch.common.text.Text;
+import org.elasticsearch.search.SearchHit;
 import org.json.JSONException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -48,6 +52,9 @@ import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
 import org.springframework.data.elasticsearch.annotations.GeoPointField;
 import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.document.DocumentAdapters;
+import org.springframework.data.elasticsearch.core.document.SearchDocument;
+import org.springframework.data.elasticsearch.core.document.UnparsedSource;
 import org.springframework.data.elasticsearch.core.geo.GeoJsonEntity;
 import org.springframework.data.elasticsearch.core.geo.GeoJsonGeometryCollection;
 import org.springframework.data.elasticsearch.core.geo.GeoJsonLineString;
@@ -883,6 +890,142 @@ public class MappingElasticsearchConverterUnitTests {
 		assertEquals(expected, document.toJson(), false);
 	}
 
+	@Test
+	@DisplayName("should write the same JSON as the Document for nested entities, collections and maps")
+	void shouldWriteTheSameJsonAsTheDocumentForNestedEntitiesCollectionsAndMaps() {
+
+		Person person = new Person();
+		person.setId("4711");
+		person.setFirstName("John");
+		person.setLastName("Doe");
+		person.birthDate = LocalDate.of(2000, 8, 22);
+		person.gender = Gender.MAN;
+		person.address = bigBunsCafe;
+		person.coWorkers = Arrays.asList(sarahConnor, kyleReese);
+		person.inventoryList = Arrays.asList(gun, grenade, rifle, shotGun);
+		person.shippingAddresses = new LinkedHashMap<>();
+		person.shippingAddresses.put("home", observatoryRoad);
+		person.shippingAddresses.put("work", bigBunsCafe);
+		person.inventoryMap = new LinkedHashMap<>();
+		person.inventoryMap.put("rifle", rifle);
+		person.inventoryMap.put("shotgun", shotGun);
+
+		assertWritesSameJsonAsDocument(person);
+	}
+
+	@Test
+	@DisplayName("should write the same JSON as the Document for untyped values")
+	void shouldWriteTheSameJsonAsTheDocumentForUntypedValues() {
+
+		Map<String, Object> objectMap = new LinkedHashMap<>();
+		objectMap.put("gun", gun);
+		objectMap.put("list", Arrays.asList(1, "two", null, Arrays.asList(3.0, 4L)));
+		objectMap.put("null", null);
+
+		Skynet skynet = new Skynet();
+		skynet.setObject(t800);
+		skynet.setObjectList(Arrays.asList(rifle, observatoryRoad, "text", 42));
+		skynet.setObjectMap(objectMap);
+
+		assertWritesSameJsonAsDocument(skynet);
+	}
+
+	@Test
+	@DisplayName("should write the same JSON as the Document for converted and null values")
+	void shouldWriteTheSameJsonAsTheDocumentForConvertedAndNullValues() {
+
+		LocalDatesEntity localDatesEntity = new LocalDatesEntity();
+		localDatesEntity.setId("4711");
+		localDatesEntity.setDates(Arrays.asList(LocalDate.of(2020, 9, 15), LocalDate.of(2019, 5, 1)));
+
+		EntityWithListProperty listEntity = new EntityWithListProperty();
+		listEntity.setId("42");
+		listEntity.setValues(Arrays.asList(null, "two", null, "four"));
+
+		GeoPointListEntity geoPointListEntity = new GeoPointListEntity();
+		geoPointListEntity.setId("42");
+		geoPointListEntity.setLocations(Arrays.asList(new GeoPoint(12.34, 23.45), new GeoPoint(34.56, 45.67)));
+
+		EntityWithNullField nullFieldEntity = new EntityWithNullField();
+		nullFieldEntity.setId("42");
+
+		assertWritesSameJsonAsDocument(localDatesEntity);
+		assertWritesSameJsonAsDocument(listEntity);
+		assertWritesSameJsonAsDocument(geoPointListEntity);
+		assertWritesSameJsonAsDocument(nullFieldEntity);
+		assertWritesSameJsonAsDocument(shotGun);
+	}
+
+	private void assertWritesSameJsonAsDocument(Object entity) {
+
+		byte[] expected = mappingElasticsearchConverter.mapObject(entity).toJson().getBytes(StandardCharsets.UTF_8);
+
+		assertThat(mappingElasticsearchConverter.writeJson(entity)).isEqualTo(expected);
+	}
+
+	@Test
+	@DisplayName("should read the same entity from an unparsed source as from a parsed one")
+	void shouldReadTheSameEntityFromAnUnparsedSourceAsFromAParsedOne() {
+
+		Person person = new Person();
+		person.setFirstName("John");
+		person.setLastName("Doe");
+		person.birthDate = LocalDate.of(2000, 8, 22);
+		person.gender = Gender.MAN;
+		person.address = bigBunsCafe;
+		person.coWorkers = Arrays.asList(sarahConnor, kyleReese);
+		person.inventoryList = Arrays.asList(gun, grenade, rifle, shotGun);
+		person.shippingAddresses = new LinkedHashMap<>();
+		person.shippingAddresses.put("home", observatoryRoad);
+		person.inventoryMap = new LinkedHashMap<>();
+		person.inventoryMap.put("rifle", rifle);
+
+		String json = new String(mappingElasticsearchConverter.writeJson(person), StandardCharsets.UTF_8);
+		String jsonWithUnmappedFields = json.substring(0, json.length() - 1)
+				+ ",\"unmapped\":{\"list\":[1,{\"a\":\"b\"}]},\"unmappedText\":\"text\"}";
+
+		SearchDocument searchDocument = searchDocument("4711", jsonWithUnmappedFields);
+		Document document = Document.parse(json);
+		document.setId("4711");
+
+		Person read = mappingElasticsearchConverter.read(Person.class, searchDocument);
+
+		assertThat(((UnparsedSource) searchDocument).getUnparsedSource()).isNotNull();
+		assertThat(read.getId()).isEqualTo("4711");
+		assertThat(mappingElasticsearchConverter.writeJson(read))
+				.isEqualTo(mappingElasticsearchConverter.writeJson(mappingElasticsearchConverter.read(Person.class, document)));
+	}
+
+	@Test
+	@DisplayName("should read entity of the type hint from an unparsed source")
+	void shouldReadEntityOfTheTypeHintFromAnUnparsedSource() {
+
+		SearchDocument searchDocument = searchDocument("42",
+				"{\"_class\":\"rifle\",\"label\":\"AR-18 Assault Rifle\",\"weight\":3.17,\"maxShotsPerMagazine\":40}");
+
+		Inventory read = mappingElasticsearchConverter.read(Inventory.class, searchDocument);
+
+		assertThat(read).isEqualTo(rifle);
+	}
+
+	@Test
+	@DisplayName("should read a map from an unparsed source")
+	void shouldReadAMapFromAnUnparsedSource() {
+
+		SearchDocument searchDocument = searchDocument("42", "{\"label\":\"Glock 19\",\"shotsPerMagazine\":33}");
+
+		Map<String, Object> read = mappingElasticsearchConverter.read(Map.class, searchDocument);
+
+		assertThat(read).containsEntry("label", "Glock 19").containsEntry("shotsPerMagazine", 33);
+	}
+
+	private SearchDocument searchDocument(String id, String json) {
+
+		SearchHit searchHit = new SearchHit(1, id, new Text("_doc"), null, null);
+		searchHit.sourceRef(new BytesArray(json));
+		return DocumentAdapters.from(searchHit);
+	}
+
 	@Nested
 	class GeoJsonUnitTests {
 		private GeoJsonEntity entity;
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.core.convert.PersistentEntityPlan.WriteMode;
+import org.springframework.data.elasticsearch.core.convert.PersistentEntityPlan.WriteProperty;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentProperty;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.lang.Nullable;
+
+/**
+ * @since 4.2
+ */
+class PersistentEntityPlanUnitTests {
+
+	private final SimpleElasticsearchMappingContext mappingContext = new SimpleElasticsearchMappingContext();
+
+	@Test
+	@DisplayName("should not read constructor arguments after instantiation")
+	void shouldNotReadConstructorArgumentsAfterInstantiation() {
+
+		PersistentEntityPlan plan = createPlan();
+
+		assertThat(Arrays.stream(plan.getReadProperties()).map(ElasticsearchPersistentProperty::getName))
+				.doesNotContain("id").contains("text", "count", "date", "dateTime", "tags", "nested");
+	}
+
+	@Test
+	@DisplayName("should not write read only properties")
+	void shouldNotWriteReadOnlyProperties() {
+
+		PersistentEntityPlan plan = createPlan();
+
+		assertThat(Arrays.stream(plan.getWriteProperties()).map(WriteProperty::getFieldName)).contains("id", "text-field")
+				.doesNotContain("readOnly");
+	}
+
+	@Test
+	@DisplayName("should define the write mode from the property type")
+	void shouldDefineTheWriteModeFromThePropertyType() {
+
+		Map<String, WriteMode> writeModes = Arrays.stream(createPlan().getWriteProperties())
+				.collect(Collectors.toMap(it -> it.getProperty().getName(), WriteProperty::getWriteMode));
+
+		assertThat(writeModes).containsEntry("id", WriteMode.SIMPLE) //
+				.containsEntry("text", WriteMode.SIMPLE) //
+				.containsEntry("count", WriteMode.SIMPLE) //
+				.containsEntry("date", WriteMode.PROPERTY_CONVERTER) //
+				.containsEntry("dateTime", WriteMode.TEMPORAL) //
+				.containsEntry("tags", WriteMode.DEFAULT) //
+				.containsEntry("nested", WriteMode.DEFAULT);
+	}
+
+	private PersistentEntityPlan createPlan() {
+
+		ElasticsearchPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(PlannedEntity.class);
+		return new PersistentEntityPlan(entity, new ElasticsearchCustomConversions(Collections.emptyList()));
+	}
+
+	static class PlannedEntity {
+		@Id private final String id;
+		@Nullable @Field(name = "text-field") private String text;
+		private int count;
+		@Nullable @Field(type = FieldType.Date, format = DateFormat.basic_date) private LocalDate date;
+		@Nullable private LocalDateTime dateTime;
+		@Nullable private List<String> tags;
+		@Nullable private PlannedEntity nested;
+		@Nullable @ReadOnlyProperty private String readOnly;
+
+		PlannedEntity(String id) {
+			this.id = id;
+		}
+	}
+}
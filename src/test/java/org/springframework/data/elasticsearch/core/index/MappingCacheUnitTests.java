@@ -0,0 +1,109 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.index;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.skyscreamer.jsonassert.JSONAssert.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Properties;
+
+import org.json.JSONException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.core.MappingContextBaseTests;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.lang.Nullable;
+
+/**
+ * @since 4.2
+ */
+class MappingCacheUnitTests extends MappingContextBaseTests {
+
+	@Test
+	@DisplayName("should build the mapping of an entity only once")
+	void shouldBuildTheMappingOfAnEntityOnlyOnce() throws JSONException {
+
+		String mapping = elasticsearchConverter.get().getMappingCache().getMapping(CachedEntity.class);
+
+		assertEquals(getMappingBuilder().buildPropertyMapping(CachedEntity.class), mapping, true);
+		assertThat(elasticsearchConverter.get().getMappingCache().getMapping(CachedEntity.class)).isSameAs(mapping);
+	}
+
+	@Test
+	@DisplayName("should create the default settings of an entity only once")
+	void shouldCreateTheDefaultSettingsOfAnEntityOnlyOnce() throws JSONException {
+
+		String settings = elasticsearchConverter.get().getMappingCache().getSettings(CachedEntity.class);
+
+		assertEquals("{\"index.number_of_shards\":\"2\",\"index.number_of_replicas\":\"1\"}", settings, false);
+		assertThat(elasticsearchConverter.get().getMappingCache().getSettings(CachedEntity.class)).isSameAs(settings);
+	}
+
+	@Test
+	@DisplayName("should keep a separate cache for every converter")
+	void shouldKeepASeparateCacheForEveryConverter() {
+
+		ElasticsearchConverter otherConverter = new MappingElasticsearchConverter(new SimpleElasticsearchMappingContext());
+
+		String mapping = elasticsearchConverter.get().getMappingCache().getMapping(CachedEntity.class);
+
+		assertThat(otherConverter.getMappingCache()).isNotSameAs(elasticsearchConverter.get().getMappingCache());
+		assertThat(otherConverter.getMappingCache().getMapping(CachedEntity.class)).isNotSameAs(mapping)
+				.isEqualTo(mapping);
+	}
+
+	@Test
+	@DisplayName("should write the mappings with fingerprints")
+	void shouldWriteTheMappingsWithFingerprints() throws IOException, JSONException {
+
+		ElasticsearchConverter converter = elasticsearchConverter.get();
+		StringWriter writer = new StringWriter();
+
+		MappingCache.writeMappings(converter, Arrays.asList(CachedEntity.class, OtherEntity.class), writer);
+
+		Properties mappings = new Properties();
+		mappings.load(new StringReader(writer.toString()));
+		assertEquals(getMappingBuilder().buildPropertyMapping(CachedEntity.class),
+				mappings.getProperty(CachedEntity.class.getName() + ".mapping"), true);
+		assertThat(mappings.getProperty(CachedEntity.class.getName() + ".fingerprint"))
+				.isEqualTo(MappingCache.fingerprint(converter,
+						converter.getMappingContext().getRequiredPersistentEntity(CachedEntity.class)))
+				.isNotEqualTo(mappings.getProperty(OtherEntity.class.getName() + ".fingerprint"));
+	}
+
+	@Document(indexName = "cached", shards = 2)
+	static class CachedEntity {
+		@Nullable @Id private String id;
+		@Nullable @Field(type = FieldType.Text) private String text;
+		@Nullable private OtherEntity other;
+	}
+
+	@Document(indexName = "other")
+	static class OtherEntity {
+		@Nullable @Id private String id;
+		@Nullable @Field(type = FieldType.Keyword) private String text;
+	}
+}
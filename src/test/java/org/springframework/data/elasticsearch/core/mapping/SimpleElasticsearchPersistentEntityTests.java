@@ -17,6 +17,9 @@ package org.springframework.data.elasticsearch.core.mapping;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.annotation.Id;
@@ -145,6 +148,39 @@ public class SimpleElasticsearchPersistentEntityTests extends MappingContextBase
 		elasticsearchConverter.get().getMappingContext().getRequiredPersistentEntity(EntityWithIdNameFields.class);
 	}
 
+	@Test
+	@DisplayName("should resolve a SpEL index name on every call by default")
+	void shouldResolveASpElIndexNameOnEveryCallByDefault() {
+
+		SimpleElasticsearchMappingContext context = new SimpleElasticsearchMappingContext();
+		SimpleElasticsearchPersistentEntity<?> entity = context.getRequiredPersistentEntity(EntityWithSpelIndexName.class);
+
+		String first = entity.getIndexCoordinates().getIndexName();
+		String second = entity.getIndexCoordinates().getIndexName();
+
+		assertThat(first).startsWith("counted-");
+		assertThat(second).isNotEqualTo(first);
+	}
+
+	@Test
+	@DisplayName("should cache a SpEL index name until it is invalidated")
+	void shouldCacheASpElIndexNameUntilItIsInvalidated() {
+
+		SimpleElasticsearchMappingContext context = new SimpleElasticsearchMappingContext();
+		context.setIndexNameRefreshInterval(Duration.ofHours(1));
+		context.setCompileIndexNameExpressions(true);
+		SimpleElasticsearchPersistentEntity<?> entity = context.getRequiredPersistentEntity(EntityWithSpelIndexName.class);
+
+		IndexCoordinates first = entity.getIndexCoordinates();
+
+		assertThat(entity.getIndexCoordinates()).isSameAs(first);
+
+		context.invalidateIndexCoordinates();
+
+		assertThat(entity.getIndexCoordinates().getIndexName()).startsWith("counted-")
+				.isNotEqualTo(first.getIndexName());
+	}
+
 	private static SimpleElasticsearchPersistentProperty createProperty(SimpleElasticsearchPersistentEntity<?> entity,
 			String field) {
 
@@ -204,6 +240,20 @@ public class SimpleElasticsearchPersistentEntityTests extends MappingContextBase
 		private SeqNoPrimaryTerm seqNoPrimaryTerm2;
 	}
 
+	@Document(indexName = "counted-#{T(org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchPersistentEntityTests.IndexNameCounter).next()}")
+	private static class EntityWithSpelIndexName {
+		@Nullable @Id private String id;
+	}
+
+	public static class IndexNameCounter {
+
+		private static final AtomicInteger COUNTER = new AtomicInteger();
+
+		public static int next() {
+			return COUNTER.incrementAndGet();
+		}
+	}
+
 	@Document(indexName = "fieldnames")
 	private static class EntityWithIdNameFields {
 		@Id private String theRealId;
@@ -90,6 +90,25 @@ class DefaultRoutingResolverUnitTest {
 		assertThat(routing).isEqualTo("route 42");
 	}
 
+	@Test
+	@DisplayName("should return the routing of every entity from SpEL expression")
+	void shouldReturnTheRoutingOfEveryEntityFromSpElExpression() {
+
+		assertThat(routingResolver.getRouting(new ValidSpelRoutingEntity("1", "route 1"))).isEqualTo("route 1");
+		assertThat(routingResolver.getRouting(new ValidSpelRoutingEntity("2", "route 2"))).isEqualTo("route 2");
+	}
+
+	@Test
+	@DisplayName("should return the routing from SpEL property reference")
+	void shouldReturnTheRoutingFromSpElPropertyReference() {
+
+		PropertyReferenceRoutingEntity entity = new PropertyReferenceRoutingEntity("42", 66);
+
+		String routing = routingResolver.getRouting(entity);
+
+		assertThat(routing).isEqualTo("66");
+	}
+
 	@Document(indexName = "routing-resolver-test")
 	@Routing("theRouting")
 	static class ValidRoutingEntity {
@@ -180,6 +199,36 @@ class DefaultRoutingResolverUnitTest {
 		}
 	}
 
+	@Document(indexName = "routing-resolver-test")
+	@Routing("#entity.theRouting")
+	static class PropertyReferenceRoutingEntity {
+		@Nullable @Id private String id;
+		@Nullable private Integer theRouting;
+
+		public PropertyReferenceRoutingEntity(@Nullable String id, @Nullable Integer theRouting) {
+			this.id = id;
+			this.theRouting = theRouting;
+		}
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public Integer getTheRouting() {
+			return theRouting;
+		}
+
+		public void setTheRouting(@Nullable Integer theRouting) {
+			this.theRouting = theRouting;
+		}
+	}
+
 	static class SpelRouting {
 
 		@Nullable
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.SearchHitsImpl;
+import org.springframework.data.elasticsearch.core.TotalHitsRelation;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.lang.Nullable;
+
+/**
+ * @since 4.2
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ElasticsearchPartQueryUnitTests {
+
+	private static final IndexCoordinates INDEX = IndexCoordinates.of("persons");
+
+	@Mock private ElasticsearchOperations operations;
+	@Mock private IndexOperations indexOperations;
+
+	private ElasticsearchConverter converter;
+
+	@BeforeEach
+	void setUp() {
+
+		converter = new MappingElasticsearchConverter(new SimpleElasticsearchMappingContext());
+		when(operations.getElasticsearchConverter()).thenReturn(converter);
+		when(operations.getIndexCoordinatesFor(Person.class)).thenReturn(INDEX);
+		when(operations.indexOps(INDEX)).thenReturn(indexOperations);
+		when(operations.searchAll(any(Query.class), eq(Person.class), eq(INDEX)))
+				.thenReturn(new SearchHitsImpl<>(0, TotalHitsRelation.EQUAL_TO, 0, null, Collections.emptyList(), null));
+	}
+
+	@Test
+	@DisplayName("should search an unpaged collection query without counting the documents first")
+	void shouldSearchAnUnpagedCollectionQueryWithoutCountingTheDocumentsFirst() throws NoSuchMethodException {
+
+		Object result = queryForMethod("findByName", String.class).execute(new Object[] { "luke" });
+
+		assertThat(result).isEqualTo(Collections.emptyList());
+		verify(operations).searchAll(any(Query.class), eq(Person.class), eq(INDEX));
+		verify(operations, never()).count(any(Query.class), any(), any(IndexCoordinates.class));
+		verify(operations, never()).search(any(Query.class), any(), any(IndexCoordinates.class));
+	}
+
+	@Test
+	@DisplayName("should read the documents of a delete query without counting them first")
+	void shouldReadTheDocumentsOfADeleteQueryWithoutCountingThemFirst() throws NoSuchMethodException {
+
+		queryForMethod("deleteByName", String.class).execute(new Object[] { "luke" });
+
+		verify(operations).searchAll(any(Query.class), eq(Person.class), eq(INDEX));
+		verify(operations).delete(any(Query.class), eq(Person.class), eq(INDEX));
+		verify(operations, never()).count(any(Query.class), any(), any(IndexCoordinates.class));
+	}
+
+	private ElasticsearchPartQuery queryForMethod(String name, Class<?>... parameters) throws NoSuchMethodException {
+
+		Method method = PersonRepository.class.getMethod(name, parameters);
+		ElasticsearchQueryMethod queryMethod = new ElasticsearchQueryMethod(method,
+				new DefaultRepositoryMetadata(PersonRepository.class), new SpelAwareProxyProjectionFactory(),
+				converter.getMappingContext());
+		return new ElasticsearchPartQuery(queryMethod, operations);
+	}
+
+	private interface PersonRepository extends Repository<Person, String> {
+
+		List<Person> findByName(String name);
+
+		List<Person> deleteByName(String name);
+	}
+
+	@Document(indexName = "persons")
+	static class Person {
+		@Nullable @Id String id;
+		@Nullable String name;
+	}
+}
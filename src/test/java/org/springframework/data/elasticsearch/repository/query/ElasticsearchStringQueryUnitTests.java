@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -82,6 +83,16 @@ public class ElasticsearchStringQueryUnitTests {
 				.isEqualTo("name:(zero, eleven, one, two, three, four, five, six, seven, eight, nine, ten, eleven, zero, one)");
 	}
 
+	@Test
+	@DisplayName("should escape parameter values for JSON")
+	void shouldEscapeParameterValuesForJson() throws NoSuchMethodException {
+
+		org.springframework.data.elasticsearch.core.query.Query query = createQuery("findByName", "Luke \"?1\" \\ $1");
+
+		assertThat(((StringQuery) query).getSource())
+				.isEqualTo("{ 'bool' : { 'must' : { 'term' : { 'name' : 'Luke \\\"?1\\\" \\\\ $1' } } } }");
+	}
+
 	private org.springframework.data.elasticsearch.core.query.Query createQuery(String methodName, String... args)
 			throws NoSuchMethodException {
 
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @since 4.2
+ */
+class StringQueryTemplateUnitTests {
+
+	@Test
+	@DisplayName("should bind 20 parameters in reverse order")
+	void shouldBind20ParametersInReverseOrder() {
+
+		String query = IntStream.range(0, 20).map(i -> 19 - i)
+				.mapToObj(i -> "{ 'term' : { 'field" + i + "' : '?" + i + "' } }")
+				.collect(Collectors.joining(", ", "{ 'bool' : { 'must' : [", "] } }"));
+		String expected = IntStream.range(0, 20).map(i -> 19 - i)
+				.mapToObj(i -> "{ 'term' : { 'field" + i + "' : 'value-" + i + "' } }")
+				.collect(Collectors.joining(", ", "{ 'bool' : { 'must' : [", "] } }"));
+
+		StringQueryTemplate template = StringQueryTemplate.parse(query);
+
+		assertThat(template.bind(index -> "value-" + index)).isEqualTo(expected);
+	}
+
+	@Test
+	@DisplayName("should bind a query without parameters")
+	void shouldBindAQueryWithoutParameters() {
+
+		StringQueryTemplate template = StringQueryTemplate.parse("{ 'match_all' : {} }");
+
+		assertThat(template.bind(index -> {
+			throw new IllegalStateException("no parameters expected");
+		})).isEqualTo("{ 'match_all' : {} }");
+	}
+
+	@Test
+	@DisplayName("should escape control characters and write null values")
+	void shouldEscapeControlCharactersAndWriteNullValues() {
+
+		StringQueryTemplate template = StringQueryTemplate.parse("'?0'|?1");
+
+		assertThat(template.bind(index -> index == 0 ? "a\tb\nc\u0001" : null)).isEqualTo("'a\\tb\\nc\\u0001'|null");
+	}
+
+	@Test
+	@DisplayName("should insert the values of unquoted placeholders unchanged")
+	void shouldInsertTheValuesOfUnquotedPlaceholdersUnchanged() {
+
+		StringQueryTemplate template = StringQueryTemplate.parse("{ \"terms\" : { \"id\" : ?0 } }");
+
+		assertThat(template.bind(index -> "[\"a\",\"b\"]")).isEqualTo("{ \"terms\" : { \"id\" : [\"a\",\"b\"] } }");
+	}
+
+	@Test
+	@DisplayName("should insert a whole query for a placeholder that is the query")
+	void shouldInsertAWholeQueryForAPlaceholderThatIsTheQuery() {
+
+		StringQueryTemplate template = StringQueryTemplate.parse("?0");
+
+		assertThat(template.bind(index -> "{\"match_all\":{}}")).isEqualTo("{\"match_all\":{}}");
+	}
+
+	@Test
+	@DisplayName("should only escape the values of placeholders inside string literals")
+	void shouldOnlyEscapeTheValuesOfPlaceholdersInsideStringLiterals() {
+
+		StringQueryTemplate template = StringQueryTemplate
+				.parse("{ \"bool\" : { \"must\" : [ { \"term\" : { \"name\" : \"say \\\"?0\\\"\" } }, "
+						+ "{ \"terms\" : { \"id\" : ?1 } }, { \"term\" : { \"text\" : 'text ?2' } } ] } }");
+
+		assertThat(template.bind(index -> index == 1 ? "[\"a\"]" : "\"x\"")).isEqualTo(
+				"{ \"bool\" : { \"must\" : [ { \"term\" : { \"name\" : \"say \\\"\\\"x\\\"\\\"\" } }, "
+						+ "{ \"terms\" : { \"id\" : [\"a\"] } }, { \"term\" : { \"text\" : 'text \\\"x\\\"' } } ] } }");
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.support;
+
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+/**
+ * @since 4.2
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class IndexBootstrapperUnitTests {
+
+	@Mock private ElasticsearchOperations operations;
+	@Mock private IndexOperations firstIndexOperations;
+	@Mock private IndexOperations secondIndexOperations;
+	@Mock private IndexOperations allIndexOperations;
+
+	@BeforeEach
+	void setUp() {
+
+		when(operations.indexOps(FirstEntity.class)).thenReturn(firstIndexOperations);
+		when(operations.indexOps(SecondEntity.class)).thenReturn(secondIndexOperations);
+		when(operations.indexOps(any(IndexCoordinates.class))).thenReturn(allIndexOperations);
+		when(firstIndexOperations.getIndexCoordinates()).thenReturn(IndexCoordinates.of("first"));
+		when(secondIndexOperations.getIndexCoordinates()).thenReturn(IndexCoordinates.of("second"));
+	}
+
+	@Test
+	@DisplayName("should create the missing indices of all entities after the singletons are instantiated")
+	void shouldCreateTheMissingIndicesOfAllEntitiesAfterTheSingletonsAreInstantiated() {
+
+		when(allIndexOperations.exists()).thenReturn(false);
+		when(firstIndexOperations.exists()).thenReturn(true);
+		when(secondIndexOperations.exists()).thenReturn(false);
+		IndexBootstrapper bootstrapper = createBootstrapper(IndexBootstrapMode.CONCURRENT);
+
+		bootstrapper.register(FirstEntity.class);
+		bootstrapper.register(SecondEntity.class);
+
+		verify(operations, never()).indexOps(any(Class.class));
+
+		bootstrapper.afterSingletonsInstantiated();
+
+		verify(firstIndexOperations, never()).createWithMapping();
+		verify(secondIndexOperations).createWithMapping();
+	}
+
+	@Test
+	@DisplayName("should check the existence of all indices with one request")
+	void shouldCheckTheExistenceOfAllIndicesWithOneRequest() {
+
+		when(allIndexOperations.exists()).thenReturn(true);
+		IndexBootstrapper bootstrapper = createBootstrapper(IndexBootstrapMode.CONCURRENT);
+
+		bootstrapper.register(FirstEntity.class);
+		bootstrapper.register(SecondEntity.class);
+		bootstrapper.afterSingletonsInstantiated();
+		bootstrapper.ensureIndex(FirstEntity.class);
+
+		verify(allIndexOperations).exists();
+		verify(firstIndexOperations, never()).exists();
+		verify(secondIndexOperations, never()).exists();
+		verify(firstIndexOperations, never()).createWithMapping();
+		verify(secondIndexOperations, never()).createWithMapping();
+	}
+
+	@Test
+	@DisplayName("should bootstrap all indices when a repository is used before the singletons are instantiated")
+	void shouldBootstrapAllIndicesWhenARepositoryIsUsedBeforeTheSingletonsAreInstantiated() {
+
+		when(allIndexOperations.exists()).thenReturn(true);
+		IndexBootstrapper bootstrapper = createBootstrapper(IndexBootstrapMode.CONCURRENT);
+
+		bootstrapper.register(FirstEntity.class);
+		bootstrapper.register(SecondEntity.class);
+		bootstrapper.ensureIndex(SecondEntity.class);
+		bootstrapper.afterSingletonsInstantiated();
+
+		verify(allIndexOperations, times(1)).exists();
+	}
+
+	@Test
+	@DisplayName("should create an index in lazy mode on first use only")
+	void shouldCreateAnIndexInLazyModeOnFirstUseOnly() {
+
+		when(firstIndexOperations.exists()).thenReturn(false);
+		IndexBootstrapper bootstrapper = createBootstrapper(IndexBootstrapMode.LAZY);
+
+		bootstrapper.register(FirstEntity.class);
+		bootstrapper.register(SecondEntity.class);
+		bootstrapper.afterSingletonsInstantiated();
+
+		verify(operations, never()).indexOps(any(Class.class));
+
+		bootstrapper.ensureIndex(FirstEntity.class);
+		bootstrapper.ensureIndex(FirstEntity.class);
+
+		verify(firstIndexOperations, times(1)).createWithMapping();
+		verify(operations, never()).indexOps(SecondEntity.class);
+	}
+
+	private IndexBootstrapper createBootstrapper(IndexBootstrapMode mode) {
+
+		IndexBootstrapper bootstrapper = new IndexBootstrapper(operations, mode);
+		bootstrapper.setExecutor(Runnable::run);
+		return bootstrapper;
+	}
+
+	static class FirstEntity {}
+
+	static class SecondEntity {}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHitsImpl;
+import org.springframework.data.elasticsearch.core.TotalHitsRelation;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.lang.Nullable;
+
+/**
+ * @since 4.2
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SimpleElasticsearchRepositoryUnitTests {
+
+	private static final IndexCoordinates INDEX = IndexCoordinates.of("persons");
+
+	@Mock private ElasticsearchOperations operations;
+
+	private SimpleElasticsearchRepository<Person, String> repository;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+
+		ElasticsearchConverter converter = new MappingElasticsearchConverter(new SimpleElasticsearchMappingContext());
+		when(operations.getElasticsearchConverter()).thenReturn(converter);
+		when(operations.getIndexCoordinatesFor(Person.class)).thenReturn(INDEX);
+		when(operations.searchAll(any(Query.class), eq(Person.class), eq(INDEX)))
+				.thenReturn(new SearchHitsImpl<>(0, TotalHitsRelation.EQUAL_TO, 0, null, Collections.emptyList(), null));
+
+		ElasticsearchPersistentEntity<Person> entity = (ElasticsearchPersistentEntity<Person>) converter
+				.getMappingContext().getRequiredPersistentEntity(Person.class);
+		repository = new SimpleElasticsearchRepository<>(new MappingElasticsearchEntityInformation<>(entity), operations);
+	}
+
+	@Test
+	@DisplayName("findAll should search all documents without counting them first")
+	void findAllShouldSearchAllDocumentsWithoutCountingThemFirst() {
+
+		assertThat(repository.findAll()).isEmpty();
+
+		verify(operations).searchAll(any(Query.class), eq(Person.class), eq(INDEX));
+		verify(operations, never()).count(any(Query.class), any(), any(IndexCoordinates.class));
+		verify(operations, never()).search(any(Query.class), any(), any(IndexCoordinates.class));
+	}
+
+	@Test
+	@DisplayName("findAll with a sort should search all documents without counting them first")
+	void findAllWithASortShouldSearchAllDocumentsWithoutCountingThemFirst() {
+
+		assertThat(repository.findAll(Sort.by("id"))).isEmpty();
+
+		verify(operations).searchAll(any(Query.class), eq(Person.class), eq(INDEX));
+		verify(operations, never()).count(any(Query.class), any(), any(IndexCoordinates.class));
+		verify(operations, never()).search(any(Query.class), any(), any(IndexCoordinates.class));
+	}
+
+	@Document(indexName = "persons", createIndex = false)
+	static class Person {
+		@Nullable @Id String id;
+	}
+}